@@ -0,0 +1,64 @@
+package com.cu2mber.authservice.benchmark;
+
+import com.cu2mber.authservice.auth.audit.AuditEventType;
+import com.cu2mber.authservice.auth.audit.AuditLog;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감사 로그 요청 경로 비용 벤치마크
+ * <p>
+ * 요청 스레드가 부담하는 {@link AuditLog#record} 비용(링 버퍼 추가)을 측정합니다. 기록 스레드는 임시 디렉터리에 실제로 세그먼트를 씁니다.
+ * {@code enabled=false}는 감사 로그를 끈 상태의 기준값입니다.
+ * 측정이 끝나면 기록/버림 건수를 출력하여, 기록 속도를 넘는 부하에서 버려진 비율을 확인할 수 있습니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuditLogBenchmark {
+
+    @Param({"true", "false"})
+    private boolean enabled;
+
+    private Path directory;
+    private AuditLog auditLog;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("audit-bench");
+        auditLog = new AuditLog(enabled, directory.toString(), 65536, 64 * 1024 * 1024, 4, 1);
+        auditLog.start();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        auditLog.shutdown();
+        System.out.printf("%n[audit] published=%d written=%d dropped=%d%n",
+                auditLog.publishedCount(), auditLog.writtenCount(), auditLog.droppedCount());
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void record() {
+        auditLog.record(AuditEventType.REFRESH, 1L, 0x1234_5678_9abc_def0L);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void record_mt() {
+        auditLog.record(AuditEventType.REFRESH, 1L, 0x1234_5678_9abc_def0L);
+    }
+}
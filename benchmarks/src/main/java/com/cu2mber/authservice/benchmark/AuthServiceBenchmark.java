@@ -0,0 +1,76 @@
+package com.cu2mber.authservice.benchmark;
+
+import com.cu2mber.authservice.auth.dto.AccessToken;
+import com.cu2mber.authservice.auth.dto.TokenResponse;
+import com.cu2mber.authservice.auth.service.AuthService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AuthService} 토큰 발급/재발급 벤치마크
+ * <p>
+ * 내장 H2 DB로 전체 애플리케이션 컨텍스트를 기동한 뒤 서비스 빈을 직접 호출합니다.
+ * 발급은 {@code members}명의 사용자 중 임의로 골라 신규 저장과 갱신이 섞이도록 하고,
+ * 재발급은 미리 발급해 둔 리프레시 토큰을 사용합니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthServiceBenchmark {
+
+    @Param({"10000"})
+    public int members;
+
+    private ConfigurableApplicationContext context;
+    private AuthService authService;
+    private String[] refreshTokens;
+
+    @Setup
+    public void setUp() {
+        context = EmbeddedAuthService.start();
+        authService = context.getBean(AuthService.class);
+
+        refreshTokens = new String[members];
+        for (int i = 0; i < members; i++) {
+            refreshTokens[i] = authService.createTokens((long) i, "ROLE_USER", "bench").refreshToken();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TokenResponse createTokens() {
+        return authService.createTokens(randomMember(), "ROLE_USER", "bench");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public TokenResponse createTokens_mt() {
+        return authService.createTokens(randomMember(), "ROLE_USER", "bench");
+    }
+
+    @Benchmark
+    public AccessToken refreshAccessToken() {
+        return authService.refreshAccessToken(refreshTokens[(int) randomMember()]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public AccessToken refreshAccessToken_mt() {
+        return authService.refreshAccessToken(refreshTokens[(int) randomMember()]);
+    }
+
+    private long randomMember() {
+        return ThreadLocalRandom.current().nextInt(members);
+    }
+}
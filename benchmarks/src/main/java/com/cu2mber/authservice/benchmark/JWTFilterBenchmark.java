@@ -0,0 +1,105 @@
+package com.cu2mber.authservice.benchmark;
+
+import com.cu2mber.authservice.auth.util.AccessTokenRevocationList;
+import com.cu2mber.authservice.auth.util.JWTFilter;
+import com.cu2mber.authservice.auth.util.JWTUtil;
+import com.cu2mber.authservice.auth.util.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JWTFilter} 단일 요청 처리 비용 벤치마크
+ * <p>
+ * 서블릿 컨테이너 없이 Mock 요청/응답으로 필터만 호출합니다.
+ * {@code scenario}별로 유효 토큰, 헤더 없음, 만료 토큰, 위조 토큰 경로를 측정하며,
+ * GC 프로파일러({@code -prof gc})와 함께 실행하면 요청당 할당량({@code gc.alloc.rate.norm})을 확인할 수 있습니다.
+ * </p>
+ * <p>
+ * {@code implementation=legacy}는 초기 버전 필터({@link LegacyJWTFilter})로,
+ * 같은 시나리오에서 {@code current}와 요청당 할당 바이트를 비교하는 기준값입니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JWTFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @State(Scope.Benchmark)
+    public static class FilterState {
+
+        @Param({"valid", "noHeader", "expired", "invalid"})
+        public String scenario;
+
+        @Param({"current", "legacy"})
+        public String implementation;
+
+        OncePerRequestFilter filter;
+        String authorization;
+
+        @Setup
+        public void setUp() {
+            JWTUtil jwtUtil = new JWTUtil(EmbeddedAuthService.SECRET);
+            filter = "legacy".equals(implementation)
+                    ? new LegacyJWTFilter(jwtUtil)
+                    : new JWTFilter(new VerifiedTokenCache(jwtUtil, 10_000),
+                    new AccessTokenRevocationList(300000L, 65536), new SimpleMeterRegistry());
+
+            authorization = switch (scenario) {
+                case "valid" -> "Bearer " + jwtUtil.createToken("access", 1L, "ROLE_USER", 1800000L);
+                case "expired" -> "Bearer " + jwtUtil.createToken("access", 1L, "ROLE_USER", -1000L);
+                case "invalid" -> "Bearer " + jwtUtil.createToken("access", 1L, "ROLE_USER", 1800000L) + "x";
+                default -> null;
+            };
+        }
+    }
+
+    /**
+     * 스레드별로 요청 객체를 재사용하여 Mock 객체 생성 비용이 측정값에 섞이지 않도록 합니다.
+     */
+    @State(Scope.Thread)
+    public static class RequestState {
+
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+
+        @Setup
+        public void setUp(FilterState filterState) {
+            request = new MockHttpServletRequest("GET", "/api/members/me");
+            if (filterState.authorization != null) {
+                request.addHeader("Authorization", filterState.authorization);
+            }
+            response = new MockHttpServletResponse();
+        }
+
+        @TearDown(Level.Invocation)
+        public void reset() {
+            response.reset();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilter(FilterState filterState, RequestState requestState) throws Exception {
+        filterState.filter.doFilter(requestState.request, requestState.response, NO_OP_CHAIN);
+        return requestState.response;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public MockHttpServletResponse doFilter_mt(FilterState filterState, RequestState requestState) throws Exception {
+        filterState.filter.doFilter(requestState.request, requestState.response, NO_OP_CHAIN);
+        return requestState.response;
+    }
+}
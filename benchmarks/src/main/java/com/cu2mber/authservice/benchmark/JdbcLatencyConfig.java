@@ -0,0 +1,66 @@
+package com.cu2mber.authservice.benchmark;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * 내장 H2에 RDS 왕복 지연을 흉내 내는 설정
+ * <p>
+ * {@code benchmark.db-latency-ms}가 지정되면 DataSource를 감싸 SQL 실행마다 지정한 시간만큼 대기합니다.
+ * 인메모리 H2는 네트워크 왕복이 없어 스레드가 블로킹되지 않으므로,
+ * 스레드 모델 비교처럼 블로킹 시간이 결과를 좌우하는 부하 테스트에서만 사용합니다.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "benchmark.db-latency-ms")
+public class JdbcLatencyConfig {
+
+    private static final Set<String> EXECUTE_METHODS =
+            Set.of("execute", "executeQuery", "executeUpdate", "executeBatch", "executeLargeUpdate");
+
+    @Bean
+    public static BeanPostProcessor jdbcLatencyPostProcessor(@Value("${benchmark.db-latency-ms}") long latencyMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return proxy(DataSource.class, dataSource, latencyMs);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, long latencyMs) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+            if (EXECUTE_METHODS.contains(method.getName())) {
+                Thread.sleep(latencyMs);
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+            // 커넥션에서 만들어지는 Statement 계열도 감싸서 실행 시점에 지연을 적용
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, connection, latencyMs);
+            }
+            if (result instanceof Statement statement && method.getReturnType().isInterface()) {
+                return proxy((Class<Statement>) method.getReturnType(), statement, latencyMs);
+            }
+            return result;
+        });
+    }
+}
@@ -0,0 +1,100 @@
+package com.cu2mber.authservice.benchmark;
+
+import com.cu2mber.authservice.auth.util.JWTUtil;
+import com.cu2mber.authservice.auth.util.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 경로 벤치마크
+ * <ul>
+ * <li>{@code createToken}: 토큰 발급 ({@link com.cu2mber.authservice.auth.util.Hs256TokenSigner} 전용 서명기)</li>
+ * <li>{@code createToken_jjwt}: 이전 발급 경로 ({@code Jwts.builder()}, 클레임 맵 + 리플렉션 JSON 직렬화 + 토큰마다 Mac 생성)</li>
+ * <li>{@code getPayload}: 캐시 없이 서명 검증 + JSON 파싱</li>
+ * <li>{@code cachedPayload}: {@link VerifiedTokenCache}를 거친 반복 토큰 검증</li>
+ * </ul>
+ * 각 항목은 단일 스레드와 다중 스레드({@code _mt}) 두 가지로 측정합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JWTUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private SecretKey secretKey;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JWTUtil(EmbeddedAuthService.SECRET);
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, 10_000);
+        secretKey = new SecretKeySpec(EmbeddedAuthService.SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        accessToken = jwtUtil.createToken("access", 1L, "ROLE_USER", 1800000L);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken("access", 1L, "ROLE_USER", 1800000L);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String createToken_mt() {
+        return jwtUtil.createToken("access", 1L, "ROLE_USER", 1800000L);
+    }
+
+    @Benchmark
+    public String createToken_jjwt() {
+        return jjwtCreateToken();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String createToken_jjwt_mt() {
+        return jjwtCreateToken();
+    }
+
+    @Benchmark
+    public Claims getPayload() {
+        return jwtUtil.getPayload(accessToken);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Claims getPayload_mt() {
+        return jwtUtil.getPayload(accessToken);
+    }
+
+    @Benchmark
+    public Claims cachedPayload() {
+        return verifiedTokenCache.getPayload(accessToken);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Claims cachedPayload_mt() {
+        return verifiedTokenCache.getPayload(accessToken);
+    }
+
+    private String jjwtCreateToken() {
+        return Jwts.builder()
+                .claim("category", "access")
+                .claim("memberNo", 1L)
+                .claim("role", "ROLE_USER")
+                .issuedAt(new Date(System.currentTimeMillis()))
+                .expiration(new Date(System.currentTimeMillis() + 1800000L))
+                .signWith(secretKey)
+                .compact();
+    }
+}
@@ -0,0 +1,72 @@
+package com.cu2mber.authservice.benchmark;
+
+import com.cu2mber.authservice.auth.util.JWTUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 비교 기준용으로 보존한 초기 버전의 JWT 인증 필터
+ * <p>
+ * 요청마다 토큰을 다시 검증하고, {@code split}으로 토큰을 추출하며,
+ * 권한 목록과 오류 응답 본문을 매번 새로 만듭니다. {@link JWTFilterBenchmark}에서 요청당 할당량 비교에만 사용합니다.
+ * </p>
+ */
+class LegacyJWTFilter extends OncePerRequestFilter {
+
+    private final JWTUtil jwtUtil;
+
+    LegacyJWTFilter(JWTUtil jwtUtil) {
+        this.jwtUtil = jwtUtil;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String authorization = request.getHeader("Authorization");
+
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String token = authorization.split(" ")[1];
+
+        try {
+            Claims claims = jwtUtil.getPayload(token);
+
+            Long memberNo = claims.get("memberNo", Long.class);
+            String role = claims.get("role", String.class);
+
+            UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(memberNo, null, List.of(new SimpleGrantedAuthority(role)));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+
+        } catch (ExpiredJwtException e) {
+            setResponse(response, "AccessToken has expired", HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        } catch (Exception e) {
+            setResponse(response, "Invalid Token", HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void setResponse(HttpServletResponse response, String message, int status) throws IOException {
+        response.setContentType("application/json;charset=UTF-8");
+        response.setStatus(status);
+        response.getWriter().println("{\"message\" : \"" + message + "\"}");
+    }
+}
@@ -0,0 +1,161 @@
+package com.cu2mber.authservice.benchmark;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시간 벤치마크: 프로세스 시작부터 첫 {@code POST /auth/issue} 성공(200)까지의 시간
+ * <p>
+ * 스케일 아웃 시 신규 파드가 트래픽을 받기까지의 시간을 재기 위해, 모드마다 JVM을 새로 띄워 {@code startup.runs}회 측정합니다.
+ * 기본값으로 모든 모드는 {@code startup-local} 프로파일(내장 H2)로 기동하므로 외부 DB 없이 반복 실행할 수 있습니다.
+ * 이때 본체는 H2를 포함하도록 {@code -Pfast-start,local-h2}로 빌드합니다.
+ * 배포 DB로 재려면 {@code startup.profiles}에 MariaDB 접속 설정을 담은 프로파일을 지정합니다.
+ * </p>
+ * <ul>
+ * <li>baseline: 기존 실행 jar ({@code java -jar target/auth-service-*.jar})</li>
+ * <li>aot: 풀어 둔 jar + Spring AOT + 지연 초기화 ({@code fast-start} 프로파일)</li>
+ * <li>aot-cds: aot + 학습 실행으로 만든 CDS 아카이브</li>
+ * </ul>
+ * 먼저 본체를 {@code ./mvnw -Pfast-start package}로 빌드해야 합니다. JMH 벤치마크가 아니므로 {@code exec:exec@startup}으로 실행합니다.
+ */
+public final class StartupBenchmark {
+
+    private static final String ISSUE_BODY = "{\"memberNo\":1,\"role\":\"ROLE_USER\",\"sessionId\":\"startup\"}";
+    private static final long POLL_INTERVAL_MS = 5;
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path targetDir = Path.of(System.getProperty("startup.target-dir", "../target")).toAbsolutePath();
+        String jarName = System.getProperty("startup.jar-name", "auth-service-0.0.1-SNAPSHOT.jar");
+        int runs = Integer.getInteger("startup.runs", 10);
+        long timeoutMs = Long.getLong("startup.timeout-ms", 120_000L);
+        List<String> modes = Arrays.asList(System.getProperty("startup.modes", "baseline,aot,aot-cds").split(","));
+        String profiles = System.getProperty("startup.profiles", "startup-local");
+        Path result = Path.of(System.getProperty("startup.result", "target/startup-result.csv"));
+        Path logDir = result.resolveSibling("startup-logs");
+        Files.createDirectories(logDir);
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(200))
+                .build();
+
+        try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(result))) {
+            csv.println("mode,run,time_to_first_issue_ms");
+            for (String mode : modes) {
+                long[] samples = new long[runs];
+                for (int run = 0; run < runs; run++) {
+                    int port = freePort();
+                    List<String> command = command(mode, targetDir, jarName, profiles, port);
+                    Path log = logDir.resolve(mode + "-" + run + ".log");
+                    samples[run] = measure(command, workingDir(mode, targetDir), log, httpClient, port, timeoutMs);
+                    csv.println(mode + "," + run + "," + samples[run]);
+                    csv.flush();
+                }
+                report(mode, samples);
+            }
+        }
+        System.out.println("결과: " + result.toAbsolutePath());
+    }
+
+    private static List<String> command(String mode, Path targetDir, String jarName, String profiles, int port) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Dserver.port=" + port);
+        switch (mode) {
+            case "baseline" -> {
+                command.add("-Dspring.profiles.active=" + profiles);
+                command.add("-jar");
+                command.add(targetDir.resolve(jarName).toString());
+            }
+            case "aot", "aot-cds" -> {
+                // 학습 실행과 같은 클래스 경로(풀어 둔 디렉터리 기준 상대 경로)로 실행해야 CDS 아카이브가 사용됨
+                if ("aot-cds".equals(mode)) {
+                    command.add("-XX:SharedArchiveFile=auth-service.jsa");
+                }
+                command.add("-Dspring.aot.enabled=true");
+                command.add("-Dspring.profiles.active=fast-start," + profiles);
+                command.add("-jar");
+                command.add(jarName);
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 모드: " + mode);
+        }
+        return command;
+    }
+
+    private static Path workingDir(String mode, Path targetDir) {
+        return "baseline".equals(mode) ? targetDir : targetDir.resolve("fast-start");
+    }
+
+    /**
+     * 프로세스를 띄우고 첫 발급 요청이 성공할 때까지 요청을 반복합니다.
+     *
+     * @return 프로세스 시작부터 첫 성공 응답까지의 시간 (밀리초)
+     */
+    private static long measure(List<String> command, Path workingDir, Path log, HttpClient httpClient,
+                                int port, long timeoutMs) throws IOException, InterruptedException {
+        HttpRequest issue = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/issue"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(5))
+                .POST(HttpRequest.BodyPublishers.ofString(ISSUE_BODY))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(workingDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("서버가 기동 중 종료되었습니다. 로그: " + log.toAbsolutePath());
+                }
+                try {
+                    if (httpClient.send(issue, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (ConnectException e) {
+                    // 아직 포트가 열리지 않음
+                }
+                Thread.sleep(POLL_INTERVAL_MS);
+            }
+            throw new IllegalStateException(timeoutMs + "ms 안에 발급 요청이 성공하지 않았습니다. 로그: " + log.toAbsolutePath());
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static void report(String mode, long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-10s runs=%d min=%dms median=%dms p90=%dms max=%dms%n", mode, sorted.length,
+                sorted[0], sorted[sorted.length / 2], sorted[(int) Math.ceil(sorted.length * 0.9) - 1],
+                sorted[sorted.length - 1]);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
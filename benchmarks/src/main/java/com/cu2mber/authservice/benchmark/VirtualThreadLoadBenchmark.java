@@ -0,0 +1,187 @@
+package com.cu2mber.authservice.benchmark;
+
+import com.cu2mber.authservice.auth.service.AuthService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드와 가상 스레드 실행 모드의 HTTP 부하 비교
+ * <p>
+ * 실제 포트로 서버를 띄우고, 블로킹 DB 호출이 있는 {@code /auth/refresh} 요청과
+ * DB를 거치지 않는 인증 요청({@code JWTFilter}만 통과)을 동시에 보냅니다.
+ * {@code benchmark.db-latency-ms}로 RDS 왕복 지연을 흉내 내며, 커넥션 풀 크기는 두 모드 모두 동일합니다.
+ * </p>
+ * <ul>
+ * <li>platform: Tomcat 기본 스레드 풀(200). 재발급 요청이 커넥션을 기다리며 스레드를 모두 점유하면 인증 요청도 함께 밀립니다.</li>
+ * <li>virtual: {@code virtual-threads} 프로파일. 가상 스레드 + 동시 처리 제한({@code auth.concurrency.max-in-flight}, {@code /auth/*}에만 적용).
+ * 재발급 요청은 허가와 커넥션을 기다리며 쌓이지만 인증 요청은 별도 가상 스레드로 처리되어 밀리지 않습니다.
+ * 제한을 넘어 대기 시간 안에 허가를 얻지 못한 요청만 503으로 거절됩니다.</li>
+ * </ul>
+ * <p>
+ * JMH의 그룹 처리량({@code refresh})은 응답 상태와 무관하게 완료된 요청을 모두 세므로, 빠르게 거절된 503 응답도 포함됩니다.
+ * 재발급 성능은 {@link RefreshCounters}가 따로 집계하는 {@code mixed:refreshSucceeded}(2xx 처리량)로 비교하고,
+ * {@code mixed:refreshRejected}(503)와 {@code mixed:refreshFailed}(그 밖의 상태)는 거절/오류 비율을 확인하는 데 사용합니다.
+ * 인증 요청도 같은 방식으로 {@code mixed:authenticatedSucceeded}를 비교합니다.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Group)
+public class VirtualThreadLoadBenchmark {
+
+    private static final int MEMBERS = 1_000;
+
+    @Param({"platform", "virtual"})
+    public String threadMode;
+
+    @Param({"20"})
+    public long dbLatencyMs;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private String[] refreshTokens;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        // virtual 모드는 배포용 virtual-threads 프로파일 설정(동시 처리 제한 포함)을 그대로 사용
+        boolean virtual = "virtual".equals(threadMode);
+        context = EmbeddedAuthService.start(virtual
+                ? Map.of(
+                        "spring.profiles.active", "benchmark,virtual-threads",
+                        "spring.datasource.hikari.maximum-pool-size", "10",
+                        "benchmark.db-latency-ms", String.valueOf(dbLatencyMs))
+                : Map.of(
+                        "spring.datasource.hikari.maximum-pool-size", "10",
+                        "auth.concurrency.max-in-flight", "0",
+                        "benchmark.db-latency-ms", String.valueOf(dbLatencyMs)));
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port;
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        AuthService authService = context.getBean(AuthService.class);
+        refreshTokens = new String[MEMBERS];
+        for (int i = 0; i < MEMBERS; i++) {
+            refreshTokens[i] = authService.createTokens((long) i, "ROLE_USER", "bench").refreshToken();
+        }
+        accessToken = authService.createTokens((long) MEMBERS, "ROLE_USER", "bench").accessToken();
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(256)
+    public int refresh(RefreshCounters counters) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/refresh"))
+                .header("Refresh-Token", refreshTokens[ThreadLocalRandom.current().nextInt(MEMBERS)])
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        counters.count(status);
+        return status;
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(16)
+    public int authenticated(AuthenticatedCounters counters) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/members/me"))
+                .header("Authorization", "Bearer " + accessToken)
+                .GET()
+                .build();
+        int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        counters.count(status);
+        return status;
+    }
+
+    /**
+     * 재발급 요청의 응답 상태별 처리량 (스레드별로 집계되고 JMH가 합산)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RefreshCounters {
+
+        /** 2xx */
+        public long refreshSucceeded;
+        /** 503 (동시 처리 제한 초과) */
+        public long refreshRejected;
+        /** 그 밖의 상태 */
+        public long refreshFailed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            refreshSucceeded = 0;
+            refreshRejected = 0;
+            refreshFailed = 0;
+        }
+
+        void count(int status) {
+            if (status >= 200 && status < 300) {
+                refreshSucceeded++;
+            } else if (status == 503) {
+                refreshRejected++;
+            } else {
+                refreshFailed++;
+            }
+        }
+    }
+
+    /**
+     * 인증 요청의 응답 상태별 처리량
+     * <p>{@code /api/members/me}는 이 서비스에 컨트롤러가 없으므로 인증 필터를 통과한 뒤 오류 응답(404, 또는 오류 페이지 재전달 시 403)을 받습니다.
+     * 토큰 거절(401)과 503이 아니면 필터를 통과한 것으로 보고 성공으로 셉니다.</p>
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class AuthenticatedCounters {
+
+        /** 인증 필터 통과 (401, 5xx 이외) */
+        public long authenticatedSucceeded;
+        /** 503 (동시 처리 제한 초과) */
+        public long authenticatedRejected;
+        /** 401 및 그 밖의 5xx */
+        public long authenticatedFailed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            authenticatedSucceeded = 0;
+            authenticatedRejected = 0;
+            authenticatedFailed = 0;
+        }
+
+        void count(int status) {
+            if (status == 503) {
+                authenticatedRejected++;
+            } else if (status == 401 || status >= 500) {
+                authenticatedFailed++;
+            } else {
+                authenticatedSucceeded++;
+            }
+        }
+    }
+}
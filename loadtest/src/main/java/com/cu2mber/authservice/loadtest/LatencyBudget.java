@@ -0,0 +1,50 @@
+package com.cu2mber.authservice.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 종류별 지연 시간 예산 (밀리초)
+ *
+ * @param p50Ms  중앙값 상한
+ * @param p99Ms  99 백분위 상한
+ * @param p999Ms 99.9 백분위 상한
+ */
+public record LatencyBudget(double p50Ms, double p99Ms, double p999Ms) {
+
+    /**
+     * 항목 하나를 바꾼 예산을 반환합니다.
+     *
+     * @param name p50-ms, p99-ms, p999-ms 중 하나
+     */
+    public LatencyBudget with(String name, double millis) {
+        return switch (name) {
+            case "p50-ms" -> new LatencyBudget(millis, p99Ms, p999Ms);
+            case "p99-ms" -> new LatencyBudget(p50Ms, millis, p999Ms);
+            case "p999-ms" -> new LatencyBudget(p50Ms, p99Ms, millis);
+            default -> throw new IllegalArgumentException("알 수 없는 예산 항목: " + name);
+        };
+    }
+
+    /**
+     * 마이크로초 단위로 기록된 히스토그램을 예산과 비교합니다.
+     *
+     * @return 초과 내역, 모두 예산 안이면 빈 목록
+     */
+    public List<String> check(Operation operation, Histogram histogram) {
+        List<String> violations = new ArrayList<>();
+        check(violations, operation, "p50", histogram.getValueAtPercentile(50.0), p50Ms);
+        check(violations, operation, "p99", histogram.getValueAtPercentile(99.0), p99Ms);
+        check(violations, operation, "p999", histogram.getValueAtPercentile(99.9), p999Ms);
+        return violations;
+    }
+
+    private static void check(List<String> violations, Operation operation, String name, long micros, double budgetMs) {
+        double millis = micros / 1000.0;
+        if (millis > budgetMs) {
+            violations.add(String.format("%s %s %.2fms > 예산 %.2fms", operation.key(), name, millis, budgetMs));
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.cu2mber.authservice.loadtest;
+
+import com.cu2mber.authservice.auth.dto.AccessToken;
+import com.cu2mber.authservice.auth.dto.TokenResponse;
+import com.cu2mber.authservice.auth.service.AuthService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * /auth API 부하 테스트
+ * <p>
+ * 서비스를 같은 JVM에서 내장 H2로 기동하고, 실제 포트로 발급/재발급/로그아웃/인증 요청을 설정한 비율로 섞어 보냅니다.
+ * 요청 종류별 지연 시간을 HdrHistogram(마이크로초)으로 기록해 처리량과 p50/p99/p999를 보고하고,
+ * 지연 시간 예산이나 허용 오류율을 넘으면 종료 코드 1로 끝나 빌드를 실패시킵니다.
+ * </p>
+ * <p>
+ * 로그아웃된 세션에 배정된 요청은 요청 종류와 관계없이 발급(재로그인)으로 처리되므로, 실제 발급 비율은 설정보다 조금 높아집니다.
+ * </p>
+ */
+public final class LoadTest {
+
+    private static final String ROLE = "ROLE_USER";
+    private static final String SESSION_ID = "loadtest";
+
+    private final LoadTestSettings settings;
+    private final SessionPool sessions;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    private long measureStartNanos;
+    private long endNanos;
+
+    private LoadTest(LoadTestSettings settings, int port) {
+        this.settings = settings;
+        this.sessions = new SessionPool(settings.members());
+        this.baseUrl = "http://localhost:" + port;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        if (settings.members() <= settings.concurrency() * 2) {
+            throw new IllegalArgumentException("loadtest.members는 loadtest.concurrency의 2배보다 커야 합니다.");
+        }
+
+        int exitCode;
+        try (ConfigurableApplicationContext context = LoadTestServer.start(settings.appProperties())) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTest loadTest = new LoadTest(settings, port);
+            loadTest.seed(context.getBean(AuthService.class));
+            loadTest.run();
+            exitCode = loadTest.report() ? 0 : 1;
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * 모든 사용자의 세션을 미리 만들어 둡니다. (HTTP를 거치지 않고 서비스 빈을 직접 호출)
+     */
+    private void seed(AuthService authService) {
+        for (int slot = 0; slot < sessions.size(); slot++) {
+            TokenResponse tokens = authService.createTokens(SessionPool.memberNo(slot), ROLE, SESSION_ID);
+            sessions.set(slot, new SessionPool.Session(tokens.accessToken(), tokens.refreshToken()));
+        }
+    }
+
+    private void run() throws InterruptedException {
+        long start = System.nanoTime();
+        measureStartNanos = start + TimeUnit.SECONDS.toNanos(settings.warmupSeconds());
+        endNanos = measureStartNanos + TimeUnit.SECONDS.toNanos(settings.durationSeconds());
+
+        System.out.printf("부하 테스트 시작: model=%s concurrency=%d rate=%.0f/s warmup=%ds duration=%ds mix=%s%n",
+                settings.model(), settings.concurrency(), settings.rate(), settings.warmupSeconds(),
+                settings.durationSeconds(), settings.mix());
+
+        switch (settings.model()) {
+            case CLOSED -> runClosed();
+            case OPEN -> runOpen(start);
+        }
+        httpClient.close();
+    }
+
+    /**
+     * 동시 사용자 수만큼의 가상 스레드가 응답을 받는 즉시 다음 요청을 보냅니다.
+     */
+    private void runClosed() {
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.concurrency(); i++) {
+                users.submit(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) < endNanos) {
+                        execute(settings.pick(ThreadLocalRandom.current()), now);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * 정해진 간격으로 요청을 도착시킵니다. 동시 요청 수가 상한에 닿으면 요청은 대기하며, 대기 시간도 지연 시간에 포함됩니다.
+     */
+    private void runOpen(long start) {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / settings.rate());
+        Semaphore inFlight = new Semaphore(settings.concurrency());
+        try (ExecutorService arrivals = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long scheduledNanos = start + i * intervalNanos;
+                if (scheduledNanos >= endNanos) {
+                    break;
+                }
+                long waitNanos = scheduledNanos - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+                Operation operation = settings.pick(ThreadLocalRandom.current());
+                arrivals.submit(() -> {
+                    inFlight.acquireUninterruptibly();
+                    try {
+                        execute(operation, scheduledNanos);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * 요청 하나를 보내고 지연 시간과 성공 여부를 기록합니다.
+     *
+     * @param startNanos 지연 시간 측정 시작 시각 (open 모델에서는 예정된 도착 시각)
+     */
+    private void execute(Operation requested, long startNanos) {
+        int slot = sessions.acquire();
+        Operation operation = requested;
+        boolean success;
+        try {
+            SessionPool.Session session = sessions.get(slot);
+            if (session == null) {
+                operation = Operation.ISSUE;
+            }
+            success = switch (operation) {
+                case ISSUE -> issue(slot);
+                case REFRESH -> refresh(slot, session);
+                case LOGOUT -> logout(slot, session);
+                case AUTHENTICATED -> authenticated(session);
+            };
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } finally {
+            sessions.release(slot);
+        }
+
+        if (startNanos < measureStartNanos) {
+            return;
+        }
+        latencies.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    private boolean issue(int slot) throws IOException, InterruptedException {
+        String body = "{\"memberNo\":" + SessionPool.memberNo(slot) + ",\"role\":\"" + ROLE
+                + "\",\"sessionId\":\"" + SESSION_ID + "\"}";
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/auth/issue"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+        if (response.statusCode() != 200) {
+            return false;
+        }
+        TokenResponse tokens = objectMapper.readValue(response.body(), TokenResponse.class);
+        sessions.set(slot, new SessionPool.Session(tokens.accessToken(), tokens.refreshToken()));
+        return true;
+    }
+
+    private boolean refresh(int slot, SessionPool.Session session) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/auth/refresh"))
+                .header("Refresh-Token", session.refreshToken())
+                .POST(HttpRequest.BodyPublishers.noBody()));
+        if (response.statusCode() != 200) {
+            return false;
+        }
+        AccessToken accessToken = objectMapper.readValue(response.body(), AccessToken.class);
+        sessions.set(slot, new SessionPool.Session(accessToken.accessToken(), session.refreshToken()));
+        return true;
+    }
+
+    private boolean logout(int slot, SessionPool.Session session) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/auth/logout"))
+                .header("Refresh-Token", session.refreshToken())
+                .POST(HttpRequest.BodyPublishers.noBody()));
+        if (response.statusCode() != 200) {
+            return false;
+        }
+        sessions.set(slot, null);
+        return true;
+    }
+
+    /**
+     * 존재하지 않는 보호 경로를 호출합니다.
+     * <p>인증을 통과하면 404가 오류 페이지(/error)로 재전달되며, 이 경로는 공개 경로가 아니므로 최종 응답은 403입니다.
+     * 인증 실패는 {@code JWTFilter}가 401로 바로 응답하므로 401과 5xx만 실패로 봅니다.</p>
+     */
+    private boolean authenticated(SessionPool.Session session) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/members/me"))
+                .header("Authorization", "Bearer " + session.accessToken())
+                .GET());
+        int status = response.statusCode();
+        return status != 401 && status < 500;
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.timeout(Duration.ofSeconds(10)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    /**
+     * 결과를 출력하고 파일로 남긴 뒤 예산과 비교합니다.
+     *
+     * @return 모든 예산을 지켰으면 true
+     */
+    private boolean report() throws IOException {
+        Path reportDir = settings.reportDir();
+        Files.createDirectories(reportDir);
+
+        double seconds = settings.durationSeconds();
+        List<String> violations = new ArrayList<>();
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("model=%s concurrency=%d rate=%.0f/s duration=%ds", settings.model(),
+                settings.concurrency(), settings.rate(), settings.durationSeconds()));
+        lines.add(String.format("%-14s %10s %8s %12s %10s %10s %10s %10s", "operation", "count", "errors",
+                "throughput/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation);
+            long count = histogram.getTotalCount();
+            if (count == 0) {
+                continue;
+            }
+            long errorCount = errors.get(operation).sum();
+            total.add(histogram);
+            totalErrors += errorCount;
+            lines.add(line(operation.key(), histogram, errorCount, seconds));
+            violations.addAll(settings.budgets().get(operation).check(operation, histogram));
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(reportDir.resolve(operation.key() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        lines.add(line("total", total, totalErrors, seconds));
+
+        long totalCount = total.getTotalCount();
+        if (totalCount == 0) {
+            violations.add("집계된 요청이 없습니다.");
+        } else if ((double) totalErrors / totalCount > settings.maxErrorRate()) {
+            violations.add(String.format("오류율 %.4f > 허용 %.4f", (double) totalErrors / totalCount, settings.maxErrorRate()));
+        }
+
+        lines.add(violations.isEmpty() ? "결과: 모든 예산 충족" : "결과: 예산 초과");
+        violations.forEach(violation -> lines.add("  - " + violation));
+
+        lines.forEach(System.out::println);
+        Files.write(reportDir.resolve("report.txt"), lines);
+        return violations.isEmpty();
+    }
+
+    private static String line(String name, Histogram histogram, long errorCount, double seconds) {
+        return String.format("%-14s %10d %8d %12.1f %10.2f %10.2f %10.2f %10.2f", name, histogram.getTotalCount(),
+                errorCount, histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50.0) / 1000.0, histogram.getValueAtPercentile(99.0) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0, histogram.getMaxValue() / 1000.0);
+    }
+}
@@ -0,0 +1,56 @@
+package com.cu2mber.authservice.loadtest;
+
+import com.cu2mber.authservice.AuthServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트용으로 auth-service를 같은 JVM에서 내장 H2 DB와 함께 기동하는 헬퍼
+ * <p>RDS(MariaDB) 대신 MariaDB 호환 모드의 인메모리 H2를 사용하므로 네트워크 왕복 비용은 포함되지 않습니다.</p>
+ */
+final class LoadTestServer {
+
+    /**
+     * 부하 테스트 전용 HS256 서명 키 (32바이트 이상)
+     */
+    static final String SECRET = "loadtest-secret-key-for-auth-service-0123456789";
+
+    private LoadTestServer() {
+    }
+
+    /**
+     * 기본 설정에 추가 속성을 덮어써서 애플리케이션 컨텍스트를 기동합니다.
+     *
+     * @param overrides 덮어쓸 속성
+     */
+    static ConfigurableApplicationContext start(Map<String, Object> overrides) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.profiles.active", "loadtest");
+        properties.put("spring.jwt.secret", SECRET);
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:auth-loadtest-" + System.nanoTime() + ";MODE=MariaDB;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("server.port", "0");
+        properties.put("logging.level.root", "WARN");
+        properties.put("auth.cleanup.interval-ms", "3600000");
+        // 부하 트래픽은 모두 루프백 주소에서 오고 같은 사용자가 반복 로그인하므로 요청 제한을 끕니다.
+        properties.put("auth.rate-limit.enabled", "false");
+        properties.put("auth.rate-limit.issue.per-member.rate", "0");
+        // 감사 로그는 기본으로 꺼져 있으므로, 켠 상태의 운영 구성을 측정하도록 명시합니다.
+        properties.put("auth.audit.enabled", "true");
+        properties.put("auth.audit.dir", System.getProperty("java.io.tmpdir") + "/auth-loadtest-audit-" + System.nanoTime());
+        properties.putAll(overrides);
+
+        // SpringApplicationBuilder.properties()는 기본 속성(가장 낮은 우선순위)이라 application.properties 값에 가려지므로
+        // 명령행 인자로 넘겨 application.properties보다 우선하게 합니다.
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(AuthServiceApplication.class)
+                .run(args);
+    }
+}
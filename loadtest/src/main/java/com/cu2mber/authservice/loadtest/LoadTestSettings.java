@@ -0,0 +1,139 @@
+package com.cu2mber.authservice.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트 설정 ({@code loadtest.*} 시스템 속성, 기본값은 loadtest/pom.xml 참고)
+ *
+ * @param model         부하 모델
+ * @param concurrency   closed: 동시 사용자 수, open: 최대 동시 요청 수
+ * @param rate          open 모델의 초당 요청 수
+ * @param warmupSeconds 집계하지 않는 워밍업 시간
+ * @param durationSeconds 집계 시간
+ * @param members       세션을 미리 만들어 둘 사용자 수
+ * @param mix           요청 종류별 비율 (누적 가중치)
+ * @param budgets       요청 종류별 지연 시간 예산
+ * @param maxErrorRate  허용 오류율 (0~1)
+ * @param appProperties 서비스 설정 덮어쓰기
+ * @param reportDir     결과 파일 디렉터리
+ */
+public record LoadTestSettings(Model model,
+                               int concurrency,
+                               double rate,
+                               int warmupSeconds,
+                               int durationSeconds,
+                               int members,
+                               Map<Operation, Integer> mix,
+                               Map<Operation, LatencyBudget> budgets,
+                               double maxErrorRate,
+                               Map<String, Object> appProperties,
+                               Path reportDir) {
+
+    /**
+     * 부하 모델
+     * <ul>
+     * <li>CLOSED: 고정된 수의 사용자가 응답을 받는 즉시 다음 요청을 보냅니다. 서버가 느려지면 요청 수도 줄어듭니다.</li>
+     * <li>OPEN: 응답과 무관하게 정해진 간격으로 요청이 도착합니다. 지연 시간은 예정된 도착 시각부터 재므로
+     * 서버가 밀리는 동안의 대기 시간도 포함됩니다. (coordinated omission 방지)</li>
+     * </ul>
+     */
+    public enum Model {
+        CLOSED, OPEN
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        LatencyBudget defaultBudget = new LatencyBudget(
+                Double.parseDouble(System.getProperty("loadtest.budget.p50-ms", "20")),
+                Double.parseDouble(System.getProperty("loadtest.budget.p99-ms", "200")),
+                Double.parseDouble(System.getProperty("loadtest.budget.p999-ms", "500")));
+
+        return new LoadTestSettings(
+                Model.valueOf(System.getProperty("loadtest.model", "closed").toUpperCase()),
+                Integer.getInteger("loadtest.concurrency", 64),
+                Double.parseDouble(System.getProperty("loadtest.rate", "2000")),
+                Integer.getInteger("loadtest.warmup-s", 10),
+                Integer.getInteger("loadtest.duration-s", 30),
+                Integer.getInteger("loadtest.members", 10_000),
+                parseMix(System.getProperty("loadtest.mix", "issue:10,refresh:55,logout:5,authenticated:30")),
+                parseBudgets(defaultBudget, System.getProperty("loadtest.budget.overrides", "")),
+                Double.parseDouble(System.getProperty("loadtest.budget.max-error-rate", "0.001")),
+                parseProperties(System.getProperty("loadtest.app-properties", "")),
+                Path.of(System.getProperty("loadtest.report-dir", "target/loadtest")));
+    }
+
+    /**
+     * 비율에 따라 요청 종류를 고릅니다.
+     */
+    public Operation pick(ThreadLocalRandom random) {
+        int total = 0;
+        for (int weight : mix.values()) {
+            total += weight;
+        }
+        int point = random.nextInt(total);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            point -= entry.getValue();
+            if (point < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("요청 비율이 비어 있습니다.");
+    }
+
+    /**
+     * "issue:10,refresh:55" 형식
+     */
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : split(value)) {
+            String[] pair = part.split(":");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.of(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix에 비율이 0보다 큰 요청 종류가 하나 이상 필요합니다.");
+        }
+        return mix;
+    }
+
+    /**
+     * "refresh.p99-ms=50,issue.p999-ms=800" 형식
+     */
+    private static Map<Operation, LatencyBudget> parseBudgets(LatencyBudget defaultBudget, String overrides) {
+        Map<Operation, LatencyBudget> budgets = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            budgets.put(operation, defaultBudget);
+        }
+        for (Map.Entry<String, Object> entry : parseProperties(overrides).entrySet()) {
+            String[] key = entry.getKey().split("\\.", 2);
+            Operation operation = Operation.of(key[0]);
+            double millis = Double.parseDouble((String) entry.getValue());
+            budgets.put(operation, budgets.get(operation).with(key[1], millis));
+        }
+        return budgets;
+    }
+
+    /**
+     * "key=value,key=value" 형식
+     */
+    private static Map<String, Object> parseProperties(String value) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        for (String part : split(value)) {
+            int separator = part.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("key=value 형식이 아닙니다: " + part);
+            }
+            properties.put(part.substring(0, separator).trim(), part.substring(separator + 1).trim());
+        }
+        return properties;
+    }
+
+    private static String[] split(String value) {
+        return value.isBlank() ? new String[0] : value.split(",");
+    }
+}
@@ -0,0 +1,38 @@
+package com.cu2mber.authservice.loadtest;
+
+/**
+ * 부하 테스트 요청 종류
+ */
+public enum Operation {
+
+    /** {@code POST /auth/issue} (로그인) */
+    ISSUE("issue"),
+    /** {@code POST /auth/refresh} (액세스 토큰 재발급) */
+    REFRESH("refresh"),
+    /** {@code POST /auth/logout} */
+    LOGOUT("logout"),
+    /** 액세스 토큰으로 보호된 API 요청 ({@code JWTFilter}와 보안 필터 체인 통과) */
+    AUTHENTICATED("authenticated");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    /**
+     * 설정(mix, 예산)과 보고서에서 사용하는 이름
+     */
+    public String key() {
+        return key;
+    }
+
+    public static Operation of(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 요청 종류: " + key);
+    }
+}
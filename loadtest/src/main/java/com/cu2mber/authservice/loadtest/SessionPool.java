@@ -0,0 +1,64 @@
+package com.cu2mber.authservice.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 부하 테스트 중인 사용자 세션(토큰 쌍) 목록
+ * <p>
+ * 한 세션에는 동시에 하나의 요청만 보내도록 슬롯 단위로 점유합니다.
+ * 로그아웃한 세션에 재발급 요청이 겹쳐 생기는, 서버 문제가 아닌 404가 오류로 집계되지 않게 하기 위함입니다.
+ * 슬롯 i는 사용자 번호 i + 1의 세션입니다.
+ * </p>
+ */
+final class SessionPool {
+
+    /**
+     * 발급된 토큰 쌍, 로그아웃 후에는 null
+     */
+    record Session(String accessToken, String refreshToken) {
+    }
+
+    private final AtomicReferenceArray<Session> sessions;
+    private final AtomicIntegerArray busy;
+
+    SessionPool(int size) {
+        this.sessions = new AtomicReferenceArray<>(size);
+        this.busy = new AtomicIntegerArray(size);
+    }
+
+    int size() {
+        return sessions.length();
+    }
+
+    /**
+     * 사용 중이 아닌 슬롯을 임의로 골라 점유합니다. 슬롯 수가 동시 요청 수보다 충분히 많아야 합니다.
+     */
+    int acquire() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            int slot = random.nextInt(sessions.length());
+            if (busy.compareAndSet(slot, 0, 1)) {
+                return slot;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    void release(int slot) {
+        busy.set(slot, 0);
+    }
+
+    Session get(int slot) {
+        return sessions.get(slot);
+    }
+
+    void set(int slot, Session session) {
+        sessions.set(slot, session);
+    }
+
+    static long memberNo(int slot) {
+        return slot + 1L;
+    }
+}
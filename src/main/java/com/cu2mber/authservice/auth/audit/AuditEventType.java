@@ -0,0 +1,46 @@
+package com.cu2mber.authservice.auth.audit;
+
+/**
+ * 감사 로그 이벤트 종류
+ * <p>레코드에는 {@link #code()} 1바이트만 기록합니다. 0은 세그먼트의 빈 영역을 뜻하므로 사용하지 않습니다.</p>
+ */
+public enum AuditEventType {
+
+    /** 토큰 발급 (aux: 0) */
+    ISSUE((byte) 1),
+    /** 액세스 토큰 재발급 (aux: 리프레시 토큰 다이제스트 앞 8바이트) */
+    REFRESH((byte) 2),
+    /** 로그아웃 (aux: 리프레시 토큰 다이제스트 앞 8바이트) */
+    LOGOUT((byte) 3),
+    /** 만료 토큰 정리 (memberNo: 0, aux: 삭제 건수) */
+    CLEANUP((byte) 4),
+    /** 모든 세션 로그아웃 (aux: 삭제된 세션 수) */
+    LOGOUT_ALL((byte) 5),
+    /** 관리자 일괄 세션 폐기 (memberNo: 0, aux: 구간에서 삭제된 세션 수) */
+    BULK_REVOKE((byte) 6);
+
+    private static final AuditEventType[] BY_CODE = new AuditEventType[8];
+
+    static {
+        for (AuditEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+
+    AuditEventType(byte code) {
+        this.code = code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    /**
+     * @return 코드에 해당하는 이벤트 종류, 알 수 없는 코드면 null
+     */
+    public static AuditEventType of(byte code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
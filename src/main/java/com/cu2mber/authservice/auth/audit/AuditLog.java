@@ -0,0 +1,144 @@
+package com.cu2mber.authservice.auth.audit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 토큰 생명주기(발급, 재발급, 로그아웃, 정리) 감사 로그
+ * <p>
+ * 요청 스레드는 {@link #record}로 고정 길이 이벤트를 {@link AuditRingBuffer}에 넣기만 하고 바로 돌아갑니다. (I/O, 락, 할당 없음)
+ * 전용 기록 스레드가 버퍼를 모아 {@link AuditSegmentWriter}로 메모리 매핑된 세그먼트 파일에 이어 씁니다.
+ * 기록이 유입 속도를 따라가지 못해 버퍼가 가득 차면 이벤트는 버려지고 {@link #droppedCount()}로 집계됩니다.
+ * 기록된 로그는 {@link AuditLogReader}로 읽습니다.
+ * </p>
+ * <p>
+ * 버퍼가 비면 기록 스레드는 잠들고, 잠든 동안 이벤트를 넣은 요청 스레드가 깨웁니다.
+ * 트래픽이 없으면 {@code auth.audit.idle-ms}(기본 1초)마다 한 번만 깨어나므로 유휴 상태의 CPU 사용이 거의 없습니다.
+ * </p>
+ * <p>
+ * 세그먼트는 생성 시 전체 크기로 미리 할당되므로 기본으로는 꺼져 있으며({@code auth.audit.enabled=true}로 켬),
+ * 디스크 사용량은 최대 {@code segment-bytes × max-segments}(기본 16MB × 8 = 128MB)입니다.
+ * </p>
+ */
+@Component
+@Slf4j
+public class AuditLog {
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentBytes;
+    private final int maxSegments;
+    private final long idleNanos;
+    private final AuditRingBuffer ring;
+
+    private final LongAdder written = new LongAdder();
+    private volatile boolean running;
+
+    /**
+     * 기록 스레드가 잠들어 있거나 잠들려는 중이면 true (요청 스레드가 깨울지 판단)
+     */
+    private volatile boolean writerIdle;
+    private Thread writerThread;
+
+    public AuditLog(@Value("${auth.audit.enabled:false}") boolean enabled,
+                    @Value("${auth.audit.dir:./audit-log}") String directory,
+                    @Value("${auth.audit.buffer-size:65536}") int bufferSize,
+                    @Value("${auth.audit.segment-bytes:16777216}") int segmentBytes,
+                    @Value("${auth.audit.max-segments:8}") int maxSegments,
+                    @Value("${auth.audit.idle-ms:1000}") long idleMs) {
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = maxSegments;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMs);
+        this.ring = new AuditRingBuffer(bufferSize);
+    }
+
+    /**
+     * 이벤트를 기록 대기열에 넣습니다. 대기열이 가득 차 있으면 버립니다.
+     *
+     * @param type     이벤트 종류
+     * @param memberNo 사용자 번호 (없으면 0)
+     * @param aux      이벤트별 부가 값 ({@link AuditEventType} 참고)
+     */
+    public void record(AuditEventType type, long memberNo, long aux) {
+        if (running && ring.offer(System.currentTimeMillis(), type.code(), memberNo, aux) && writerIdle) {
+            writerIdle = false;
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        AuditSegmentWriter writer;
+        try {
+            writer = new AuditSegmentWriter(directory, segmentBytes, maxSegments);
+        } catch (IOException e) {
+            log.error("감사 로그 디렉터리를 열 수 없어 감사 로그를 비활성화합니다: {}", directory, e);
+            return;
+        }
+        running = true;
+        writerThread = Thread.ofPlatform().name("audit-log-writer").daemon().start(() -> writeLoop(writer));
+    }
+
+    /**
+     * 남은 이벤트를 모두 기록하고 세그먼트를 디스크에 동기화한 뒤 종료합니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    public long publishedCount() {
+        return ring.publishedCount();
+    }
+
+    public long droppedCount() {
+        return ring.droppedCount();
+    }
+
+    public long writtenCount() {
+        return written.sum();
+    }
+
+    public int backlog() {
+        return ring.backlog();
+    }
+
+    private void writeLoop(AuditSegmentWriter writer) {
+        try (writer) {
+            while (running || ring.backlog() > 0) {
+                int count = writer.append(ring);
+                written.add(count);
+                if (count == 0) {
+                    writerIdle = true;
+                    // 표시한 뒤 다시 확인해, 표시 직전에 들어와 깨우지 못한 이벤트를 놓치지 않음
+                    if (running && ring.backlog() == 0) {
+                        LockSupport.parkNanos(idleNanos);
+                    }
+                    writerIdle = false;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            running = false;
+            log.error("감사 로그 기록 중 오류가 발생하여 감사 로그를 중단합니다.", e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.cu2mber.authservice.auth.audit;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 감사 로그 세그먼트 판독/재생 도구
+ * <p>
+ * 세그먼트 디렉터리의 레코드를 기록 순서대로 읽어 한 줄에 하나씩 JSON으로 출력합니다.
+ * 실행 예 (빌드된 jar 사용):
+ * <pre>
+ * java -cp auth-service.jar -Dloader.main=com.cu2mber.authservice.auth.audit.AuditLogReader \
+ *      org.springframework.boot.loader.launch.PropertiesLauncher ./audit-log [fromEpochMillis] [toEpochMillis]
+ * </pre>
+ * </p>
+ */
+public final class AuditLogReader {
+
+    private AuditLogReader() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("usage: AuditLogReader <audit-dir> [fromEpochMillis] [toEpochMillis]");
+            System.exit(2);
+        }
+        Path directory = Path.of(args[0]);
+        long from = args.length > 1 ? Long.parseLong(args[1]) : Long.MIN_VALUE;
+        long to = args.length > 2 ? Long.parseLong(args[2]) : Long.MAX_VALUE;
+
+        PrintStream out = System.out;
+        replay(directory, record -> {
+            if (record.timestamp() >= from && record.timestamp() < to) {
+                out.printf("{\"timestamp\":%d,\"type\":\"%s\",\"memberNo\":%d,\"aux\":\"%016x\"}%n",
+                        record.timestamp(), record.type(), record.memberNo(), record.aux());
+            }
+        });
+        out.flush();
+    }
+
+    /**
+     * 디렉터리의 모든 세그먼트를 오래된 순서대로 읽어 레코드마다 {@code consumer}를 호출합니다.
+     * 기록 중인 세그먼트도 읽을 수 있으며, 그 시점까지 기록된 레코드만 전달됩니다.
+     */
+    public static void replay(Path directory, Consumer<AuditRecord> consumer) throws IOException {
+        for (Path segment : segments(directory)) {
+            replaySegment(segment, consumer);
+        }
+    }
+
+    /**
+     * 세그먼트 파일 목록 (파일 이름 = 생성 시각 순)
+     */
+    static List<Path> segments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(AuditSegmentWriter.PREFIX) && name.endsWith(AuditSegmentWriter.SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static void replaySegment(Path file, Consumer<AuditRecord> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < AuditSegmentWriter.HEADER_SIZE) {
+                return;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != AuditSegmentWriter.MAGIC || buffer.getShort() != AuditSegmentWriter.VERSION
+                    || buffer.getShort() != AuditRecord.SIZE) {
+                throw new IOException("감사 로그 세그먼트 형식이 아닙니다: " + file);
+            }
+            buffer.position(AuditSegmentWriter.HEADER_SIZE);
+
+            while (buffer.remaining() >= AuditRecord.SIZE) {
+                AuditRecord record = AuditRecord.read(buffer);
+                if (record == null) {
+                    break;
+                }
+                consumer.accept(record);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.cu2mber.authservice.auth.audit;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 감사 로그 레코드 (세그먼트 파일의 고정 길이 32바이트 형식)
+ * <pre>
+ * offset 0  : long timestamp (epoch millis)
+ * offset 8  : long memberNo
+ * offset 16 : long aux (이벤트별 부가 값, {@link AuditEventType} 참고)
+ * offset 24 : byte type ({@link AuditEventType#code()})
+ * offset 25 : 7 bytes 예약
+ * </pre>
+ *
+ * @param timestamp 이벤트 발생 시각 (epoch millis)
+ * @param type      이벤트 종류
+ * @param memberNo  사용자 번호 (없으면 0)
+ * @param aux       이벤트별 부가 값
+ */
+public record AuditRecord(long timestamp, AuditEventType type, long memberNo, long aux) {
+
+    public static final int SIZE = 32;
+
+    static void write(ByteBuffer buffer, long timestamp, byte type, long memberNo, long aux) {
+        buffer.putLong(timestamp);
+        buffer.putLong(memberNo);
+        buffer.putLong(aux);
+        buffer.put(type);
+        buffer.position(buffer.position() + 7);
+    }
+
+    /**
+     * 버퍼의 현재 위치에서 레코드 하나를 읽습니다.
+     *
+     * @return 레코드, 빈 영역(type 0)이면 null (위치는 이동하지 않음)
+     */
+    static AuditRecord read(ByteBuffer buffer) {
+        int start = buffer.position();
+        byte code = buffer.get(start + 24);
+        if (code == 0) {
+            return null;
+        }
+        AuditRecord record = new AuditRecord(buffer.getLong(start), AuditEventType.of(code),
+                buffer.getLong(start + 8), buffer.getLong(start + 16));
+        buffer.position(start + SIZE);
+        return record;
+    }
+}
@@ -0,0 +1,111 @@
+package com.cu2mber.authservice.auth.audit;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 다중 생산자 / 단일 소비자(MPSC) 고정 크기 링 버퍼
+ * <p>
+ * 요청 스레드(생산자)는 CAS로 슬롯 번호를 얻고 원시 타입 배열에 필드를 기록한 뒤 슬롯을 발행합니다. 락과 객체 할당이 없습니다.
+ * 버퍼가 가득 차면 기다리지 않고 이벤트를 버린 뒤 버린 건수만 셉니다. 요청 처리 시간이 감사 로그 기록 속도에 묶이지 않도록 하기 위함입니다.
+ * 소비자(기록 스레드)는 발행된 슬롯을 순서대로 읽어 {@link ByteBuffer}에 레코드 형식으로 씁니다.
+ * </p>
+ */
+class AuditRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final long[] timestamps;
+    private final long[] memberNos;
+    private final long[] auxes;
+    private final byte[] types;
+
+    /**
+     * 슬롯별로 마지막으로 발행된 순번 + 1 (0이면 아직 발행되지 않음)
+     */
+    private final AtomicLongArray published;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * 소비자만 갱신합니다.
+     */
+    private volatile long head;
+
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param capacity 슬롯 수 (2의 거듭제곱으로 올림)
+     */
+    AuditRingBuffer(int capacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, capacity - 1) << 1);
+        this.mask = this.capacity - 1;
+        this.timestamps = new long[this.capacity];
+        this.memberNos = new long[this.capacity];
+        this.auxes = new long[this.capacity];
+        this.types = new byte[this.capacity];
+        this.published = new AtomicLongArray(this.capacity);
+    }
+
+    /**
+     * 이벤트를 추가합니다. 버퍼가 가득 차 있으면 기다리지 않고 버립니다.
+     *
+     * @return 추가되었으면 true, 버려졌으면 false
+     */
+    boolean offer(long timestamp, byte type, long memberNo, long aux) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head >= capacity) {
+                dropped.increment();
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) sequence & mask;
+        timestamps[slot] = timestamp;
+        memberNos[slot] = memberNo;
+        auxes[slot] = aux;
+        types[slot] = type;
+        published.lazySet(slot, sequence + 1);
+        return true;
+    }
+
+    /**
+     * 발행된 이벤트를 순서대로 {@code target}에 레코드 형식으로 씁니다. (소비자 스레드 전용)
+     *
+     * @return 쓴 레코드 수
+     */
+    int drainTo(ByteBuffer target) {
+        long sequence = head;
+        int count = 0;
+        while (target.remaining() >= AuditRecord.SIZE) {
+            int slot = (int) sequence & mask;
+            if (published.get(slot) != sequence + 1) {
+                break;
+            }
+            AuditRecord.write(target, timestamps[slot], types[slot], memberNos[slot], auxes[slot]);
+            sequence++;
+            count++;
+        }
+        head = sequence;
+        return count;
+    }
+
+    /**
+     * 아직 기록되지 않은 이벤트 수
+     */
+    int backlog() {
+        return (int) (tail.get() - head);
+    }
+
+    long droppedCount() {
+        return dropped.sum();
+    }
+
+    long publishedCount() {
+        return tail.get();
+    }
+}
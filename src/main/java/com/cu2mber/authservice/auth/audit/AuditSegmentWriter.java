@@ -0,0 +1,94 @@
+package com.cu2mber.authservice.auth.audit;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 감사 로그 세그먼트 파일 기록기 (기록 스레드 전용)
+ * <p>
+ * 세그먼트는 {@code segmentBytes} 크기로 미리 만든 파일을 메모리 매핑하여 레코드를 이어 씁니다.
+ * 쓰기는 페이지 캐시에 대한 메모리 복사일 뿐이므로 프로세스가 비정상 종료되어도 기록된 내용은 남고,
+ * 디스크 동기화({@code force})는 세그먼트 교체와 종료 시에만 수행합니다.
+ * 파일이 가득 차면 새 세그먼트로 교체하고, {@code maxSegments}개를 넘는 오래된 세그먼트는 삭제합니다.
+ * </p>
+ * <pre>
+ * 세그먼트 헤더 (16바이트): int magic, short version, short recordSize, long createdAt
+ * 이후 32바이트 레코드 연속 ({@link AuditRecord}), 기록되지 않은 영역은 0
+ * </pre>
+ */
+class AuditSegmentWriter implements AutoCloseable {
+
+    static final int MAGIC = 0x41554454; // "AUDT"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final String PREFIX = "audit-";
+    static final String SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int maxSegments;
+
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+
+    AuditSegmentWriter(Path directory, int segmentBytes, int maxSegments) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.segmentBytes = Math.max(HEADER_SIZE + AuditRecord.SIZE, segmentBytes);
+        this.maxSegments = maxSegments;
+        roll();
+    }
+
+    /**
+     * 링 버퍼에 쌓인 이벤트를 현재 세그먼트에 씁니다. 세그먼트가 가득 차면 새 세그먼트로 교체합니다.
+     *
+     * @return 쓴 레코드 수
+     */
+    int append(AuditRingBuffer ring) throws IOException {
+        int written = ring.drainTo(segment);
+        if (segment.remaining() < AuditRecord.SIZE) {
+            roll();
+            written += ring.drainTo(segment);
+        }
+        return written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (segment != null) {
+            segment.force();
+        }
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void roll() throws IOException {
+        close();
+
+        long now = System.currentTimeMillis();
+        Path file = directory.resolve(String.format("%s%013d-%06d%s", PREFIX, now, segmentIndex++, SUFFIX));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        segment.order(ByteOrder.BIG_ENDIAN);
+        segment.putInt(MAGIC);
+        segment.putShort(VERSION);
+        segment.putShort((short) AuditRecord.SIZE);
+        segment.putLong(now);
+
+        deleteOldSegments();
+    }
+
+    private void deleteOldSegments() throws IOException {
+        List<Path> segments = AuditLogReader.segments(directory);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+}
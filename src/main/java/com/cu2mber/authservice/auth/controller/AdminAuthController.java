@@ -0,0 +1,100 @@
+package com.cu2mber.authservice.auth.controller;
+
+import com.cu2mber.authservice.auth.dto.AdminJobStatus;
+import com.cu2mber.authservice.auth.dto.BulkRevokeRequest;
+import com.cu2mber.authservice.auth.dto.RevokeRequest;
+import com.cu2mber.authservice.auth.service.RevocationService;
+import com.cu2mber.authservice.auth.service.SessionAdminService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * 관리자용 토큰 관리 API 컨트롤러
+ * <p>관리자 키({@code X-Admin-Api-Key} 헤더)로 인증된 요청만 허용합니다. 액세스 토큰의 role(ROLE_ADMIN)로는 접근할 수 없습니다.</p>
+ */
+@RestController
+@RequestMapping("/auth/admin")
+@RequiredArgsConstructor
+public class AdminAuthController {
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    /** 일괄 폐기 요청 한 번에 지정할 수 있는 최대 사용자 수 */
+    private static final int MAX_BULK_MEMBERS = 100_000;
+
+    private final RevocationService revocationService;
+    private final SessionAdminService sessionAdminService;
+
+    /**
+     * 사용자의 액세스 토큰 즉시 폐기
+     * <p>현재 시각 이전에 발급된 해당 사용자의 액세스 토큰이 모두 거절됩니다.</p>
+     * @param request 폐기할 사용자 번호
+     * @return 처리 결과
+     */
+    @PostMapping("/revoke")
+    public ResponseEntity<Void> revoke(@RequestBody RevokeRequest request) {
+        if (request.memberNo() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        revocationService.revokeAccessTokens(request.memberNo());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 조건에 맞는 세션 일괄 폐기 (비동기)
+     * <p>작업을 시작하고 바로 202를 반환합니다. 진행 상황은 Location 헤더의 주소로 조회합니다.</p>
+     * @param request 폐기 조건 (권한, 사용자 번호 목록, 발급 일시 상한 중 하나 이상)
+     * @return 시작된 작업의 진행 상황
+     */
+    @PostMapping("/sessions/revoke")
+    public ResponseEntity<AdminJobStatus> revokeSessions(@RequestBody BulkRevokeRequest request) {
+        if (!request.hasCriteria()
+                || (request.memberNos() != null && request.memberNos().size() > MAX_BULK_MEMBERS)) {
+            return ResponseEntity.badRequest().build();
+        }
+        AdminJobStatus job = sessionAdminService.startBulkRevocation(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/auth/admin/jobs/" + job.id()))
+                .body(job);
+    }
+
+    /**
+     * 활성 세션 내보내기 (NDJSON 스트리밍)
+     * <p>만료되지 않은 세션을 한 줄에 하나씩 씁니다. 토큰 원문은 포함하지 않으며, 진행 상황은 X-Job-Id 헤더의 작업으로 조회합니다.</p>
+     * @return 세션 목록 스트림
+     */
+    @GetMapping("/sessions/export")
+    public ResponseEntity<StreamingResponseBody> exportSessions() {
+        AdminJobStatus job = sessionAdminService.createExportJob();
+        StreamingResponseBody body = out -> sessionAdminService.exportActiveSessions(job.id(), out);
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .header("X-Job-Id", job.id())
+                .body(body);
+    }
+
+    /**
+     * 일괄 작업 진행 상황 조회
+     * @param jobId 작업 식별자
+     * @return 진행 상황, 없는 작업이면 404
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<AdminJobStatus> job(@PathVariable String jobId) {
+        return ResponseEntity.of(sessionAdminService.findJob(jobId));
+    }
+
+    /**
+     * 최근 일괄 작업 목록 조회 (최신 순)
+     * @return 작업 진행 상황 목록
+     */
+    @GetMapping("/jobs")
+    public ResponseEntity<List<AdminJobStatus>> jobs() {
+        return ResponseEntity.ok(sessionAdminService.recentJobs());
+    }
+}
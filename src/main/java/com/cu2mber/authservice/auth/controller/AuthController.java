@@ -4,10 +4,18 @@ import com.cu2mber.authservice.auth.dto.AccessToken;
 import com.cu2mber.authservice.auth.dto.IssueRequest;
 import com.cu2mber.authservice.auth.dto.TokenResponse;
 import com.cu2mber.authservice.auth.service.AuthService;
+import com.cu2mber.authservice.auth.util.AdmissionControl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * 인증 및 토큰 관리 API 컨트롤러
  */
@@ -17,15 +25,62 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final AdmissionControl admissionControl;
+
+    /**
+     * 일괄 발급 요청 한 번에 허용하는 최대 건수
+     */
+    @Value("${auth.issue.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    /**
+     * 세션(기기) 식별자의 최대 길이 (refresh_tokens.session_id 컬럼 길이)
+     */
+    private static final int MAX_SESSION_ID_LENGTH = 64;
 
     /**
      * 최초 토큰 발급 (로그인 시 사용)
-     * @param request 사용자 번호 및 권한 정보
-     * @return Access & Refresh Token
+     * @param request 사용자 번호, 권한 정보 및 세션(기기) 식별자
+     * @return Access & Refresh Token과 세션 식별자, 사용자별 요청 제한을 넘으면 429
      */
     @PostMapping("/issue")
     public ResponseEntity<TokenResponse> issueToken(@RequestBody IssueRequest request) {
-        TokenResponse tokens = authService.createTokens(request.memberNo(), request.role());
+        if (!isValidSessionId(request.sessionId())) {
+            return ResponseEntity.badRequest().build();
+        }
+        long waitNanos = admissionControl.tryAcquireIssue(request.memberNo());
+        if (waitNanos > 0) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, AdmissionControl.retryAfterSeconds(waitNanos))
+                    .build();
+        }
+        TokenResponse tokens = authService.createTokens(request.memberNo(), request.role(), request.sessionId());
+        return ResponseEntity.ok(tokens);
+    }
+
+    /**
+     * 토큰 일괄 발급 (회원 이관, SSO 가져오기 등 대량 세션 생성 시 사용)
+     * <p>단건 발급과 같은 사용자별 요청 제한을 항목마다 적용하며, 한 명이라도 제한을 넘으면 전체를 발급하지 않습니다.
+     * (이때 앞선 항목이 사용한 허용량은 돌려주지 않습니다.)</p>
+     * @param requests 사용자 번호 및 권한 정보 목록 (최대 {@code auth.issue.batch.max-size}건)
+     * @return 요청 순서와 동일한 순서의 Access & Refresh Token 목록,
+     *         사용자 번호가 없거나 같은 (사용자 번호, 세션 식별자)가 두 번 이상 있으면 400, 사용자별 요청 제한을 넘으면 429
+     */
+    @PostMapping("/issue/batch")
+    public ResponseEntity<List<TokenResponse>> issueTokens(@RequestBody List<IssueRequest> requests) {
+        if (requests.isEmpty() || requests.size() > maxBatchSize || !isValidBatch(requests)) {
+            return ResponseEntity.badRequest().build();
+        }
+        long waitNanos = 0L;
+        for (IssueRequest request : requests) {
+            waitNanos = Math.max(waitNanos, admissionControl.tryAcquireIssue(request.memberNo()));
+        }
+        if (waitNanos > 0) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, AdmissionControl.retryAfterSeconds(waitNanos))
+                    .build();
+        }
+        List<TokenResponse> tokens = authService.createTokens(requests);
         return ResponseEntity.ok(tokens);
     }
 
@@ -50,4 +105,41 @@ public class AuthController {
         authService.logout(refreshToken);
         return ResponseEntity.ok("로그아웃이 성공적으로 처리되었습니다.");
     }
-}
\ No newline at end of file
+
+    /**
+     * 모든 기기에서 로그아웃 API
+     * @param refreshToken 헤더로 전달받은 리프레시 토큰 (로그아웃할 사용자 식별용)
+     * @return 성공 메시지
+     */
+    @PostMapping("/logout/all")
+    public ResponseEntity<String> logoutAll(@RequestHeader("Refresh-Token") String refreshToken) {
+        int sessions = authService.logoutAll(refreshToken);
+        return ResponseEntity.ok(sessions + "개 세션에서 로그아웃되었습니다.");
+    }
+
+    private static boolean isValidSessionId(String sessionId) {
+        return sessionId == null || sessionId.length() <= MAX_SESSION_ID_LENGTH;
+    }
+
+    /**
+     * 모든 항목에 사용자 번호가 있고 세션 식별자가 올바르며, 지정한 세션 식별자가 사용자마다 한 번씩만 나오는지 확인합니다.
+     * <p>같은 세션이 두 번 있으면 저장소에는 마지막 토큰만 남아, 먼저 반환한 토큰이 바로 무효가 되기 때문입니다.
+     * 세션 식별자를 생략한 항목은 각각 새 세션으로 발급되므로 중복이 아닙니다.</p>
+     */
+    private static boolean isValidBatch(List<IssueRequest> requests) {
+        Set<SessionKey> sessions = new HashSet<>();
+        for (IssueRequest request : requests) {
+            if (request == null || request.memberNo() == null || !isValidSessionId(request.sessionId())) {
+                return false;
+            }
+            if (request.sessionId() != null
+                    && !sessions.add(new SessionKey(request.memberNo(), request.sessionId()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record SessionKey(Long memberNo, String sessionId) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.cu2mber.authservice.auth.controller;
+
+import com.cu2mber.authservice.auth.util.JwtKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증용 공개키 집합(JWKS) 제공 API 컨트롤러
+ * <p>
+ * 비대칭 서명 모드(ES256, EdDSA)에서만 활성화됩니다.
+ * 다른 서비스는 이 문서를 캐시해 두고 토큰 헤더의 kid로 공개키를 찾아 auth-service 호출 없이 토큰을 검증합니다.
+ * 문서는 키가 바뀔 때만 다시 직렬화되며, ETag가 같으면 본문 없이 304를 반환합니다.
+ * </p>
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${auth.jwt.algorithm:HS256}' != 'HS256'")
+public class JwksController {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic();
+
+    private final JwtKeyRing jwtKeyRing;
+
+    /**
+     * 공개키 집합 조회
+     * @param ifNoneMatch 클라이언트가 캐시한 문서의 ETag
+     * @return JWKS 문서, 변경이 없으면 304
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<byte[]> jwks(@RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String eTag = jwtKeyRing.jwksETag();
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jwtKeyRing.jwks());
+    }
+}
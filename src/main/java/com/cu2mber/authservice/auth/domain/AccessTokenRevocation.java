@@ -0,0 +1,87 @@
+package com.cu2mber.authservice.auth.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 액세스 토큰 폐기 기록을 관리하는 엔티티 클래스
+ * <p>
+ * 사용자(또는 사용자의 한 세션)의 특정 시각 이전에 발급된 액세스 토큰을 폐기했다는 사실을 저장합니다.
+ * 사용자 번호가 없는 기록은 권한 규칙으로, 해당 권한(없으면 모든 권한)으로 발급된 모든 사용자의 액세스 토큰을 폐기합니다.
+ * 요청 처리 시에는 조회하지 않으며, 기동 시 메모리 폐기 목록을 복원하고 다른 노드와 폐기 내역을 동기화하는 데 사용됩니다.
+ * </p>
+ */
+@Entity
+@Table(name = "access_token_revocations",
+        indexes = {
+                @Index(name = "idx_access_token_revocations_expires_at", columnList = "expires_at"),
+                @Index(name = "idx_access_token_revocations_revoked_at", columnList = "revoked_at, id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccessTokenRevocation {
+
+    /**
+     * 폐기 기록의 고유 식별자 (Primary Key)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    Long id;
+
+    /**
+     * 폐기 대상 사용자의 고유 번호, null이면 권한 규칙
+     */
+    @Column(name = "member_no")
+    Long memberNo;
+
+    /**
+     * 폐기 대상 세션 식별자 (액세스 토큰의 sid 클레임), null이면 사용자의 모든 세션
+     */
+    @Column(name = "session_id", length = 64)
+    String sessionId;
+
+    /**
+     * 권한 규칙의 대상 권한 (액세스 토큰의 role 클레임), null이면 모든 권한 (사용자 번호가 없는 기록에만 사용)
+     */
+    @Column(length = 50)
+    String role;
+
+    /**
+     * 폐기 시각, 이 시각 이전에 발급된 액세스 토큰이 폐기됨
+     * <p>노드 간 증분 동기화의 커서로도 사용합니다.</p>
+     */
+    @Column(name = "revoked_at", nullable = false)
+    LocalDateTime revokedAt;
+
+    /**
+     * 폐기 기록 만료 시각, 폐기 시각 이전에 발급된 액세스 토큰이 모두 만료되는 시각
+     */
+    @Column(name = "expires_at", nullable = false)
+    LocalDateTime expiresAt;
+
+    public AccessTokenRevocation(Long memberNo, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        this(memberNo, null, revokedAt, expiresAt);
+    }
+
+    public AccessTokenRevocation(Long memberNo, String sessionId, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        this.memberNo = memberNo;
+        this.sessionId = sessionId;
+        this.revokedAt = revokedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 권한 규칙 기록을 생성합니다.
+     *
+     * @param role 대상 권한, null이면 모든 권한
+     */
+    public static AccessTokenRevocation forRole(String role, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        AccessTokenRevocation revocation = new AccessTokenRevocation(null, null, revokedAt, expiresAt);
+        revocation.role = role;
+        return revocation;
+    }
+}
@@ -1,5 +1,6 @@
 package com.cu2mber.authservice.auth.domain;
 
+import com.cu2mber.authservice.auth.util.TokenDigest;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -13,10 +14,26 @@ import java.time.LocalDateTime;
  * 사용자의 고유 식별자와 발급된 리프레시 토큰 값을 매핑하여 저장하며,
  * 액세스 토큰 만료 시 재발급을 위한 검증 용도로 사용됩니다.
  * </p>
+ * <p>
+ * 조회는 토큰 문자열이 아닌 토큰의 SHA-256 다이제스트(token_hash)로 수행합니다.
+ * 고정 길이 바이너리 컬럼에 유니크 인덱스를 두어 테이블 크기와 무관하게 단건 조회 비용을 일정하게 유지합니다.
+ * </p>
+ * <p>
+ * 한 사용자가 여러 기기(세션)에서 동시에 로그인할 수 있으며, 세션마다 하나의 행을 가집니다.
+ * (member_no, session_id) 복합 유니크 인덱스로 세션 단위 upsert와 사용자 단위 조회/삭제를 모두 인덱스로 처리합니다.
+ * </p>
  *
  */
 @Entity
-@Table(name="refresh_tokens")
+@Table(name="refresh_tokens",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_refresh_tokens_token_hash", columnNames = "token_hash"),
+                @UniqueConstraint(name = "uk_refresh_tokens_member_session", columnNames = {"member_no", "session_id"})
+        },
+        indexes = {
+                @Index(name = "idx_refresh_tokens_expiry_date", columnList = "expiry_date"),
+                @Index(name = "idx_refresh_tokens_role", columnList = "role")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RefreshToken {
@@ -32,29 +49,72 @@ public class RefreshToken {
      * Member Service에서 관리하는 사용자의 고유 번호
      * <p>서비스 간 결합도를 낮추기 위해 연관관계 매핑 대신 ID 값만 직접 저장합니다.</p>
      */
-    @Column(nullable = false, unique = true)
+    @Column(name = "member_no", nullable = false)
     Long memberNo;
 
+    /**
+     * 세션(기기) 식별자
+     * <p>클라이언트가 발급 요청 시 전달하며, 전달하지 않으면 서버가 생성합니다.</p>
+     */
+    @Column(name = "session_id", nullable = false, length = 64)
+    private String sessionId;
+
+    /**
+     * 토큰 발급 시 부여된 사용자 권한 (예: ROLE_USER)
+     * <p>권한 단위 일괄 폐기에 사용합니다. 컬럼 추가 이전에 발급된 토큰은 비어 있습니다.</p>
+     */
+    @Column(length = 50)
+    private String role;
+
     /**
      * 실제 발급된 JWT 리프레시 토큰 문자열
      */
     @Column(nullable = false, length = 500)
     private String token;
 
+    /**
+     * 리프레시 토큰 문자열의 SHA-256 다이제스트 (32바이트)
+     * <p>토큰 조회의 검색 키로 사용됩니다. 기존 데이터 이관 전까지는 비어 있을 수 있으므로 nullable로 둡니다.</p>
+     */
+    @Column(name = "token_hash", columnDefinition = "BINARY(32)")
+    private byte[] tokenHash;
+
     /**
      * 해당 토큰의 만료 일시
+     * <p>만료 토큰 정리 작업이 범위 조회를 하므로 인덱스를 둡니다.</p>
      */
-    @Column(nullable = false)
+    @Column(name = "expiry_date", nullable = false)
     LocalDateTime expiryDate;
 
-    public RefreshToken(Long memberNo, String token, LocalDateTime expiryDate) {
+    /**
+     * 해당 세션에 토큰이 마지막으로 발급된 일시
+     * <p>사용자별 세션 수가 상한을 넘으면 이 값이 가장 오래된 세션부터 제거합니다.</p>
+     */
+    @Column(name = "issued_at", nullable = false)
+    private LocalDateTime issuedAt;
+
+    public RefreshToken(Long memberNo, String sessionId, String role, String token, LocalDateTime issuedAt,
+                        LocalDateTime expiryDate) {
         this.memberNo = memberNo;
+        this.sessionId = sessionId;
+        this.role = role;
         this.token = token;
+        this.tokenHash = TokenDigest.of(token).toByteArray();
+        this.issuedAt = issuedAt;
         this.expiryDate = expiryDate;
     }
 
-    public void updateToken(String newToken, LocalDateTime newExpiryDate) {
+    public void updateToken(String newToken, LocalDateTime newIssuedAt, LocalDateTime newExpiryDate) {
         this.token = newToken;
+        this.tokenHash = TokenDigest.of(newToken).toByteArray();
+        this.issuedAt = newIssuedAt;
         this.expiryDate = newExpiryDate;
     }
+
+    /**
+     * 다이제스트가 없는 기존 데이터에 대해 저장된 토큰 문자열로 다이제스트를 채웁니다.
+     */
+    public void backfillTokenHash() {
+        this.tokenHash = TokenDigest.of(token).toByteArray();
+    }
 }
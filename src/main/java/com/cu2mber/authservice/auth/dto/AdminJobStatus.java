@@ -0,0 +1,20 @@
+package com.cu2mber.authservice.auth.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 일괄 작업(세션 폐기, 내보내기)의 진행 상황 응답 DTO
+ * * @param id         작업 식별자
+ * @param type        작업 종류 (REVOKE, EXPORT)
+ * @param state       상태 (QUEUED, RUNNING, COMPLETED, FAILED)
+ * @param scanned     지금까지 확인한 행(또는 사용자) 수
+ * @param affected    지금까지 폐기하거나 내보낸 세션 수
+ * @param roleUnknown 폐기한 세션 중 권한이 기록되지 않은 기존 세션 수 (권한 조건 폐기에서 대상에 포함됨)
+ * @param progress    진행률 (0.0 ~ 1.0)
+ * @param startedAt   시작 일시
+ * @param finishedAt  종료 일시, 진행 중이면 null
+ * @param error       실패 사유, 실패하지 않았으면 null
+ */
+public record AdminJobStatus(String id, String type, String state, long scanned, long affected, long roleUnknown,
+                             double progress, LocalDateTime startedAt, LocalDateTime finishedAt, String error) {
+}
@@ -0,0 +1,21 @@
+package com.cu2mber.authservice.auth.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 관리자 세션 일괄 폐기 요청을 위한 DTO
+ * <p>지정한 조건을 모두 만족하는 세션을 폐기하며, 하나 이상의 조건이 필요합니다.</p>
+ * * @param role        토큰 발급 시 부여된 권한 (예: ROLE_USER)
+ * @param memberNos    폐기할 사용자 번호 목록
+ * @param issuedBefore 이 일시 이전에 발급된 세션
+ */
+public record BulkRevokeRequest(String role, List<Long> memberNos, LocalDateTime issuedBefore) {
+
+    /**
+     * 조건이 하나도 없으면(전체 폐기) 잘못된 요청으로 봅니다.
+     */
+    public boolean hasCriteria() {
+        return role != null || (memberNos != null && !memberNos.isEmpty()) || issuedBefore != null;
+    }
+}
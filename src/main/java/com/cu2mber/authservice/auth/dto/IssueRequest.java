@@ -3,7 +3,8 @@ package com.cu2mber.authservice.auth.dto;
 /**
  * 토큰 발급 요청을 위한 DTO
  * * @param memberNo 사용자 고유 번호
- * @param role     사용자에게 부여될 권한 (예: ROLE_USER)
+ * @param role      사용자에게 부여될 권한 (예: ROLE_USER)
+ * @param sessionId 세션(기기) 식별자, 생략하면 새 세션으로 발급 (최대 64자)
  */
-public record IssueRequest(Long memberNo, String role) {
+public record IssueRequest(Long memberNo, String role, String sessionId) {
 }
@@ -0,0 +1,8 @@
+package com.cu2mber.authservice.auth.dto;
+
+/**
+ * 관리자 토큰 폐기 요청을 위한 DTO
+ * * @param memberNo 액세스 토큰을 폐기할 사용자 고유 번호
+ */
+public record RevokeRequest(Long memberNo) {
+}
@@ -4,6 +4,7 @@ package com.cu2mber.authservice.auth.dto;
  * 토큰 발급 성공 시 반환되는 응답 DTO
  * * @param accessToken  리소스 접근을 위한 액세스 토큰
  * @param refreshToken 액세스 토큰 만료 시 재발급을 위한 리프레시 토큰
+ * @param sessionId    토큰이 속한 세션(기기) 식별자, 같은 기기에서 다시 로그인할 때 전달하면 해당 세션의 토큰을 교체
  */
-public record TokenResponse(String accessToken, String refreshToken) {
+public record TokenResponse(String accessToken, String refreshToken, String sessionId) {
 }
@@ -0,0 +1,37 @@
+package com.cu2mber.authservice.auth.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 인증 처리 중 예상 가능한 실패(토큰 미등록, 만료, 위조 등)를 나타내는 예외의 최상위 클래스
+ * <p>
+ * 공격 트래픽에서는 이런 실패가 요청마다 발생하므로, 스택 트레이스를 채우지 않고(suppression도 비활성화)
+ * 응답 본문 JSON도 생성 시점에 미리 만들어 둡니다. 상태가 없으므로 하위 클래스의 상수 인스턴스를 그대로 던집니다.
+ * 실제 서버 오류는 이 예외를 사용하지 않습니다.
+ * </p>
+ */
+public abstract class AuthException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] body;
+
+    protected AuthException(String message) {
+        super(message, null, false, false);
+        this.body = ("{\"message\" : \"" + message + "\"}\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 응답 상태 코드
+     */
+    public abstract HttpStatus status();
+
+    /**
+     * 미리 만들어 둔 응답 본문 (JSON)
+     */
+    public byte[] body() {
+        return body;
+    }
+}
@@ -0,0 +1,22 @@
+package com.cu2mber.authservice.auth.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 서명이 맞지 않거나 형식·용도(category)가 잘못된 토큰 (401)
+ */
+public class InvalidTokenException extends AuthException {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final InvalidTokenException INSTANCE = new InvalidTokenException("유효하지 않은 토큰입니다.");
+
+    private InvalidTokenException(String message) {
+        super(message);
+    }
+
+    @Override
+    public HttpStatus status() {
+        return HttpStatus.UNAUTHORIZED;
+    }
+}
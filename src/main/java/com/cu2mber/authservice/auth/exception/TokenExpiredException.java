@@ -0,0 +1,23 @@
+package com.cu2mber.authservice.auth.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 유효 기간이 지난 토큰 (401)
+ */
+public class TokenExpiredException extends AuthException {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final TokenExpiredException REFRESH_TOKEN =
+            new TokenExpiredException("리프레시 토큰이 만료되었습니다. 다시 로그인해주세요.");
+
+    private TokenExpiredException(String message) {
+        super(message);
+    }
+
+    @Override
+    public HttpStatus status() {
+        return HttpStatus.UNAUTHORIZED;
+    }
+}
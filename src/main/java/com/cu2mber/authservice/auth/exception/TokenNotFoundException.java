@@ -0,0 +1,26 @@
+package com.cu2mber.authservice.auth.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 저장소에 없는 리프레시 토큰 (404)
+ */
+public class TokenNotFoundException extends AuthException {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final TokenNotFoundException REFRESH_TOKEN =
+            new TokenNotFoundException("존재하지 않는 리프레시 토큰입니다.");
+
+    public static final TokenNotFoundException ALREADY_LOGGED_OUT =
+            new TokenNotFoundException("이미 로그아웃되었거나 존재하지 않는 토큰입니다.");
+
+    private TokenNotFoundException(String message) {
+        super(message);
+    }
+
+    @Override
+    public HttpStatus status() {
+        return HttpStatus.NOT_FOUND;
+    }
+}
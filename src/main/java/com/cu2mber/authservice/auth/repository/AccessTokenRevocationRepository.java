@@ -0,0 +1,39 @@
+package com.cu2mber.authservice.auth.repository;
+
+import com.cu2mber.authservice.auth.domain.AccessTokenRevocation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * AccessTokenRevocation 엔티티에 대한 데이터 액세스 처리를 담당하는 레포지토리
+ */
+public interface AccessTokenRevocationRepository extends JpaRepository<AccessTokenRevocation, Long> {
+
+    /**
+     * 아직 만료되지 않은 폐기 기록을 (폐기 시각, id) 순으로 조회 (폐기 시각 커서 기반 증분 조회)
+     *
+     * @param revokedAt 마지막으로 읽은 기록의 폐기 시각
+     * @param id        마지막으로 읽은 기록의 id (같은 폐기 시각 안에서의 커서)
+     * @param now       현재 시간
+     */
+    @Query("SELECT r FROM AccessTokenRevocation r WHERE r.expiresAt > :now "
+            + "AND (r.revokedAt > :revokedAt OR (r.revokedAt = :revokedAt AND r.id > :id)) "
+            + "ORDER BY r.revokedAt, r.id")
+    List<AccessTokenRevocation> findActiveAfter(@Param("revokedAt") LocalDateTime revokedAt, @Param("id") Long id,
+                                                @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 만료된 폐기 기록 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM AccessTokenRevocation r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,405 @@
+package com.cu2mber.authservice.auth.repository;
+
+import com.cu2mber.authservice.auth.domain.RefreshToken;
+import com.cu2mber.authservice.auth.util.TokenDigest;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 노드 메모리에 리프레시 토큰을 보관하는 저장소
+ * <p>
+ * 사용자 번호(memberNo)별 세션 목록과 토큰 다이제스트 두 개의 인덱스를 유지합니다.
+ * 토큰 조회는 잠금 없이 {@link ConcurrentHashMap}에서 수행하고, 두 인덱스를 함께 바꾸는 쓰기 연산만 memberNo 기준의 스트라이프 락으로 보호합니다.
+ * 사용자별 세션 목록은 발급 순서를 유지하며, 세션 수가 상한을 넘으면 가장 오래전에 발급된 세션부터 제거합니다.
+ * 만료된 토큰은 조회 시점과 주기적인 정리 작업에서 제거됩니다.
+ * </p>
+ * <p>
+ * 지연 기록 대상({@code writeBehindStore})이 주어지면 변경 사항을 사용자별로 병합해 두었다가 주기적으로 RDS에 반영하고,
+ * 메모리에 없는 토큰은 RDS에서 읽어와 적재(read-through)합니다.
+ * 반영 중인 변경은 반영이 끝날 때까지 "반영 중" 목록에 남아 있으며, 아직 반영되지 않았거나 반영 중인 변경이 있는 세션의 토큰은
+ * RDS에 행이 남아 있더라도 읽어오지 않습니다. (메모리가 최신이므로 로그아웃/교체/축출된 토큰이 다시 적재되지 않도록 함)
+ * 지연 기록 대상이 없으면 순수 메모리 저장소로 동작하므로 노드 재시작 시 토큰이 유실됩니다.
+ * </p>
+ */
+@Slf4j
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int STRIPES = 64;
+
+    /**
+     * read-through 조회 도중 변경 반영이 겹칠 때 다시 조회하는 최대 횟수
+     */
+    private static final int READ_THROUGH_ATTEMPTS = 3;
+
+    /**
+     * 사용자별 세션 목록 (세션 ID → 토큰, 발급 순서). 목록 자체는 스트라이프 락 안에서만 읽고 씁니다.
+     */
+    private final Map<Long, LinkedHashMap<String, Entry>> byMemberNo = new ConcurrentHashMap<>();
+    private final Map<TokenDigest, Entry> byToken = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[STRIPES];
+    private final int maxSessionsPerMember;
+
+    /**
+     * RDS에 아직 반영되지 않은 사용자별 변경 사항 (스트라이프 락 안에서만 변경)
+     */
+    private final Map<Long, PendingMember> pendingWrites = new ConcurrentHashMap<>();
+
+    /**
+     * RDS에 반영하는 중인 사용자별 변경 사항 (스트라이프 락 안에서만 변경, 반영이 끝나면 제거)
+     */
+    private final Map<Long, PendingMember> inFlightWrites = new ConcurrentHashMap<>();
+
+    /**
+     * 스트라이프별로 반영을 마친 변경 수
+     * <p>read-through 조회 도중 같은 스트라이프의 반영이 끝났다면 읽은 행이 이미 지워졌거나 교체되었을 수 있으므로 다시 읽습니다.</p>
+     */
+    private final AtomicLongArray appliedCounts = new AtomicLongArray(STRIPES);
+    private final RefreshTokenStore writeBehindStore;
+
+    /**
+     * @param writeBehindStore     변경 사항을 지연 기록할 저장소, 메모리 전용으로 사용할 경우 null
+     * @param maxSessionsPerMember 사용자별 최대 세션 수
+     */
+    public InMemoryRefreshTokenStore(RefreshTokenStore writeBehindStore, int maxSessionsPerMember) {
+        this.writeBehindStore = writeBehindStore;
+        this.maxSessionsPerMember = maxSessionsPerMember;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public void save(TokenEntry token) {
+        Long memberNo = token.memberNo();
+        Entry entry = new Entry(new RefreshToken(memberNo, token.sessionId(), token.role(), token.token(), token.issuedAt(),
+                token.expiryDate()), TokenDigest.of(token.token()));
+
+        synchronized (lockFor(memberNo)) {
+            LinkedHashMap<String, Entry> sessions = byMemberNo.computeIfAbsent(memberNo, k -> new LinkedHashMap<>());
+            Entry previous = sessions.remove(token.sessionId());
+            if (previous != null) {
+                byToken.remove(previous.digest(), previous);
+            }
+            sessions.put(token.sessionId(), entry);
+            byToken.put(entry.digest(), entry);
+            enqueue(memberNo, token.sessionId(), new PendingWrite(token, false));
+
+            // 상한을 넘으면 가장 오래전에 발급된 세션부터 제거
+            Iterator<Entry> oldest = sessions.values().iterator();
+            while (sessions.size() > maxSessionsPerMember && oldest.hasNext()) {
+                Entry evicted = oldest.next();
+                oldest.remove();
+                byToken.remove(evicted.digest(), evicted);
+                enqueue(memberNo, evicted.refreshToken().getSessionId(), PendingWrite.delete(evicted.refreshToken()));
+            }
+        }
+    }
+
+    @Override
+    public void saveAll(List<TokenEntry> tokens) {
+        tokens.forEach(this::save);
+    }
+
+    @Override
+    public Optional<RefreshToken> findByToken(String token) {
+        TokenDigest digest = TokenDigest.of(token);
+        Entry entry = byToken.get(digest);
+
+        if (entry == null) {
+            return readThrough(token, digest);
+        }
+        if (entry.isExpired(LocalDateTime.now())) {
+            remove(entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.refreshToken());
+    }
+
+    @Override
+    public boolean deleteByToken(String token) {
+        TokenDigest digest = TokenDigest.of(token);
+        Entry entry = byToken.get(digest);
+
+        if (entry == null) {
+            // 메모리에 없더라도 RDS에만 남아 있는 토큰일 수 있으므로 지연 기록 대상에서 삭제
+            return writeBehindStore != null && writeBehindStore.deleteByToken(token);
+        }
+        return remove(entry);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>지연 기록 사용 시 RDS 삭제는 다음 반영 주기에 수행되므로, 반환값은 메모리에서 삭제된 세션 수입니다.</p>
+     */
+    @Override
+    public int deleteByMemberNo(Long memberNo) {
+        synchronized (lockFor(memberNo)) {
+            LinkedHashMap<String, Entry> sessions = byMemberNo.remove(memberNo);
+            int deleted = 0;
+            if (sessions != null) {
+                for (Entry entry : sessions.values()) {
+                    byToken.remove(entry.digest(), entry);
+                }
+                deleted = sessions.size();
+            }
+            if (writeBehindStore != null) {
+                // 이전에 쌓인 세션별 변경은 모두 무의미해지므로 "전체 삭제" 하나로 대체
+                pendingWrites.put(memberNo, new PendingMember(true));
+            }
+            return deleted;
+        }
+    }
+
+    /**
+     * 만료된 토큰을 메모리에서 제거합니다.
+     * <p>RDS에 남은 만료 토큰은 {@code TokenCleanupScheduler}가 정리합니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${auth.refresh-token.memory.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int evicted = 0;
+        for (Entry entry : byToken.values()) {
+            if (entry.isExpired(now) && removeFromMemory(entry)) {
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.debug("메모리 저장소 만료 토큰 제거: {}건", evicted);
+        }
+    }
+
+    /**
+     * 병합해 둔 변경 사항을 지연 기록 대상 저장소에 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${auth.refresh-token.memory.write-behind-interval-ms:1000}")
+    public void flush() {
+        if (writeBehindStore == null) {
+            return;
+        }
+        for (Long memberNo : pendingWrites.keySet()) {
+            PendingMember pending;
+            synchronized (lockFor(memberNo)) {
+                pending = pendingWrites.remove(memberNo);
+                if (pending == null) {
+                    continue;
+                }
+                // 반영이 끝날 때까지 read-through가 이 사용자의 RDS 행을 적재하지 않도록 "반영 중"으로 남겨 둠
+                inFlightWrites.put(memberNo, pending);
+            }
+            try {
+                apply(memberNo, pending);
+                synchronized (lockFor(memberNo)) {
+                    inFlightWrites.remove(memberNo);
+                    appliedCounts.incrementAndGet(stripeOf(memberNo));
+                }
+            } catch (RuntimeException ex) {
+                // 반영하는 사이 더 새로운 변경이 들어왔다면 그 변경을 우선하여 병합하고 다음 주기에 재시도
+                synchronized (lockFor(memberNo)) {
+                    inFlightWrites.remove(memberNo);
+                    pendingWrites.merge(memberNo, pending, PendingMember::mergeOlder);
+                }
+                log.warn("리프레시 토큰 지연 기록 실패 (memberNo={}), 다음 주기에 재시도합니다.", memberNo, ex);
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 변경 사항을 모두 기록합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 현재 메모리에 보관 중인 토큰(세션) 수
+     */
+    public int size() {
+        return byToken.size();
+    }
+
+    /**
+     * RDS에 아직 반영되지 않은 변경 사항이 있는 사용자 수
+     */
+    public int pendingWriteCount() {
+        return pendingWrites.size();
+    }
+
+    private void apply(Long memberNo, PendingMember pending) {
+        if (pending.deleteAll) {
+            writeBehindStore.deleteByMemberNo(memberNo);
+        }
+        for (PendingWrite write : pending.sessions.values()) {
+            if (write.delete()) {
+                writeBehindStore.deleteByToken(write.entry().token());
+            } else {
+                writeBehindStore.save(write.entry());
+            }
+        }
+    }
+
+    /**
+     * 메모리에 없는 토큰을 RDS에서 읽어 적재합니다.
+     * <p>
+     * 해당 세션에 반영 전/반영 중인 변경이 있으면 메모리 상태가 최신이고 RDS 행은 지워지거나 교체될 예정이므로 없는 토큰으로 봅니다.
+     * 조회하는 사이 같은 스트라이프의 변경 반영이 끝났다면 읽은 행이 이미 지난 상태일 수 있으므로 다시 조회합니다.
+     * </p>
+     */
+    private Optional<RefreshToken> readThrough(String token, TokenDigest digest) {
+        if (writeBehindStore == null) {
+            return Optional.empty();
+        }
+        for (int attempt = 0; attempt < READ_THROUGH_ATTEMPTS; attempt++) {
+            long[] appliedBefore = appliedCountsSnapshot();
+            Optional<RefreshToken> stored = writeBehindStore.findByToken(token)
+                    .filter(refreshToken -> !refreshToken.getExpiryDate().isBefore(LocalDateTime.now()));
+            if (stored.isEmpty()) {
+                return stored;
+            }
+
+            RefreshToken refreshToken = stored.get();
+            Long memberNo = refreshToken.getMemberNo();
+            synchronized (lockFor(memberNo)) {
+                if (hasPendingChange(memberNo, refreshToken.getSessionId())) {
+                    return Optional.empty();
+                }
+                if (appliedCounts.get(stripeOf(memberNo)) != appliedBefore[stripeOf(memberNo)]) {
+                    continue;
+                }
+                LinkedHashMap<String, Entry> sessions = byMemberNo.computeIfAbsent(memberNo, k -> new LinkedHashMap<>());
+                Entry current = sessions.get(refreshToken.getSessionId());
+                if (current == null) {
+                    Entry entry = new Entry(refreshToken, digest);
+                    sessions.put(refreshToken.getSessionId(), entry);
+                    byToken.put(digest, entry);
+                } else if (!current.digest().equals(digest)) {
+                    // 그 사이 같은 세션에 새 토큰이 저장됨
+                    return Optional.empty();
+                }
+                return stored;
+            }
+        }
+        // 반영이 계속 겹치면 지난 상태를 돌려주지 않도록 없는 토큰으로 처리 (클라이언트 재시도 시 다시 조회)
+        return Optional.empty();
+    }
+
+    /**
+     * 세션에 RDS에 반영되지 않았거나 반영 중인 변경이 있는지 확인합니다. 스트라이프 락 안에서 호출합니다.
+     */
+    private boolean hasPendingChange(Long memberNo, String sessionId) {
+        return PendingMember.touches(pendingWrites.get(memberNo), sessionId)
+                || PendingMember.touches(inFlightWrites.get(memberNo), sessionId);
+    }
+
+    private long[] appliedCountsSnapshot() {
+        long[] snapshot = new long[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            snapshot[i] = appliedCounts.get(i);
+        }
+        return snapshot;
+    }
+
+    private boolean remove(Entry entry) {
+        RefreshToken refreshToken = entry.refreshToken();
+        synchronized (lockFor(refreshToken.getMemberNo())) {
+            if (!removeFromMemory(entry)) {
+                return false;
+            }
+            enqueue(refreshToken.getMemberNo(), refreshToken.getSessionId(), PendingWrite.delete(refreshToken));
+            return true;
+        }
+    }
+
+    private boolean removeFromMemory(Entry entry) {
+        Long memberNo = entry.refreshToken().getMemberNo();
+        synchronized (lockFor(memberNo)) {
+            LinkedHashMap<String, Entry> sessions = byMemberNo.get(memberNo);
+            if (sessions == null || !sessions.remove(entry.refreshToken().getSessionId(), entry)) {
+                return false;
+            }
+            if (sessions.isEmpty()) {
+                byMemberNo.remove(memberNo);
+            }
+            byToken.remove(entry.digest(), entry);
+            return true;
+        }
+    }
+
+    /**
+     * 스트라이프 락 안에서 호출합니다.
+     */
+    private void enqueue(Long memberNo, String sessionId, PendingWrite write) {
+        if (writeBehindStore != null) {
+            pendingWrites.computeIfAbsent(memberNo, k -> new PendingMember(false)).sessions.put(sessionId, write);
+        }
+    }
+
+    private Object lockFor(Long memberNo) {
+        return locks[stripeOf(memberNo)];
+    }
+
+    private static int stripeOf(Long memberNo) {
+        return (Long.hashCode(memberNo) & 0x7fffffff) % STRIPES;
+    }
+
+    private record Entry(RefreshToken refreshToken, TokenDigest digest) {
+
+        boolean isExpired(LocalDateTime now) {
+            return refreshToken.getExpiryDate().isBefore(now);
+        }
+    }
+
+    /**
+     * 세션별 변경 (delete가 true이면 entry의 토큰을 삭제)
+     */
+    private record PendingWrite(TokenEntry entry, boolean delete) {
+
+        static PendingWrite delete(RefreshToken refreshToken) {
+            return new PendingWrite(new TokenEntry(refreshToken.getMemberNo(), refreshToken.getSessionId(),
+                    refreshToken.getRole(), refreshToken.getToken(), refreshToken.getIssuedAt(), refreshToken.getExpiryDate()), true);
+        }
+    }
+
+    /**
+     * 사용자 한 명의 병합된 변경 사항. 전체 삭제가 있으면 세션별 변경보다 먼저 반영합니다.
+     */
+    private static final class PendingMember {
+
+        private boolean deleteAll;
+        private final LinkedHashMap<String, PendingWrite> sessions = new LinkedHashMap<>();
+
+        private PendingMember(boolean deleteAll) {
+            this.deleteAll = deleteAll;
+        }
+
+        /**
+         * 이 변경 사항이 세션에 영향을 주는지 확인합니다. (전체 삭제이거나 해당 세션의 변경이 있음)
+         */
+        private static boolean touches(PendingMember pending, String sessionId) {
+            return pending != null && (pending.deleteAll || pending.sessions.containsKey(sessionId));
+        }
+
+        /**
+         * 더 새로운 변경({@code this})에 반영에 실패한 이전 변경({@code older})을 합칩니다.
+         */
+        private static PendingMember mergeOlder(PendingMember newer, PendingMember older) {
+            if (newer.deleteAll) {
+                return newer;
+            }
+            PendingMember merged = new PendingMember(older.deleteAll);
+            merged.sessions.putAll(older.sessions);
+            merged.sessions.putAll(newer.sessions);
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.cu2mber.authservice.auth.repository;
+
+import com.cu2mber.authservice.auth.domain.RefreshToken;
+import com.cu2mber.authservice.auth.util.TokenDigest;
+import jakarta.transaction.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@link RefreshTokenRepository}(JPA)를 사용하는 리프레시 토큰 저장소
+ * <p>모든 연산은 RDS에 바로 반영되며, 각 메서드가 하나의 짧은 트랜잭션(또는 단일 문장)으로 실행됩니다.</p>
+ * <p>저장은 {@link RefreshTokenJdbcRepository}의 upsert 문으로 처리하며, 일괄 저장은 {@code chunkSize}건마다 트랜잭션을 나눕니다.</p>
+ * <p>토큰 조회는 읽기 전용 트랜잭션으로 실행되어, 읽기 복제본이 설정된 경우 복제본으로 라우팅됩니다.</p>
+ * <p>저장 후에는 사용자별 세션 수 상한({@code maxSessionsPerMember})을 넘는 오래된 세션을 삭제합니다.</p>
+ */
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenJdbcRepository refreshTokenJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int chunkSize;
+    private final boolean primaryFallback;
+    private final int maxSessionsPerMember;
+
+    /**
+     * @param chunkSize            일괄 저장 시 한 트랜잭션에서 처리할 최대 건수
+     * @param primaryFallback      읽기 복제본에서 토큰을 찾지 못하면 주 DB에서 다시 조회할지 여부 (복제본 사용 시 true)
+     * @param maxSessionsPerMember 사용자별 최대 세션 수
+     */
+    public JpaRefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                                RefreshTokenJdbcRepository refreshTokenJdbcRepository,
+                                TransactionTemplate transactionTemplate,
+                                int chunkSize,
+                                boolean primaryFallback,
+                                int maxSessionsPerMember) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenJdbcRepository = refreshTokenJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        this.primaryFallback = primaryFallback;
+        this.maxSessionsPerMember = maxSessionsPerMember;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>조회 없이 원자적 upsert 문 하나로 저장합니다. (MariaDB: {@code INSERT ... ON DUPLICATE KEY UPDATE})
+     * 이어서 상한을 넘는 세션을 정리합니다. 두 문장 모두 다시 실행해도 결과가 같으므로 트랜잭션 없이 auto-commit으로 실행하여
+     * BEGIN/COMMIT 왕복을 생략합니다.</p>
+     */
+    @Override
+    public void save(TokenEntry entry) {
+        refreshTokenJdbcRepository.upsert(entry);
+        refreshTokenJdbcRepository.evictExcessSessions(entry.memberNo(), maxSessionsPerMember);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>세션별로 마지막 항목만 남긴 뒤 {@code chunkSize}건씩 나누어 각각 별도 트랜잭션에서 upsert 배치로 저장하고,
+     * 같은 트랜잭션에서 해당 사용자들의 초과 세션을 정리합니다.</p>
+     */
+    @Override
+    public void saveAll(List<TokenEntry> tokens) {
+        Map<SessionKey, TokenEntry> latestBySession = new LinkedHashMap<>();
+        tokens.forEach(entry -> latestBySession.put(new SessionKey(entry.memberNo(), entry.sessionId()), entry));
+
+        List<TokenEntry> unique = new ArrayList<>(latestBySession.values());
+        for (int from = 0; from < unique.size(); from += chunkSize) {
+            List<TokenEntry> chunk = unique.subList(from, Math.min(from + chunkSize, unique.size()));
+            Set<Long> memberNos = new HashSet<>();
+            chunk.forEach(entry -> memberNos.add(entry.memberNo()));
+            transactionTemplate.executeWithoutResult(status -> {
+                refreshTokenJdbcRepository.upsertAll(chunk);
+                refreshTokenJdbcRepository.evictExcessSessions(memberNos, maxSessionsPerMember);
+            });
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>읽기 전용 트랜잭션(복제본)에서 먼저 조회하고, 없으면 발급 직후의 복제 지연일 수 있으므로 주 DB에서 한 번 더 조회합니다.</p>
+     */
+    @Override
+    public Optional<RefreshToken> findByToken(String token) {
+        byte[] tokenHash = TokenDigest.of(token).toByteArray();
+        Optional<RefreshToken> found =
+                readOnlyTransactionTemplate.execute(status -> refreshTokenRepository.findByTokenHash(tokenHash));
+        if (found.isPresent() || !primaryFallback) {
+            return found;
+        }
+        return transactionTemplate.execute(status -> refreshTokenRepository.findByTokenHash(tokenHash));
+    }
+
+    @Override
+    @Transactional
+    public boolean deleteByToken(String token) {
+        return refreshTokenRepository.deleteByTokenHash(TokenDigest.of(token).toByteArray()) > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>(member_no, session_id) 인덱스를 이용한 단일 DELETE 문으로 처리합니다.</p>
+     */
+    @Override
+    @Transactional
+    public int deleteByMemberNo(Long memberNo) {
+        return refreshTokenRepository.deleteByMemberNo(memberNo);
+    }
+
+    /**
+     * 만료된 토큰을 최대 {@code limit}건까지 삭제합니다.
+     * <p>id 조회(행 잠금)와 삭제를 하나의 짧은 트랜잭션으로 처리하여 잠금 범위를 배치 크기로 제한합니다.
+     * 다른 노드가 잠근 행은 건너뛰므로, 여러 노드의 정리 작업이 겹쳐도 서로 다른 행을 삭제합니다.</p>
+     *
+     * @param now   만료 기준 시간
+     * @param limit 한 번에 삭제할 최대 건수
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int purgeExpired(LocalDateTime now, int limit) {
+        List<Long> expiredIds = refreshTokenRepository.lockExpiredIds(now, limit);
+        if (expiredIds.isEmpty()) {
+            return 0;
+        }
+        return refreshTokenRepository.deleteByIdIn(expiredIds);
+    }
+
+    private record SessionKey(Long memberNo, String sessionId) {
+    }
+}
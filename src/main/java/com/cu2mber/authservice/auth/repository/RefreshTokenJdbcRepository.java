@@ -0,0 +1,262 @@
+package com.cu2mber.authservice.auth.repository;
+
+import com.cu2mber.authservice.auth.util.TokenDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * JPA를 거치지 않고 JDBC로 refresh_tokens 테이블에 직접 쓰는 레포지토리
+ * <p>
+ * 토큰 저장은 "조회 후 INSERT/UPDATE" 대신 DB가 제공하는 원자적 upsert 문 하나로 처리합니다.
+ * (member_no, session_id) 유니크 제약을 기준으로 동작하므로 같은 세션의 로그인이 동시에 들어와도 제약 위반이나 재시도 없이 마지막 쓰기가 반영됩니다.
+ * </p>
+ * <ul>
+ * <li>MariaDB/MySQL: {@code INSERT ... ON DUPLICATE KEY UPDATE}</li>
+ * <li>PostgreSQL: {@code INSERT ... ON CONFLICT (member_no, session_id) DO UPDATE}</li>
+ * <li>H2: {@code MERGE INTO ... KEY (member_no, session_id)}</li>
+ * <li>그 외: UPDATE 후 갱신된 행이 없으면 INSERT (경합으로 INSERT가 실패하면 UPDATE 한 번 더)</li>
+ * </ul>
+ * <p>DB 종류는 생성 시점이 아니라 처음 저장할 때 확인해 기억합니다. 기동 직후 DB에 잠시 연결할 수 없어도
+ * 느린 UPDATE/INSERT 방식에 고정되지 않도록, 확인에 실패하면 그 요청만 UPDATE/INSERT 방식으로 처리하고 다음 요청에서 다시 확인합니다.</p>
+ * <p>{@code GenerationType.IDENTITY} 엔티티는 Hibernate가 INSERT를 배치로 묶지 못하므로 일괄 저장도 이 레포지토리의 JDBC 배치를 사용합니다.
+ * 호출 측 트랜잭션 안에서 실행됩니다.</p>
+ */
+@Repository
+@Slf4j
+public class RefreshTokenJdbcRepository {
+
+    private static final String COLUMNS = "(member_no, session_id, role, token, token_hash, issued_at, expiry_date)";
+    private static final String VALUES = "(:memberNo, :sessionId, :role, :token, :tokenHash, :issuedAt, :expiryDate)";
+
+    private static final String UPDATE_TOKEN =
+            "UPDATE refresh_tokens SET role = :role, token = :token, token_hash = :tokenHash, issued_at = :issuedAt, "
+                    + "expiry_date = :expiryDate WHERE member_no = :memberNo AND session_id = :sessionId";
+
+    /**
+     * 상한을 넘는 세션(최근 발급 순으로 {@code maxSessions}번째 이후)의 id
+     */
+    private static final String SELECT_EXCESS_SESSION_IDS =
+            "SELECT id FROM refresh_tokens WHERE member_no = :memberNo "
+                    + "ORDER BY issued_at DESC, id DESC LIMIT 1000 OFFSET :maxSessions";
+
+    private static final String SELECT_MEMBERS_OVER_LIMIT =
+            "SELECT member_no FROM refresh_tokens WHERE member_no IN (:memberNos) "
+                    + "GROUP BY member_no HAVING COUNT(*) > :maxSessions";
+
+    private static final String DELETE_BY_IDS = "DELETE FROM refresh_tokens WHERE id IN (:ids)";
+
+    private static final String INSERT_TOKEN = "INSERT INTO refresh_tokens " + COLUMNS + " VALUES " + VALUES;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Supplier<String> databaseProductName;
+
+    /**
+     * 확인한 DB 종류, 아직 확인하지 못했으면 null
+     */
+    private volatile Dialect dialect;
+
+    @Autowired
+    public RefreshTokenJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this(jdbcTemplate, () -> databaseProductName(dataSource));
+    }
+
+    /**
+     * @param databaseProductName DB 제품명을 확인하는 함수, 확인할 수 없으면 null 반환
+     */
+    RefreshTokenJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate, Supplier<String> databaseProductName) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseProductName = databaseProductName;
+    }
+
+    /**
+     * 세션의 리프레시 토큰을 저장합니다. 이미 있으면 새 토큰으로 교체합니다.
+     *
+     * @param entry 저장할 토큰
+     */
+    public void upsert(RefreshTokenStore.TokenEntry entry) {
+        SqlParameterSource parameters = toParameters(entry);
+        String upsertSql = dialect().upsertSql;
+        if (upsertSql != null) {
+            jdbcTemplate.update(upsertSql, parameters);
+            return;
+        }
+        updateOrInsert(parameters);
+    }
+
+    /**
+     * 여러 세션의 리프레시 토큰을 배치로 저장합니다.
+     * <p>upsert 문을 지원하는 DB에서는 건수와 무관하게 배치 한 번으로 처리합니다.</p>
+     *
+     * @param tokens 저장할 토큰 목록 (memberNo, sessionId 중복 없음)
+     */
+    public void upsertAll(List<RefreshTokenStore.TokenEntry> tokens) {
+        String upsertSql = dialect().upsertSql;
+        if (upsertSql == null) {
+            tokens.forEach(this::upsert);
+            return;
+        }
+        SqlParameterSource[] batch = tokens.stream()
+                .map(RefreshTokenJdbcRepository::toParameters)
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(upsertSql, batch);
+    }
+
+    /**
+     * 사용자의 세션 수가 상한을 넘으면 가장 오래전에 발급된 세션부터 삭제합니다.
+     * <p>(member_no, session_id) 인덱스 범위 조회 한 번으로 초과분만 읽으며, 보통은 빈 결과입니다.</p>
+     *
+     * @return 삭제된 세션 수
+     */
+    public int evictExcessSessions(Long memberNo, int maxSessions) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_EXCESS_SESSION_IDS,
+                new MapSqlParameterSource()
+                        .addValue("memberNo", memberNo)
+                        .addValue("maxSessions", maxSessions),
+                Long.class);
+        return ids.isEmpty() ? 0 : jdbcTemplate.update(DELETE_BY_IDS, new MapSqlParameterSource("ids", ids));
+    }
+
+    /**
+     * 여러 사용자에 대해 {@link #evictExcessSessions(Long, int)}를 수행합니다.
+     * <p>상한을 넘은 사용자를 집계 쿼리 한 번으로 먼저 찾으므로, 대부분의 사용자는 추가 조회가 없습니다.</p>
+     *
+     * @return 삭제된 세션 수
+     */
+    public int evictExcessSessions(Collection<Long> memberNos, int maxSessions) {
+        if (memberNos.isEmpty()) {
+            return 0;
+        }
+        List<Long> overLimit = jdbcTemplate.queryForList(SELECT_MEMBERS_OVER_LIMIT,
+                new MapSqlParameterSource()
+                        .addValue("memberNos", memberNos)
+                        .addValue("maxSessions", maxSessions),
+                Long.class);
+        int evicted = 0;
+        for (Long memberNo : overLimit) {
+            evicted += evictExcessSessions(memberNo, maxSessions);
+        }
+        return evicted;
+    }
+
+    /**
+     * refresh_tokens 테이블의 대략적인 행 수를 반환합니다.
+     * <p>모니터링용으로, 전체를 세는 {@code COUNT(*)} 대신 DB가 관리하는 통계값(MariaDB/MySQL {@code information_schema.TABLES.TABLE_ROWS},
+     * PostgreSQL {@code pg_class.reltuples}, H2 {@code ROW_COUNT_ESTIMATE})을 읽습니다. 통계를 지원하지 않는 DB만 {@code COUNT(*)}를 실행합니다.</p>
+     *
+     * @return 추정 행 수
+     */
+    public long estimatedRowCount() {
+        Long count = jdbcTemplate.getJdbcTemplate().queryForObject(dialect().estimatedCountSql, Long.class);
+        return count == null ? 0L : Math.max(0L, count);
+    }
+
+    private void updateOrInsert(SqlParameterSource parameters) {
+        if (jdbcTemplate.update(UPDATE_TOKEN, parameters) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_TOKEN, parameters);
+        } catch (DuplicateKeyException e) {
+            // UPDATE와 INSERT 사이에 다른 요청이 먼저 INSERT한 경우
+            jdbcTemplate.update(UPDATE_TOKEN, parameters);
+        }
+    }
+
+    /**
+     * DB 종류를 반환합니다. 처음 확인에 성공하면 기억하고, 실패하면 이번 호출만 {@link Dialect#OTHER}로 처리합니다.
+     */
+    Dialect dialect() {
+        Dialect resolved = dialect;
+        if (resolved != null) {
+            return resolved;
+        }
+        String productName = databaseProductName.get();
+        if (productName == null) {
+            return Dialect.OTHER;
+        }
+        resolved = Dialect.of(productName);
+        if (resolved == Dialect.OTHER) {
+            log.warn("upsert 문을 지원하지 않는 DB({})입니다. UPDATE/INSERT 방식으로 저장합니다.", productName);
+        }
+        dialect = resolved;
+        return resolved;
+    }
+
+    private static String databaseProductName(DataSource dataSource) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            log.warn("DB 종류를 확인하지 못했습니다. 이번 저장은 UPDATE/INSERT 방식으로 처리하고 다음 저장에서 다시 확인합니다.", e);
+            return null;
+        }
+    }
+
+    /**
+     * DB 종류별 upsert 문과 행 수 추정 문
+     */
+    enum Dialect {
+
+        MARIADB("INSERT INTO refresh_tokens " + COLUMNS + " VALUES " + VALUES
+                + " ON DUPLICATE KEY UPDATE role = VALUES(role), token = VALUES(token), token_hash = VALUES(token_hash),"
+                + " issued_at = VALUES(issued_at), expiry_date = VALUES(expiry_date)",
+                "SELECT TABLE_ROWS FROM information_schema.TABLES "
+                        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'refresh_tokens'"),
+        POSTGRESQL("INSERT INTO refresh_tokens " + COLUMNS + " VALUES " + VALUES
+                + " ON CONFLICT (member_no, session_id) DO UPDATE SET role = EXCLUDED.role, token = EXCLUDED.token, token_hash = EXCLUDED.token_hash,"
+                + " issued_at = EXCLUDED.issued_at, expiry_date = EXCLUDED.expiry_date",
+                "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass('refresh_tokens')"),
+        H2("MERGE INTO refresh_tokens " + COLUMNS + " KEY (member_no, session_id) VALUES " + VALUES,
+                "SELECT ROW_COUNT_ESTIMATE FROM INFORMATION_SCHEMA.TABLES "
+                        + "WHERE TABLE_SCHEMA = SCHEMA() AND UPPER(TABLE_NAME) = 'REFRESH_TOKENS'"),
+        OTHER(null, "SELECT COUNT(*) FROM refresh_tokens");
+
+        /**
+         * upsert 문, 지원하지 않는 DB이면 null
+         */
+        private final String upsertSql;
+
+        /**
+         * 대략적인 행 수를 읽는 문
+         */
+        private final String estimatedCountSql;
+
+        Dialect(String upsertSql, String estimatedCountSql) {
+            this.upsertSql = upsertSql;
+            this.estimatedCountSql = estimatedCountSql;
+        }
+
+        static Dialect of(String databaseProductName) {
+            return switch (databaseProductName) {
+                case "MariaDB", "MySQL" -> MARIADB;
+                case "PostgreSQL" -> POSTGRESQL;
+                case "H2" -> H2;
+                default -> OTHER;
+            };
+        }
+    }
+
+    private static SqlParameterSource toParameters(RefreshTokenStore.TokenEntry entry) {
+        return new MapSqlParameterSource()
+                .addValue("memberNo", entry.memberNo())
+                .addValue("sessionId", entry.sessionId())
+                .addValue("role", entry.role())
+                .addValue("token", entry.token())
+                .addValue("tokenHash", TokenDigest.of(entry.token()).toByteArray())
+                .addValue("issuedAt", Timestamp.valueOf(entry.issuedAt()))
+                .addValue("expiryDate", Timestamp.valueOf(entry.expiryDate()));
+    }
+}
@@ -1,13 +1,14 @@
 package com.cu2mber.authservice.auth.repository;
 
 import com.cu2mber.authservice.auth.domain.RefreshToken;
-import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,22 +18,60 @@ import java.util.Optional;
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
     /**
-     * 사용자 번호로 토큰 정보 조회
+     * 사용자의 세션별 토큰 정보를 최근 발급 순으로 조회
      */
-    Optional<RefreshToken> findByMemberNo(Long memberNo);
+    List<RefreshToken> findByMemberNoOrderByIssuedAtDesc(Long memberNo);
 
     /**
-     * 토큰 문자열(String)로 토큰 정보 조회
-     * <p>사용자가 헤더에 담아 보낸 '문자열'과 DB의 '문자열'을 비교합니다.</p>
+     * 토큰 다이제스트로 토큰 정보 조회
+     * <p>사용자가 헤더에 담아 보낸 토큰의 SHA-256 다이제스트를 유니크 인덱스(token_hash)로 조회합니다.</p>
+     *
+     * @param tokenHash 토큰 문자열의 SHA-256 다이제스트 (32바이트)
      */
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
 
     /**
-     * 특정 일시보다 이전(Before)인 만료 시간을 가진 토큰 일괄 삭제
-     * @param now 현재 시간
+     * 다이제스트가 아직 채워지지 않은 기존 토큰을 id 순으로 조회 (데이터 이관용)
+     */
+    List<RefreshToken> findByTokenHashIsNullOrderByIdAsc(Pageable pageable);
+
+    /**
+     * 토큰 다이제스트로 토큰 삭제
+     * <p>조회 후 삭제하지 않고 유니크 인덱스를 이용한 단일 DELETE 문으로 처리합니다.</p>
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
+    /**
+     * 사용자 번호로 모든 세션의 토큰 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.memberNo = :memberNo")
+    int deleteByMemberNo(@Param("memberNo") Long memberNo);
+
+    /**
+     * 특정 일시보다 이전에 만료된 토큰의 id를 만료 시간 순으로 최대 {@code limit}건 조회하고 행 잠금을 겁니다. (트랜잭션 안에서 호출)
+     * <p>expiry_date 인덱스 범위 조회로 처리됩니다.
+     * 다른 노드의 정리 작업이 이미 잠근 행은 기다리지 않고 건너뛰므로(SKIP LOCKED, MariaDB 10.6 이상),
+     * 여러 노드가 동시에 실행해도 같은 행을 두고 잠금 대기하거나 중복 삭제하지 않고 서로 다른 배치를 나누어 처리합니다.</p>
+     *
+     * @param now 기준 시간
+     */
+    @Query(value = "SELECT id FROM refresh_tokens WHERE expiry_date < :now ORDER BY expiry_date LIMIT :limit "
+            + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockExpiredIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * id 목록에 해당하는 토큰 일괄 삭제
+     *
+     * @return 삭제된 행 수
      */
     @Modifying
-    @Transactional
-    @Query("DELETE FROM RefreshToken r WHERE r.expiryDate < :now")
-    void deleteByExpiryDateBefore(@Param("now")LocalDateTime now);
+    @Query("DELETE FROM RefreshToken r WHERE r.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,179 @@
+package com.cu2mber.authservice.auth.repository;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * refresh_tokens 테이블 전체를 id 커서로 나누어 훑는 관리 작업용 JDBC 레포지토리
+ * <p>
+ * 모든 조회는 {@code (afterId, toId]} 구간이나 사용자 번호 목록으로 범위가 정해져 있어, 한 문장이 읽는 행 수는 테이블 크기와 무관하게
+ * 구간 크기로 제한됩니다. 영속성 컨텍스트를 거치지 않으므로 처리한 행이 메모리에 쌓이지 않습니다.
+ * 토큰 원문은 읽지 않습니다.
+ * </p>
+ */
+@Repository
+public class RefreshTokenScanRepository {
+
+    private static final String SELECT_MAX_ID = "SELECT MAX(id) FROM refresh_tokens";
+
+    /**
+     * {@code afterId} 다음부터 최대 {@code limit}행으로 이루어진 구간의 끝 id와 행 수 (PK 범위 조회)
+     */
+    private static final String SELECT_WINDOW =
+            "SELECT MAX(id) AS last_id, COUNT(*) AS row_count FROM "
+                    + "(SELECT id FROM refresh_tokens WHERE id > :afterId ORDER BY id LIMIT :limit) w";
+
+    private static final String SESSION_COLUMNS = "id, member_no, session_id, role, issued_at, expiry_date";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public RefreshTokenScanRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 세션 한 행 (토큰 원문 제외)
+     */
+    public record SessionRow(long id, long memberNo, String sessionId, String role,
+                             LocalDateTime issuedAt, LocalDateTime expiryDate) {
+    }
+
+    /**
+     * 일괄 폐기 조건. null인 항목은 조건에서 제외합니다.
+     * <p>권한이 기록되지 않은(role 컬럼 추가 이전에 발급된) 세션은 어떤 권한 조건에도 맞는 것으로 봅니다.</p>
+     *
+     * @param role         토큰 발급 시 권한
+     * @param issuedBefore 이 일시 이전에 발급된 세션
+     */
+    public record RevokeFilter(String role, LocalDateTime issuedBefore) {
+    }
+
+    /**
+     * 구간 정보
+     *
+     * @param lastId   구간의 마지막 id
+     * @param rowCount 구간의 행 수
+     */
+    public record Window(long lastId, long rowCount) {
+    }
+
+    /**
+     * 현재 가장 큰 id, 테이블이 비어 있으면 0
+     */
+    public long maxId() {
+        Long maxId = jdbcTemplate.getJdbcTemplate().queryForObject(SELECT_MAX_ID, Long.class);
+        return maxId == null ? 0L : maxId;
+    }
+
+    /**
+     * {@code afterId} 다음 구간을 구합니다.
+     *
+     * @return 구간, 더 이상 행이 없으면 null
+     */
+    public Window nextWindow(long afterId, int limit) {
+        return jdbcTemplate.queryForObject(SELECT_WINDOW,
+                new MapSqlParameterSource()
+                        .addValue("afterId", afterId)
+                        .addValue("limit", limit),
+                (rs, rowNum) -> {
+                    long rowCount = rs.getLong("row_count");
+                    return rowCount == 0 ? null : new Window(rs.getLong("last_id"), rowCount);
+                });
+    }
+
+    /**
+     * {@code (afterId, toId]} 구간에서 조건에 맞는 세션을 조회합니다.
+     */
+    public List<SessionRow> findInWindow(long afterId, long toId, RevokeFilter filter) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("toId", toId);
+        String sql = "SELECT " + SESSION_COLUMNS + " FROM refresh_tokens WHERE id > :afterId AND id <= :toId"
+                + conditions(filter, parameters) + " ORDER BY id";
+        return jdbcTemplate.query(sql, parameters, (rs, rowNum) -> toSessionRow(rs));
+    }
+
+    /**
+     * 사용자 번호 목록에 해당하는 세션 중 조건에 맞는 세션을 조회합니다. (member_no 인덱스 사용)
+     */
+    public List<SessionRow> findByMemberNos(Collection<Long> memberNos, RevokeFilter filter) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("memberNos", memberNos);
+        String sql = "SELECT " + SESSION_COLUMNS + " FROM refresh_tokens WHERE member_no IN (:memberNos)"
+                + conditions(filter, parameters) + " ORDER BY id";
+        return jdbcTemplate.query(sql, parameters, (rs, rowNum) -> toSessionRow(rs));
+    }
+
+    /**
+     * {@code (afterId, toId]} 구간에서 만료되지 않은 세션을 id 순으로 한 행씩 전달합니다.
+     */
+    public void streamActiveInWindow(long afterId, long toId, LocalDateTime now, RowCallbackHandler handler) {
+        jdbcTemplate.query("SELECT " + SESSION_COLUMNS + " FROM refresh_tokens "
+                        + "WHERE id > :afterId AND id <= :toId AND expiry_date > :now ORDER BY id",
+                new MapSqlParameterSource()
+                        .addValue("afterId", afterId)
+                        .addValue("toId", toId)
+                        .addValue("now", Timestamp.valueOf(now)),
+                handler);
+    }
+
+    /**
+     * id 목록에 해당하는 세션 중 조건에 여전히 맞는 세션을 조회하고 행 잠금을 겁니다. (트랜잭션 안에서 호출)
+     * <p>조회와 삭제 사이에 같은 세션으로 다시 로그인(토큰 교체)한 경우 새 세션을 지우지 않도록 조건을 다시 확인하며,
+     * 잠근 행은 트랜잭션이 끝날 때까지 바뀌지 않으므로 반환된 행이 곧 {@link #deleteByIds}로 삭제될 행입니다.</p>
+     */
+    public List<SessionRow> lockByIds(Collection<Long> ids, RevokeFilter filter) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource("ids", ids);
+        String sql = "SELECT " + SESSION_COLUMNS + " FROM refresh_tokens WHERE id IN (:ids)"
+                + conditions(filter, parameters) + " ORDER BY id FOR UPDATE";
+        return jdbcTemplate.query(sql, parameters, (rs, rowNum) -> toSessionRow(rs));
+    }
+
+    /**
+     * id 목록에 해당하는 세션 중 조건에 여전히 맞는 세션을 삭제합니다.
+     *
+     * @return 삭제된 행 수
+     */
+    public int deleteByIds(Collection<Long> ids, RevokeFilter filter) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource("ids", ids);
+        return jdbcTemplate.update("DELETE FROM refresh_tokens WHERE id IN (:ids)" + conditions(filter, parameters),
+                parameters);
+    }
+
+    /**
+     * 현재 행을 {@link SessionRow}로 변환합니다. ({@link #streamActiveInWindow}의 콜백에서도 사용)
+     */
+    public static SessionRow toSessionRow(ResultSet rs) throws SQLException {
+        Timestamp issuedAt = rs.getTimestamp("issued_at");
+        return new SessionRow(rs.getLong("id"), rs.getLong("member_no"), rs.getString("session_id"),
+                rs.getString("role"), issuedAt == null ? null : issuedAt.toLocalDateTime(),
+                rs.getTimestamp("expiry_date").toLocalDateTime());
+    }
+
+    private static String conditions(RevokeFilter filter, MapSqlParameterSource parameters) {
+        StringBuilder conditions = new StringBuilder();
+        if (filter.role() != null) {
+            conditions.append(" AND (role = :role OR role IS NULL)");
+            parameters.addValue("role", filter.role());
+        }
+        if (filter.issuedBefore() != null) {
+            conditions.append(" AND issued_at < :issuedBefore");
+            parameters.addValue("issuedBefore", Timestamp.valueOf(filter.issuedBefore()));
+        }
+        return conditions.toString();
+    }
+}
@@ -0,0 +1,76 @@
+package com.cu2mber.authservice.auth.repository;
+
+import com.cu2mber.authservice.auth.domain.RefreshToken;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 리프레시 토큰 저장소 추상화
+ * <p>
+ * 서비스 계층은 이 인터페이스만 사용하며, 실제 저장 엔진은 설정({@code auth.refresh-token.store})으로 선택합니다.
+ * <ul>
+ * <li>{@code jpa} (기본값): {@link JpaRefreshTokenStore} - RDS에 저장</li>
+ * <li>{@code memory}: {@link InMemoryRefreshTokenStore} - 노드 메모리에 저장하며, 선택적으로 RDS에 지연 기록(write-behind)</li>
+ * </ul>
+ * </p>
+ * <p>
+ * 토큰은 (사용자 번호, 세션 ID) 단위로 저장되며, 사용자별 세션 수가 상한({@code auth.refresh-token.max-sessions-per-member})을 넘으면
+ * 가장 오래전에 발급된 세션부터 제거합니다.
+ * </p>
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 세션의 리프레시 토큰을 저장합니다. 같은 세션에 토큰이 있으면 새 토큰으로 교체합니다.
+     *
+     * @param entry 저장할 토큰
+     */
+    void save(TokenEntry entry);
+
+    /**
+     * 여러 세션의 리프레시 토큰을 한 번에 저장합니다. 이미 토큰이 있는 세션은 새 토큰으로 교체합니다.
+     * <p>같은 세션이 여러 번 포함된 경우 목록에서 마지막 항목이 저장됩니다.</p>
+     *
+     * @param tokens 저장할 토큰 목록
+     */
+    void saveAll(List<TokenEntry> tokens);
+
+    /**
+     * 토큰 문자열로 저장된 리프레시 토큰을 조회합니다.
+     *
+     * @param token 리프레시 토큰 문자열
+     * @return 저장된 토큰 정보, 없으면 빈 Optional
+     */
+    Optional<RefreshToken> findByToken(String token);
+
+    /**
+     * 토큰 문자열로 저장된 리프레시 토큰을 삭제합니다.
+     *
+     * @param token 리프레시 토큰 문자열
+     * @return 삭제된 토큰이 있으면 true
+     */
+    boolean deleteByToken(String token);
+
+    /**
+     * 사용자의 모든 세션의 리프레시 토큰을 삭제합니다. (모든 기기에서 로그아웃)
+     *
+     * @param memberNo 사용자 고유 번호
+     * @return 삭제된 세션 수
+     */
+    int deleteByMemberNo(Long memberNo);
+
+    /**
+     * 저장 단위
+     *
+     * @param memberNo   사용자 고유 번호
+     * @param sessionId  세션(기기) 식별자
+     * @param role       사용자 권한
+     * @param token      발급된 리프레시 토큰 문자열
+     * @param issuedAt   발급 일시
+     * @param expiryDate 토큰 만료 일시
+     */
+    record TokenEntry(Long memberNo, String sessionId, String role, String token, LocalDateTime issuedAt, LocalDateTime expiryDate) {
+    }
+}
@@ -1,8 +1,11 @@
 package com.cu2mber.authservice.auth.service;
 
 import com.cu2mber.authservice.auth.dto.AccessToken;
+import com.cu2mber.authservice.auth.dto.IssueRequest;
 import com.cu2mber.authservice.auth.dto.TokenResponse;
 
+import java.util.List;
+
 /**
  * 인증 및 토큰 관리 비즈니스 로직을 정의하는 서비스 인터페이스입니다.
  * <p>Access Token과 Refresh Token의 발급, 갱신 및 로그아웃 처리를 담당합니다.</p>
@@ -10,20 +13,33 @@ import com.cu2mber.authservice.auth.dto.TokenResponse;
 public interface AuthService {
 
     /**
-     * 신규 토큰 세트(Access, Refresh)를 발급하고 Refresh Token을 저장합니다.
+     * 신규 토큰 세트(Access, Refresh)를 발급하고 Refresh Token을 세션 단위로 저장합니다.
+     * <p>같은 세션의 기존 토큰은 교체되며, 다른 세션(기기)의 토큰에는 영향을 주지 않습니다.</p>
+     *
+     * @param memberNo  사용자 고유 번호
+     * @param role      사용자 권한
+     * @param sessionId 세션(기기) 식별자, null이면 새 세션을 생성
+     * @return 생성된 Access Token과 Refresh Token, 세션 식별자를 담은 DTO
+     */
+    TokenResponse createTokens(Long memberNo, String role, String sessionId);
+
+    /**
+     * 여러 사용자의 토큰 세트를 한 번에 발급하고 Refresh Token을 일괄 저장합니다.
+     * <p>대량 세션 생성(회원 이관, SSO 가져오기 등)에 사용합니다.</p>
      *
-     * @param memberNo 사용자 고유 번호
-     * @param role     사용자 권한
-     * @return 생성된 Access Token과 Refresh Token 정보를 담은 DTO
+     * @param requests 사용자 번호 및 권한 목록
+     * @return 요청 순서와 동일한 순서의 토큰 목록
      */
-    TokenResponse createTokens(Long memberNo, String role);
+    List<TokenResponse> createTokens(List<IssueRequest> requests);
 
     /**
      * 전달받은 Refresh Token의 유효성을 검증하여 새로운 Access Token을 발급합니다.
      *
      * @param refreshToken 클라이언트로부터 전달받은 리프레시 토큰
      * @return 갱신된 Access Token 정보를 담은 DTO
-     * @throws RuntimeException 토큰이 존재하지 않거나 만료/위조된 경우 발생
+     * @throws com.cu2mber.authservice.auth.exception.TokenNotFoundException 저장소에 토큰이 없는 경우 발생
+     * @throws com.cu2mber.authservice.auth.exception.TokenExpiredException 토큰이 만료된 경우 발생
+     * @throws com.cu2mber.authservice.auth.exception.InvalidTokenException 토큰이 위조되었거나 리프레시 토큰이 아닌 경우 발생
      */
     AccessToken refreshAccessToken(String refreshToken);
 
@@ -31,6 +47,17 @@ public interface AuthService {
      * 로그아웃 요청 시 저장된 Refresh Token을 삭제합니다.
      *
      * @param refreshToken 무효화할 리프레시 토큰 문자열
+     * @throws com.cu2mber.authservice.auth.exception.TokenNotFoundException 이미 로그아웃되었거나 저장소에 토큰이 없는 경우 발생
      */
     void logout(String refreshToken);
+
+    /**
+     * 전달받은 Refresh Token의 사용자가 가진 모든 세션을 삭제합니다. (모든 기기에서 로그아웃)
+     *
+     * @param refreshToken 사용자를 식별할 리프레시 토큰 문자열
+     * @return 삭제된 세션 수
+     * @throws com.cu2mber.authservice.auth.exception.TokenNotFoundException 저장소에 토큰이 없는 경우 발생
+     * @throws com.cu2mber.authservice.auth.exception.InvalidTokenException 토큰이 위조되었거나 리프레시 토큰이 아닌 경우 발생
+     */
+    int logoutAll(String refreshToken);
 }
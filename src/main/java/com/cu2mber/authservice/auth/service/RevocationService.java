@@ -0,0 +1,56 @@
+package com.cu2mber.authservice.auth.service;
+
+import java.util.Collection;
+
+/**
+ * 액세스 토큰 폐기 비즈니스 로직을 정의하는 서비스 인터페이스입니다.
+ * <p>
+ * 폐기는 "사용자(또는 사용자의 한 세션)의 특정 시각 이전에 발급된 액세스 토큰 전체"를 단위로 하며,
+ * 현재 노드의 메모리 폐기 목록에 즉시 반영되고 DB에 기록되어 다른 노드에도 전파됩니다.
+ * </p>
+ */
+public interface RevocationService {
+
+    /**
+     * 사용자의 현재 시각 이전에 발급된 액세스 토큰을 모두 폐기합니다.
+     *
+     * @param memberNo 사용자 고유 번호
+     */
+    void revokeAccessTokens(Long memberNo);
+
+    /**
+     * 여러 사용자의 현재 시각 이전에 발급된 액세스 토큰을 한 번에 폐기합니다.
+     * <p>폐기 기록은 호출 측 트랜잭션(없으면 새 트랜잭션) 하나로 저장합니다. 일괄 세션 폐기 등 대량 처리에 사용합니다.</p>
+     *
+     * @param memberNos 사용자 고유 번호 목록
+     */
+    void revokeAccessTokens(Collection<Long> memberNos);
+
+    /**
+     * 사용자의 한 세션에서 현재 시각 이전에 발급된 액세스 토큰을 폐기합니다.
+     * <p>같은 사용자의 다른 세션(기기)의 토큰은 유효하게 유지됩니다. 세션 클레임(sid)이 없는 이전 토큰은 함께 폐기됩니다.</p>
+     *
+     * @param memberNo  사용자 고유 번호
+     * @param sessionId 세션 식별자
+     */
+    void revokeSessionAccessTokens(Long memberNo, String sessionId);
+
+    /**
+     * 권한으로 현재 시각 이전에 발급된 모든 사용자의 액세스 토큰을 폐기합니다.
+     * <p>사용자 수와 무관하게 규칙 하나만 기록하므로, 대상 사용자를 모두 나열하기 어려운 일괄 폐기에 사용합니다.</p>
+     *
+     * @param role 권한, null이면 모든 권한
+     */
+    void revokeRoleAccessTokens(String role);
+
+    /**
+     * 사용자의 세션에 새로 발급할 액세스 토큰의 발급 시각을 반환합니다.
+     * <p>폐기는 폐기 시각과 같은 초에 발급된 토큰까지 포함하므로, 폐기 직후 같은 초에 발급하는 토큰은 다음 초를 발급 시각으로 사용합니다.</p>
+     *
+     * @param memberNo  사용자 고유 번호
+     * @param role      새 토큰의 권한
+     * @param sessionId 세션 식별자
+     * @return 발급 시각 (epoch millis)
+     */
+    long accessTokenIssuedAt(Long memberNo, String role, String sessionId);
+}
@@ -0,0 +1,55 @@
+package com.cu2mber.authservice.auth.service;
+
+import com.cu2mber.authservice.auth.dto.AdminJobStatus;
+import com.cu2mber.authservice.auth.dto.BulkRevokeRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 관리자용 세션 일괄 작업을 정의하는 서비스 인터페이스입니다.
+ * <p>
+ * refresh_tokens 테이블을 id 커서로 일정 크기의 구간씩 나누어 처리하므로, 행 수와 무관하게 메모리 사용량이 일정하고
+ * 한 트랜잭션이 잠그는 행도 구간 크기로 제한됩니다. 진행 상황은 작업 식별자로 조회합니다.
+ * </p>
+ */
+public interface SessionAdminService {
+
+    /**
+     * 조건에 맞는 세션을 일괄 폐기하는 작업을 시작합니다.
+     * <p>작업은 백그라운드에서 실행되며, 삭제된 세션의 액세스 토큰도 세션 단위로 함께 폐기합니다.
+     * 권한만 조건으로 지정하면 액세스 토큰은 권한 규칙 하나로 폐기합니다.</p>
+     *
+     * @param request 폐기 조건 (권한, 사용자 번호 목록, 발급 일시 상한 중 하나 이상)
+     * @return 시작된 작업의 진행 상황
+     * @throws IllegalArgumentException 조건이 하나도 없는 경우
+     */
+    AdminJobStatus startBulkRevocation(BulkRevokeRequest request);
+
+    /**
+     * 활성 세션 내보내기 작업을 등록합니다. 실제 내보내기는 {@link #exportActiveSessions}로 수행합니다.
+     *
+     * @return 등록된 작업의 진행 상황
+     */
+    AdminJobStatus createExportJob();
+
+    /**
+     * 만료되지 않은 세션을 한 줄에 하나씩 JSON(NDJSON)으로 출력 스트림에 씁니다. 토큰 원문은 포함하지 않습니다.
+     *
+     * @param jobId {@link #createExportJob()}으로 등록한 작업 식별자
+     * @param out   응답 출력 스트림
+     */
+    void exportActiveSessions(String jobId, OutputStream out) throws IOException;
+
+    /**
+     * 작업 진행 상황을 조회합니다.
+     */
+    Optional<AdminJobStatus> findJob(String jobId);
+
+    /**
+     * 최근 작업 목록을 최신 순으로 조회합니다.
+     */
+    List<AdminJobStatus> recentJobs();
+}
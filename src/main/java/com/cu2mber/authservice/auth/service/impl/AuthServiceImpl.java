@@ -1,103 +1,285 @@
 package com.cu2mber.authservice.auth.service.impl;
 
+import com.cu2mber.authservice.auth.audit.AuditEventType;
+import com.cu2mber.authservice.auth.audit.AuditLog;
 import com.cu2mber.authservice.auth.domain.RefreshToken;
 import com.cu2mber.authservice.auth.dto.AccessToken;
+import com.cu2mber.authservice.auth.dto.IssueRequest;
 import com.cu2mber.authservice.auth.dto.TokenResponse;
-import com.cu2mber.authservice.auth.repository.RefreshTokenRepository;
+import com.cu2mber.authservice.auth.exception.AuthException;
+import com.cu2mber.authservice.auth.exception.InvalidTokenException;
+import com.cu2mber.authservice.auth.exception.TokenExpiredException;
+import com.cu2mber.authservice.auth.exception.TokenNotFoundException;
+import com.cu2mber.authservice.auth.repository.RefreshTokenStore;
 import com.cu2mber.authservice.auth.service.AuthService;
+import com.cu2mber.authservice.auth.service.RevocationService;
 import com.cu2mber.authservice.auth.util.JWTUtil;
+import com.cu2mber.authservice.auth.util.RefreshSingleFlight;
+import com.cu2mber.authservice.auth.util.RefreshTokenValidationCache;
+import com.cu2mber.authservice.auth.util.TokenDigest;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * AuthService 인터페이스의 구현체
- * <p>JWTUtil을 통한 토큰 생성 및 검증, RefreshTokenRepository를 통한 DB 관리를 수행합니다.</p>
+ * <p>JWTUtil을 통한 토큰 생성 및 검증, RefreshTokenStore를 통한 토큰 저장소 관리를 수행합니다.</p>
+ * <p>트랜잭션은 저장소 구현체가 연산 단위로 관리하므로, 메모리 저장소 사용 시에는 DB 커넥션을 점유하지 않습니다.</p>
  */
 @Service
-@RequiredArgsConstructor
-@Transactional
 public class AuthServiceImpl implements AuthService {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final JWTUtil jwtUtil;
+    private final RevocationService revocationService;
+    private final RefreshTokenValidationCache validationCache;
+    private final RefreshSingleFlight refreshSingleFlight;
+    private final AuditLog auditLog;
+
+    /**
+     * 발급/재발급/로그아웃 처리 시간 측정용 타이머
+     */
+    private final Timer issueTimer;
+    private final Timer batchIssueTimer;
+    private final Timer refreshTimer;
+    private final Timer logoutTimer;
+    private final Timer logoutAllTimer;
+
+    public AuthServiceImpl(RefreshTokenStore refreshTokenStore, JWTUtil jwtUtil, RevocationService revocationService,
+                           RefreshTokenValidationCache validationCache, RefreshSingleFlight refreshSingleFlight,
+                           AuditLog auditLog, MeterRegistry meterRegistry) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.jwtUtil = jwtUtil;
+        this.revocationService = revocationService;
+        this.validationCache = validationCache;
+        this.refreshSingleFlight = refreshSingleFlight;
+        this.auditLog = auditLog;
+        this.issueTimer = operationTimer(meterRegistry, "issue");
+        this.batchIssueTimer = operationTimer(meterRegistry, "issue_batch");
+        this.refreshTimer = operationTimer(meterRegistry, "refresh");
+        this.logoutTimer = operationTimer(meterRegistry, "logout");
+        this.logoutAllTimer = operationTimer(meterRegistry, "logout_all");
+    }
 
     /**
      * {@inheritDoc}
-     * <p>JWTUtil을 사용해 토큰을 생성하며, 생성된 Refresh Token은 DB(Amazon RDS)에 저장합니다.</p>
+     * <p>JWTUtil을 사용해 토큰을 생성하며, 생성된 Refresh Token은 저장소(기본: Amazon RDS)에 저장합니다.</p>
      */
     @Override
-    public TokenResponse createTokens(Long memberNo, String role) {
-        // JWTUtil을 사용하여 토큰 생성
-        String accessToken = jwtUtil.createToken("access", memberNo, role, 1800000L); // 30분
-        String refreshToken = jwtUtil.createToken("refresh", memberNo, role, 1209600000L); // 14일
+    public TokenResponse createTokens(Long memberNo, String role, String sessionId) {
+        return issueTimer.record(() -> issue(memberNo, role, sessionIdOrNew(sessionId)));
+    }
 
-        // 생성된 Refresh Token을 RDS에 저장
-        saveRefreshToken(memberNo, refreshToken);
+    private TokenResponse issue(Long memberNo, String role, String sessionId) {
+        // JWTUtil을 사용하여 토큰 생성 (두 토큰 모두 세션 식별자를 sid 클레임으로 기록)
+        String accessToken = jwtUtil.createToken("access", memberNo, role, sessionId, 1800000L, // 30분
+                revocationService.accessTokenIssuedAt(memberNo, role, sessionId));
+        String refreshToken = jwtUtil.createToken("refresh", memberNo, role, sessionId, 1209600000L, // 14일
+                System.currentTimeMillis());
 
-        return new TokenResponse(accessToken, refreshToken);
+        // 생성된 Refresh Token을 세션 단위로 저장 (같은 세션의 기존 토큰이 있다면 교체)
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenStore.save(new RefreshTokenStore.TokenEntry(memberNo, sessionId, role, refreshToken, now, now.plusDays(14)));
+        auditLog.record(AuditEventType.ISSUE, memberNo, 0L);
+
+        return new TokenResponse(accessToken, refreshToken, sessionId);
     }
 
     /**
      * {@inheritDoc}
-     * <p>전달받은 리프레시 토큰의 유효성(DB 대조 및 JWT 만료/변조)을 검증하고,
-     * 검증 성공 시 새로운 액세스 토큰을 생성하여 반환합니다.</p>
+     * <p>모든 토큰을 먼저 생성한 뒤 Refresh Token을 저장소에 한 번에 넘겨 배치로 저장합니다.</p>
      */
     @Override
-    public AccessToken refreshAccessToken(String refreshToken) {
-        // DB에 해당 토큰이 존재하는지 확인
-        RefreshToken storedToken = refreshTokenRepository.findByToken(refreshToken)
-                .orElseThrow(() -> new RuntimeException("존재하지 않는 리프레시 토큰입니다."));
+    public List<TokenResponse> createTokens(List<IssueRequest> requests) {
+        return batchIssueTimer.record(() -> issueAll(requests));
+    }
 
-        // JWT 자체 만료 확인
-        try {
-            Claims claims = jwtUtil.getPayload(refreshToken);
+    private List<TokenResponse> issueAll(List<IssueRequest> requests) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiryDate = now.plusDays(14);
+        List<TokenResponse> responses = new ArrayList<>(requests.size());
+        List<RefreshTokenStore.TokenEntry> entries = new ArrayList<>(requests.size());
+
+        for (IssueRequest request : requests) {
+            String sessionId = sessionIdOrNew(request.sessionId());
 
-            String userRole = claims.get("role", String.class);
+            String accessToken = jwtUtil.createToken("access", request.memberNo(), request.role(), sessionId, 1800000L, // 30분
+                    revocationService.accessTokenIssuedAt(request.memberNo(), request.role(), sessionId));
+            String refreshToken = jwtUtil.createToken("refresh", request.memberNo(), request.role(), sessionId,
+                    1209600000L, System.currentTimeMillis()); // 14일
 
-            String newAccessToken = jwtUtil.createToken("access", storedToken.getMemberNo(), userRole, 1800000L);
+            responses.add(new TokenResponse(accessToken, refreshToken, sessionId));
+            entries.add(new RefreshTokenStore.TokenEntry(request.memberNo(), sessionId, request.role(), refreshToken,
+                    now, expiryDate));
+        }
 
-            return new AccessToken(newAccessToken);
+        refreshTokenStore.saveAll(entries);
+        for (IssueRequest request : requests) {
+            auditLog.record(AuditEventType.ISSUE, request.memberNo(), 0L);
+        }
+        return responses;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>서명/만료/카테고리를 먼저 검증한 뒤에만 저장소를 조회합니다. 위조·만료 토큰은
+     * 거절 캐시에 등록되어 반복 요청 시 서명 검증과 DB 조회 없이 거절되며(미등록 토큰은 다른 노드의 쓰기 지연을 고려해 짧은 시간만),
+     * 최근 저장소 대조를 통과한 토큰은 승인 캐시로 짧은 시간 동안 DB 조회를 생략합니다.</p>
+     * <p>같은 토큰으로 동시에 들어온 요청은 {@link RefreshSingleFlight}로 합쳐 한 번만 처리하고 결과를 공유합니다.</p>
+     */
+    @Override
+    public AccessToken refreshAccessToken(String refreshToken) {
+        return refreshTimer.record(() -> {
+            TokenDigest digest = TokenDigest.of(refreshToken);
+            return refreshSingleFlight.execute(digest, () -> refresh(refreshToken, digest));
+        });
+    }
+
+    private AccessToken refresh(String refreshToken, TokenDigest digest) {
+        AuthException rejection = validationCache.rejection(digest);
+        if (rejection != null) {
+            throw rejection;
+        }
 
+        // JWT 서명/만료 확인 (저장소 조회 전)
+        Claims claims;
+        try {
+            claims = jwtUtil.getPayload(refreshToken);
         } catch (ExpiredJwtException e) {
-            throw new RuntimeException("리프레시 토큰이 만료되었습니다. 다시 로그인해주세요.");
-        } catch (Exception e) {
-            throw new RuntimeException("유효하지 않은 토큰입니다.");
+            validationCache.reject(digest, TokenExpiredException.REFRESH_TOKEN);
+            throw TokenExpiredException.REFRESH_TOKEN;
+        } catch (JwtException | IllegalArgumentException e) {
+            validationCache.reject(digest, InvalidTokenException.INSTANCE);
+            throw InvalidTokenException.INSTANCE;
+        }
+        if (!"refresh".equals(claims.get("category", String.class))) {
+            validationCache.reject(digest, InvalidTokenException.INSTANCE);
+            throw InvalidTokenException.INSTANCE;
+        }
+
+        // 저장소에 해당 토큰이 존재하는지 확인 (최근 확인된 토큰은 생략)
+        Long memberNo = validationCache.validatedMemberNo(digest);
+        if (memberNo == null) {
+            Optional<RefreshToken> storedToken = refreshTokenStore.findByToken(refreshToken);
+            if (storedToken.isEmpty()) {
+                validationCache.rejectNotFound(digest);
+                throw TokenNotFoundException.REFRESH_TOKEN;
+            }
+            memberNo = storedToken.get().getMemberNo();
+            validationCache.validated(digest, memberNo, claims.getExpiration().getTime());
         }
+
+        String userRole = claims.get("role", String.class);
+        String sessionId = claims.get("sid", String.class);
+        String newAccessToken = jwtUtil.createToken("access", memberNo, userRole, sessionId, 1800000L,
+                revocationService.accessTokenIssuedAt(memberNo, userRole, sessionId));
+        auditLog.record(AuditEventType.REFRESH, memberNo, digest.prefix());
+        return new AccessToken(newAccessToken);
     }
 
     /**
      * {@inheritDoc}
-     * <p>DB에서 해당 토큰 존재 여부를 확인한 후 삭제 처리를 진행합니다.</p>
+     * <p>저장소에서 해당 토큰을 삭제하며, 삭제된 토큰이 없으면 예외를 발생시킵니다.
+     * 삭제 후에는 같은 세션(sid 클레임)에 이미 발급된 액세스 토큰도 폐기하여 즉시 사용할 수 없도록 하며, 다른 세션(기기)의 토큰은 유지합니다.
+     * sid 클레임이 없는 이전 리프레시 토큰은 세션을 알 수 없으므로 사용자의 모든 액세스 토큰을 폐기합니다.</p>
      */
     @Override
     public void logout(String refreshToken) {
-        RefreshToken storedToken = refreshTokenRepository.findByToken(refreshToken)
-                .orElseThrow(() -> new RuntimeException("이미 로그아웃되었거나 존재하지 않는 토큰입니다."));
+        logoutTimer.record(() -> {
+            TokenDigest digest = TokenDigest.of(refreshToken);
+            boolean deleted = refreshTokenStore.deleteByToken(refreshToken);
+            validationCache.reject(digest, TokenNotFoundException.REFRESH_TOKEN);
+            refreshSingleFlight.invalidate(digest);
+            if (!deleted) {
+                throw TokenNotFoundException.ALREADY_LOGGED_OUT;
+            }
+
+            Claims claims = claimsOf(refreshToken);
+            Long memberNo = claims == null ? null : claims.get("memberNo", Long.class);
+            auditLog.record(AuditEventType.LOGOUT, memberNo == null ? 0L : memberNo, digest.prefix());
+            if (memberNo != null) {
+                String sessionId = claims.get("sid", String.class);
+                if (sessionId != null) {
+                    revocationService.revokeSessionAccessTokens(memberNo, sessionId);
+                } else {
+                    revocationService.revokeAccessTokens(memberNo);
+                }
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>토큰을 검증해 사용자를 확인한 뒤 (member_no) 인덱스를 사용하는 단일 삭제로 모든 세션을 제거하고,
+     * 이미 발급된 액세스 토큰도 폐기합니다. 이 노드의 승인 캐시에 남은 해당 사용자의 항목도 사용하지 않도록 합니다.</p>
+     */
+    @Override
+    public int logoutAll(String refreshToken) {
+        return logoutAllTimer.record(() -> {
+            TokenDigest digest = TokenDigest.of(refreshToken);
+            Claims claims;
+            try {
+                claims = jwtUtil.getPayload(refreshToken);
+            } catch (ExpiredJwtException e) {
+                throw TokenExpiredException.REFRESH_TOKEN;
+            } catch (JwtException | IllegalArgumentException e) {
+                throw InvalidTokenException.INSTANCE;
+            }
+            if (!"refresh".equals(claims.get("category", String.class))) {
+                throw InvalidTokenException.INSTANCE;
+            }
+
+            // 이미 로그아웃된 토큰으로 다른 세션을 지울 수 없도록 저장소에 있는 토큰인지 확인
+            Long memberNo = refreshTokenStore.findByToken(refreshToken)
+                    .map(RefreshToken::getMemberNo)
+                    .orElseThrow(() -> TokenNotFoundException.ALREADY_LOGGED_OUT);
+
+            int deleted = refreshTokenStore.deleteByMemberNo(memberNo);
+            validationCache.reject(digest, TokenNotFoundException.REFRESH_TOKEN);
+            validationCache.invalidateMember(memberNo);
+            refreshSingleFlight.invalidate(digest);
+            revocationService.revokeAccessTokens(memberNo);
+            auditLog.record(AuditEventType.LOGOUT_ALL, memberNo, deleted);
+            return deleted;
+        });
+    }
 
-        refreshTokenRepository.delete(storedToken);
+    /**
+     * 세션 식별자가 없으면 새로 생성합니다.
+     */
+    private static String sessionIdOrNew(String sessionId) {
+        return sessionId == null || sessionId.isBlank() ? UUID.randomUUID().toString() : sessionId;
     }
 
     /**
-     * 발급된 리프레시 토큰을 Amazon RDS에 저장합니다.
-     * <p>이미 해당 사용자의 토큰이 존재할 경우 새로운 토큰으로 업데이트합니다.</p>
+     * 저장소에 있던 리프레시 토큰의 Claims(사용자 번호, 세션 식별자)를 읽습니다. 만료된 토큰이어도 Claims는 사용합니다.
      *
-     * @param memberNo 사용자 고유 번호
-     * @param token    발급된 리프레시 토큰 문자열
+     * @return Claims, 읽을 수 없으면 null
      */
-    private void saveRefreshToken(Long memberNo, String token) {
-        // 기존 토큰이 있다면 업데이트, 없으면 새로 생성
-        RefreshToken refreshToken = refreshTokenRepository.findByMemberNo(memberNo)
-                .map(existingToken -> {
-                    existingToken.updateToken(token, LocalDateTime.now().plusDays(14));
-                    return existingToken;
-                })
-                .orElse(new RefreshToken(memberNo, token, LocalDateTime.now().plusDays(14)));
-
-        refreshTokenRepository.save(refreshToken);
+    private Claims claimsOf(String refreshToken) {
+        try {
+            return jwtUtil.getPayload(refreshToken);
+        } catch (ExpiredJwtException e) {
+            return e.getClaims();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Timer operationTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.token.operation")
+                .description("토큰 발급/재발급/로그아웃 처리 시간")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,173 @@
+package com.cu2mber.authservice.auth.service.impl;
+
+import com.cu2mber.authservice.auth.domain.AccessTokenRevocation;
+import com.cu2mber.authservice.auth.repository.AccessTokenRevocationRepository;
+import com.cu2mber.authservice.auth.service.RevocationService;
+import com.cu2mber.authservice.auth.util.AccessTokenRevocationList;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * RevocationService 인터페이스의 구현체
+ * <p>
+ * 폐기 기록을 DB에 저장하고 메모리 폐기 목록({@link AccessTokenRevocationList})에 반영합니다.
+ * 기동 시 만료되지 않은 기록을 모두 읽어 목록을 복원하며, 이후에는 폐기 시각 기준으로 새 기록만 주기적으로 읽어 다른 노드의 폐기를 반영합니다.
+ * </p>
+ * <p>
+ * IDENTITY id는 발급 순서대로 커밋되지 않으므로(여러 노드의 동시 로그아웃, 일괄 폐기의 구간 트랜잭션) id 커서로는 늦게 커밋된 기록을 건너뛸 수 있습니다.
+ * 대신 마지막으로 읽은 폐기 시각에서 {@code auth.revocation.sync-overlap-ms}(기본 60초)만큼 되돌아간 지점부터 다시 읽습니다.
+ * 같은 기록을 여러 번 반영해도 결과는 같으며, 폐기 시각을 정한 뒤 이 시간 안에 커밋되지 않은 기록(노드 간 시계 차이 포함)만 놓칠 수 있습니다.
+ * </p>
+ */
+@Service
+@Slf4j
+public class RevocationServiceImpl implements RevocationService {
+
+    /**
+     * 액세스 토큰 유효 기간 (폐기 기록은 이 기간이 지나면 의미가 없음)
+     */
+    private static final Duration ACCESS_TOKEN_TTL = Duration.ofMillis(1800000L);
+
+    private static final int SYNC_BATCH_SIZE = 1000;
+
+    /**
+     * 동기화 커서의 초기값 (만료되지 않은 기록 전체)
+     */
+    private static final LocalDateTime SYNC_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final AccessTokenRevocationRepository accessTokenRevocationRepository;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final Duration syncOverlap;
+
+    /**
+     * 마지막으로 메모리에 반영한 폐기 기록 중 가장 늦은 폐기 시각 (다음 동기화는 여기서 {@code syncOverlap}만큼 되돌아가 시작)
+     */
+    private volatile LocalDateTime lastSyncedRevokedAt;
+
+    public RevocationServiceImpl(AccessTokenRevocationRepository accessTokenRevocationRepository,
+                                 AccessTokenRevocationList accessTokenRevocationList,
+                                 @Value("${auth.revocation.sync-overlap-ms:60000}") long syncOverlapMs) {
+        this.accessTokenRevocationRepository = accessTokenRevocationRepository;
+        this.accessTokenRevocationList = accessTokenRevocationList;
+        this.syncOverlap = Duration.ofMillis(syncOverlapMs);
+    }
+
+    @Override
+    public void revokeAccessTokens(Long memberNo) {
+        LocalDateTime revokedAt = LocalDateTime.now();
+        AccessTokenRevocation revocation = accessTokenRevocationRepository.save(
+                new AccessTokenRevocation(memberNo, revokedAt, revokedAt.plus(ACCESS_TOKEN_TTL)));
+
+        // 현재 노드에는 즉시 반영 (다른 노드는 다음 동기화 주기에 반영)
+        apply(revocation);
+    }
+
+    @Override
+    @Transactional
+    public void revokeAccessTokens(Collection<Long> memberNos) {
+        LocalDateTime revokedAt = LocalDateTime.now();
+        List<AccessTokenRevocation> revocations = new ArrayList<>(memberNos.size());
+        for (Long memberNo : memberNos) {
+            revocations.add(new AccessTokenRevocation(memberNo, revokedAt, revokedAt.plus(ACCESS_TOKEN_TTL)));
+        }
+        accessTokenRevocationRepository.saveAll(revocations).forEach(this::apply);
+    }
+
+    @Override
+    public void revokeSessionAccessTokens(Long memberNo, String sessionId) {
+        LocalDateTime revokedAt = LocalDateTime.now();
+        apply(accessTokenRevocationRepository.save(
+                new AccessTokenRevocation(memberNo, sessionId, revokedAt, revokedAt.plus(ACCESS_TOKEN_TTL))));
+    }
+
+    @Override
+    public void revokeRoleAccessTokens(String role) {
+        LocalDateTime revokedAt = LocalDateTime.now();
+        apply(accessTokenRevocationRepository.save(
+                AccessTokenRevocation.forRole(role, revokedAt, revokedAt.plus(ACCESS_TOKEN_TTL))));
+    }
+
+    @Override
+    public long accessTokenIssuedAt(Long memberNo, String role, String sessionId) {
+        long now = System.currentTimeMillis();
+        return memberNo == null ? now : accessTokenRevocationList.issuedAt(memberNo, role, sessionId, now);
+    }
+
+    /**
+     * 기동 완료 시 만료되지 않은 폐기 기록으로 메모리 폐기 목록을 복원합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        int loaded = syncFromDatabase();
+        if (loaded > 0) {
+            log.info("액세스 토큰 폐기 기록 {}건 복원", loaded);
+        }
+    }
+
+    /**
+     * 다른 노드에서 추가된 폐기 기록을 메모리 폐기 목록에 반영합니다.
+     * <p>되돌아가 읽는 구간의 기록은 매번 다시 반영되므로, 반환값에는 이미 반영했던 기록도 포함됩니다.</p>
+     *
+     * @return 읽어서 반영한 기록 수
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval-ms:5000}")
+    public synchronized int syncFromDatabase() {
+        LocalDateTime watermark = lastSyncedRevokedAt;
+        LocalDateTime cursorAt = watermark == null ? SYNC_START : watermark.minus(syncOverlap);
+        long cursorId = 0L;
+        LocalDateTime now = LocalDateTime.now();
+
+        int synced = 0;
+        List<AccessTokenRevocation> batch;
+        do {
+            batch = accessTokenRevocationRepository.findActiveAfter(cursorAt, cursorId, now,
+                    PageRequest.of(0, SYNC_BATCH_SIZE));
+            batch.forEach(this::apply);
+            if (!batch.isEmpty()) {
+                AccessTokenRevocation last = batch.get(batch.size() - 1);
+                cursorAt = last.getRevokedAt();
+                cursorId = last.getId();
+            }
+            synced += batch.size();
+        } while (batch.size() == SYNC_BATCH_SIZE);
+
+        if (synced > 0 && (watermark == null || cursorAt.isAfter(watermark))) {
+            lastSyncedRevokedAt = cursorAt;
+        }
+        return synced;
+    }
+
+    /**
+     * 만료된 폐기 기록을 DB에서 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.cleanup-interval-ms:600000}")
+    @Transactional
+    public void deleteExpired() {
+        accessTokenRevocationRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private void apply(AccessTokenRevocation revocation) {
+        ZoneId zone = ZoneId.systemDefault();
+        long revokedAt = revocation.getRevokedAt().atZone(zone).toInstant().toEpochMilli();
+        long expiresAt = revocation.getExpiresAt().atZone(zone).toInstant().toEpochMilli();
+        if (revocation.getMemberNo() == null) {
+            accessTokenRevocationList.revokeRole(revocation.getRole(), revokedAt, expiresAt);
+        } else {
+            accessTokenRevocationList.revokeSession(revocation.getMemberNo(), revocation.getSessionId(),
+                    revokedAt, expiresAt);
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package com.cu2mber.authservice.auth.service.impl;
+
+import com.cu2mber.authservice.auth.audit.AuditEventType;
+import com.cu2mber.authservice.auth.audit.AuditLog;
+import com.cu2mber.authservice.auth.dto.AdminJobStatus;
+import com.cu2mber.authservice.auth.dto.BulkRevokeRequest;
+import com.cu2mber.authservice.auth.repository.RefreshTokenScanRepository;
+import com.cu2mber.authservice.auth.repository.RefreshTokenScanRepository.RevokeFilter;
+import com.cu2mber.authservice.auth.repository.RefreshTokenScanRepository.SessionRow;
+import com.cu2mber.authservice.auth.repository.RefreshTokenScanRepository.Window;
+import com.cu2mber.authservice.auth.service.RevocationService;
+import com.cu2mber.authservice.auth.service.SessionAdminService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * SessionAdminService 인터페이스의 구현체
+ * <p>
+ * 일괄 폐기는 전용 스레드 하나에서 순서대로 실행되어 동시에 여러 작업이 DB 부하를 키우지 않습니다.
+ * 구간마다 "조회 → 삭제"를 하나의 짧은 트랜잭션으로 처리하고,
+ * {@code auth.admin.bulk.pause-ms}만큼 쉬어 복제 지연과 다른 요청의 잠금 대기를 줄입니다.
+ * </p>
+ * <p>
+ * 액세스 토큰은 실제로 삭제된 세션마다 세션 단위로 폐기하므로, 같은 사용자의 다른 기기는 영향을 받지 않습니다.
+ * 삭제할 행은 트랜잭션 안에서 잠근 뒤 지우고 같은 트랜잭션에서 폐기를 기록하므로, 조회 후 재로그인으로 조건에서 벗어난 세션은
+ * 삭제도 폐기도 하지 않습니다.
+ * 권한만 조건으로 지정한 경우에는 사용자 수와 무관하게 권한 규칙("이 권한으로 이 시각 이전에 발급된 토큰") 하나만 기록합니다.
+ * 규칙은 작업 시작 시 기록해 바로 적용하고, 작업 중 아직 지워지지 않은 세션으로 재발급된 토큰도 폐기되도록 끝날 때 한 번 더 기록합니다.
+ * 권한이 기록되지 않은 기존 세션은 권한 조건에 맞는 것으로 보고 삭제하며, 규칙이 적용되지 않을 수 있으므로 세션 단위로 폐기하고
+ * 작업 상태의 {@code roleUnknown}으로 보고합니다.
+ * </p>
+ * <p>
+ * 작업은 RDS의 refresh_tokens 테이블을 대상으로 합니다. 메모리 저장소({@code auth.refresh-token.store=memory})를 쓰는 노드의 세션은
+ * 지우지 못하지만, 액세스 토큰 폐기는 모든 노드에 전파됩니다.
+ * </p>
+ */
+@Service
+@Slf4j
+public class SessionAdminServiceImpl implements SessionAdminService {
+
+    private static final int MAX_RECENT_JOBS = 100;
+
+    private final RefreshTokenScanRepository scanRepository;
+    private final RevocationService revocationService;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditLog auditLog;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final long pauseNanos;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "session-admin");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 최근 작업 (등록 순). 상한을 넘으면 끝난 작업만 오래된 것부터 제거하며, 대기 중이거나 실행 중인 작업은 남깁니다.
+     */
+    private final Map<String, AdminJob> jobs = new LinkedHashMap<>();
+
+    public SessionAdminServiceImpl(RefreshTokenScanRepository scanRepository,
+                                   RevocationService revocationService,
+                                   TransactionTemplate transactionTemplate,
+                                   AuditLog auditLog,
+                                   ObjectMapper objectMapper,
+                                   @Value("${auth.admin.bulk.chunk-size:1000}") int chunkSize,
+                                   @Value("${auth.admin.bulk.pause-ms:10}") long pauseMs) {
+        this.scanRepository = scanRepository;
+        this.revocationService = revocationService;
+        this.transactionTemplate = transactionTemplate;
+        this.auditLog = auditLog;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.pauseNanos = TimeUnit.MILLISECONDS.toNanos(pauseMs);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>사용자 번호 목록이 있으면 {@code chunkSize}명씩 member_no 인덱스로 조회하고,
+     * 없으면 테이블 전체를 id 구간으로 훑으며 조건에 맞는 세션을 찾습니다.
+     * 전체를 훑는 경우 시작 시점의 최대 id까지만 처리합니다.</p>
+     */
+    @Override
+    public AdminJobStatus startBulkRevocation(BulkRevokeRequest request) {
+        if (!request.hasCriteria()) {
+            throw new IllegalArgumentException("폐기 조건이 하나 이상 필요합니다.");
+        }
+        RevokeFilter filter = new RevokeFilter(request.role(), request.issuedBefore());
+        List<Long> memberNos = request.memberNos() == null
+                ? List.of()
+                : List.copyOf(new LinkedHashSet<>(request.memberNos()));
+        boolean roleRule = memberNos.isEmpty() && filter.issuedBefore() == null;
+
+        AdminJob job = register("REVOKE");
+        executor.execute(() -> run(job, () -> {
+            if (memberNos.isEmpty()) {
+                revokeByScan(job, filter, roleRule);
+            } else {
+                revokeByMembers(job, memberNos, filter);
+            }
+        }));
+        return job.status();
+    }
+
+    @Override
+    public AdminJobStatus createExportJob() {
+        return register("EXPORT").status();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>구간마다 조회한 행을 바로 스트림에 쓰고 flush하므로, 응답 크기와 무관하게 한 구간 분량만 메모리에 머뭅니다.</p>
+     */
+    @Override
+    public void exportActiveSessions(String jobId, OutputStream out) throws IOException {
+        AdminJob job;
+        synchronized (jobs) {
+            job = jobs.get(jobId);
+        }
+        if (job == null) {
+            throw new IllegalArgumentException("등록되지 않은 작업입니다: " + jobId);
+        }
+        try {
+            run(job, () -> export(job, out));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public Optional<AdminJobStatus> findJob(String jobId) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(jobId)).map(AdminJob::status);
+        }
+    }
+
+    @Override
+    public List<AdminJobStatus> recentJobs() {
+        List<AdminJobStatus> statuses = new ArrayList<>();
+        synchronized (jobs) {
+            jobs.values().forEach(job -> statuses.add(0, job.status()));
+        }
+        return statuses;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void revokeByScan(AdminJob job, RevokeFilter filter, boolean roleRule) {
+        if (roleRule) {
+            revocationService.revokeRoleAccessTokens(filter.role());
+        }
+        long maxId = scanRepository.maxId();
+        long cursor = 0L;
+        while (cursor < maxId) {
+            Window window = scanRepository.nextWindow(cursor, chunkSize);
+            if (window == null) {
+                break;
+            }
+            long to = Math.min(window.lastId(), maxId);
+            List<SessionRow> revoked = revokeChunk(scanRepository.findInWindow(cursor, to, filter), filter, roleRule);
+            cursor = to;
+            job.advance(window.rowCount(), revoked, (double) cursor / maxId);
+            pause();
+        }
+        if (roleRule) {
+            // 작업 중 아직 지워지지 않은 세션으로 재발급된 액세스 토큰까지 폐기
+            revocationService.revokeRoleAccessTokens(filter.role());
+        }
+    }
+
+    private void revokeByMembers(AdminJob job, List<Long> memberNos, RevokeFilter filter) {
+        for (int from = 0; from < memberNos.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, memberNos.size());
+            List<Long> chunk = memberNos.subList(from, to);
+            List<SessionRow> revoked = revokeChunk(scanRepository.findByMemberNos(chunk, filter), filter, false);
+            job.advance(chunk.size(), revoked, (double) to / memberNos.size());
+            pause();
+        }
+    }
+
+    /**
+     * 조건에 여전히 맞는 세션을 잠가 삭제하고, 같은 트랜잭션에서 삭제된 세션의 액세스 토큰 폐기를 기록합니다.
+     *
+     * @param roleRule 권한 규칙으로 액세스 토큰을 폐기하는 경우 true (권한이 기록되지 않은 세션만 세션 단위로 폐기)
+     * @return 삭제된 세션
+     */
+    private List<SessionRow> revokeChunk(List<SessionRow> rows, RevokeFilter filter, boolean roleRule) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (SessionRow row : rows) {
+            ids.add(row.id());
+        }
+
+        List<SessionRow> deleted = transactionTemplate.execute(status -> {
+            List<SessionRow> locked = scanRepository.lockByIds(ids, filter);
+            List<Long> lockedIds = new ArrayList<>(locked.size());
+            for (SessionRow row : locked) {
+                lockedIds.add(row.id());
+            }
+            scanRepository.deleteByIds(lockedIds, filter);
+            for (SessionRow row : locked) {
+                if (!roleRule || row.role() == null) {
+                    revocationService.revokeSessionAccessTokens(row.memberNo(), row.sessionId());
+                }
+            }
+            return locked;
+        });
+        List<SessionRow> revoked = deleted == null ? List.of() : deleted;
+        auditLog.record(AuditEventType.BULK_REVOKE, 0L, revoked.size());
+        return revoked;
+    }
+
+    private void export(AdminJob job, OutputStream out) {
+        LocalDateTime now = LocalDateTime.now();
+        long maxId = scanRepository.maxId();
+        long cursor = 0L;
+        long[] written = new long[1];
+        while (cursor < maxId) {
+            Window window = scanRepository.nextWindow(cursor, chunkSize);
+            if (window == null) {
+                break;
+            }
+            long to = Math.min(window.lastId(), maxId);
+            written[0] = 0;
+            scanRepository.streamActiveInWindow(cursor, to, now, rs -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(RefreshTokenScanRepository.toSessionRow(rs)));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                written[0]++;
+            });
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            cursor = to;
+            job.advance(window.rowCount(), written[0], 0L, (double) cursor / maxId);
+        }
+    }
+
+    private void run(AdminJob job, Runnable task) {
+        job.start();
+        try {
+            task.run();
+            job.complete();
+            log.info("관리자 {} 작업 완료 (id={}, 확인 {}건, 처리 {}건)", job.type, job.id, job.scanned, job.affected);
+        } catch (RuntimeException e) {
+            job.fail(e);
+            log.warn("관리자 {} 작업 실패 (id={}, 확인 {}건, 처리 {}건)", job.type, job.id, job.scanned, job.affected, e);
+            throw e;
+        }
+    }
+
+    private void pause() {
+        if (pauseNanos > 0) {
+            LockSupport.parkNanos(pauseNanos);
+        }
+    }
+
+    private AdminJob register(String type) {
+        AdminJob job = new AdminJob(UUID.randomUUID().toString(), type);
+        synchronized (jobs) {
+            jobs.put(job.id, job);
+            Iterator<AdminJob> oldest = jobs.values().iterator();
+            while (jobs.size() > MAX_RECENT_JOBS && oldest.hasNext()) {
+                if (oldest.next().isFinished()) {
+                    oldest.remove();
+                }
+            }
+        }
+        return job;
+    }
+
+    /**
+     * 작업 진행 상황. 작업 스레드 하나만 갱신하고, 조회는 다른 스레드에서 합니다.
+     */
+    private static final class AdminJob {
+
+        private final String id;
+        private final String type;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile String state = "QUEUED";
+        private volatile long scanned;
+        private volatile long affected;
+        private volatile long roleUnknown;
+        private volatile double progress;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private AdminJob(String id, String type) {
+            this.id = id;
+            this.type = type;
+        }
+
+        private void start() {
+            state = "RUNNING";
+        }
+
+        private boolean isFinished() {
+            return finishedAt != null;
+        }
+
+        private void advance(long scannedDelta, List<SessionRow> revoked, double progress) {
+            long roleUnknownDelta = 0;
+            for (SessionRow row : revoked) {
+                if (row.role() == null) {
+                    roleUnknownDelta++;
+                }
+            }
+            advance(scannedDelta, revoked.size(), roleUnknownDelta, progress);
+        }
+
+        private void advance(long scannedDelta, long affectedDelta, long roleUnknownDelta, double progress) {
+            this.scanned += scannedDelta;
+            this.affected += affectedDelta;
+            this.roleUnknown += roleUnknownDelta;
+            this.progress = progress;
+        }
+
+        private void complete() {
+            progress = 1.0;
+            finishedAt = LocalDateTime.now();
+            state = "COMPLETED";
+        }
+
+        private void fail(Exception e) {
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            finishedAt = LocalDateTime.now();
+            state = "FAILED";
+        }
+
+        private AdminJobStatus status() {
+            return new AdminJobStatus(id, type, state, scanned, affected, roleUnknown, progress,
+                    startedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.cu2mber.authservice.auth.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 액세스 토큰 폐기 목록 (메모리 전용)
+ * <p>
+ * "사용자(memberNo)의 특정 시각 이전에 발급된 액세스 토큰은 모두 폐기"(사용자 항목, 모든 세션 로그아웃/관리자 폐기)와
+ * "사용자의 한 세션(sid 클레임)에서 특정 시각 이전에 발급된 액세스 토큰은 폐기"(세션 항목, 로그아웃),
+ * "특정 권한(role 클레임)으로 특정 시각 이전에 발급된 액세스 토큰은 모두 폐기"(권한 규칙, 관리자 일괄 폐기)라는 항목을 보관하며,
+ * {@link JWTFilter}가 요청마다 I/O 없이 O(1)로 조회합니다.
+ * 권한 규칙은 사용자 수와 무관하게 규칙 하나로 표현되므로, 대량 폐기도 사용자별 항목을 만들지 않습니다.
+ * sid 클레임이 없는 토큰(세션 클레임 도입 이전 발급분)은 어느 세션의 것인지 알 수 없으므로, 그 사용자의 세션 항목이 하나라도 있으면 폐기 대상으로 봅니다.
+ * </p>
+ * <p>
+ * 항목은 만료 시각(폐기 시각 + 액세스 토큰 유효 기간) 기준으로 시간 구간(bucket)에 나누어 담습니다.
+ * 각 구간은 memberNo 기준 블룸 필터와 정확한 집합(memberNo 또는 (memberNo, sid) → 폐기 시각)을 함께 가지며,
+ * 대부분을 차지하는 "폐기되지 않은 사용자" 조회는 블룸 필터에서 바로 끝나고, 블룸 필터가 양성일 때만 정확한 집합을 확인합니다.
+ * 구간 전체가 만료되면 통째로 버리므로 개별 항목을 정리할 필요가 없습니다.
+ * </p>
+ * <p>
+ * 토큰의 iat는 초 단위이므로, 폐기 시각과 같은 초에 발급된 토큰도 폐기 대상에 포함합니다(로그아웃 직전에 발급된 토큰이 살아남지 않도록).
+ * 대신 폐기 직후 같은 초에 새로 발급하는 토큰은 {@link #issuedAt(long, String, String, long)}으로 발급 시각을 다음 초로 올려 폐기 대상에서 벗어나게 합니다.
+ * </p>
+ */
+@Component
+public class AccessTokenRevocationList {
+
+    private final long bucketMillis;
+    private final int bloomBits;
+    private final Map<Long, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param bucketMillis 시간 구간의 길이 (밀리초)
+     * @param bloomBits    구간별 블룸 필터 비트 수 (2의 거듭제곱으로 올림)
+     */
+    public AccessTokenRevocationList(@Value("${auth.revocation.bucket-ms:300000}") long bucketMillis,
+                                     @Value("${auth.revocation.bloom-bits:65536}") int bloomBits) {
+        this.bucketMillis = bucketMillis;
+        this.bloomBits = Integer.highestOneBit(Math.max(64, bloomBits - 1) << 1);
+    }
+
+    /**
+     * 사용자의 {@code revokedAt} 이전에 발급된 액세스 토큰을 모든 세션에서 폐기합니다.
+     *
+     * @param memberNo  사용자 고유 번호
+     * @param revokedAt 폐기 시각 (epoch millis), 이 시각이 속한 초와 그 이전에 발급된 토큰이 폐기됨
+     * @param expiresAt 항목 만료 시각 (epoch millis), 폐기 시각 이전에 발급된 토큰이 모두 만료되는 시각
+     */
+    public void revoke(long memberNo, long revokedAt, long expiresAt) {
+        revokeSession(memberNo, null, revokedAt, expiresAt);
+    }
+
+    /**
+     * 사용자의 한 세션에서 {@code revokedAt} 이전에 발급된 액세스 토큰을 폐기합니다.
+     *
+     * @param memberNo  사용자 고유 번호
+     * @param sessionId 세션 식별자, null이면 모든 세션
+     * @param revokedAt 폐기 시각 (epoch millis), 이 시각이 속한 초와 그 이전에 발급된 토큰이 폐기됨
+     * @param expiresAt 항목 만료 시각 (epoch millis), 폐기 시각 이전에 발급된 토큰이 모두 만료되는 시각
+     */
+    public void revokeSession(long memberNo, String sessionId, long revokedAt, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        // 토큰의 iat는 초 단위이므로 폐기 시각도 초 단위로 내림
+        long revokedAtSeconds = revokedAt / 1000;
+        buckets.computeIfAbsent(expiresAt / bucketMillis, index -> new Bucket(bloomBits))
+                .add(memberNo, sessionId, revokedAtSeconds);
+    }
+
+    /**
+     * 권한(role 클레임)으로 {@code revokedAt} 이전에 발급된 액세스 토큰을 모든 사용자에게서 폐기합니다.
+     *
+     * @param role      권한, null이면 모든 권한
+     * @param revokedAt 폐기 시각 (epoch millis), 이 시각이 속한 초와 그 이전에 발급된 토큰이 폐기됨
+     * @param expiresAt 항목 만료 시각 (epoch millis), 폐기 시각 이전에 발급된 토큰이 모두 만료되는 시각
+     */
+    public void revokeRole(String role, long revokedAt, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        buckets.computeIfAbsent(expiresAt / bucketMillis, index -> new Bucket(bloomBits))
+                .addRule(role, revokedAt / 1000);
+    }
+
+    /**
+     * 권한과 세션 클레임이 없는 토큰이 폐기되었는지 확인합니다.
+     *
+     * @param memberNo 토큰의 사용자 고유 번호
+     * @param issuedAt 토큰 발급 시각 (epoch millis)
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(long memberNo, long issuedAt) {
+        return isRevoked(memberNo, null, null, issuedAt);
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다.
+     *
+     * @param memberNo  토큰의 사용자 고유 번호
+     * @param role      토큰의 권한 (role 클레임), 없으면 null
+     * @param sessionId 토큰의 세션 식별자 (sid 클레임), 없으면 null
+     * @param issuedAt  토큰 발급 시각 (epoch millis)
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(long memberNo, String role, String sessionId, long issuedAt) {
+        if (buckets.isEmpty()) {
+            return false;
+        }
+        long issuedAtSeconds = issuedAt / 1000;
+        long currentIndex = System.currentTimeMillis() / bucketMillis;
+        for (Map.Entry<Long, Bucket> entry : buckets.entrySet()) {
+            // 이미 만료된 구간은 정리 작업 전이라도 무시
+            if (entry.getKey() >= currentIndex
+                    && entry.getValue().revokedAtSeconds(memberNo, role, sessionId) >= issuedAtSeconds) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 새로 발급할 토큰의 발급 시각을 정합니다.
+     * <p>사용자(또는 이 세션, 이 권한)의 가장 최근 폐기가 현재 시각과 같은 초(또는 노드 간 시계 차이로 그 이후)라면,
+     * 새 토큰이 폐기 대상에 들지 않도록 폐기된 초의 다음 초를 반환합니다.</p>
+     *
+     * @param memberNo  사용자 고유 번호
+     * @param role      새 토큰의 권한
+     * @param sessionId 새 토큰의 세션 식별자
+     * @param now       현재 시각 (epoch millis)
+     * @return 토큰에 기록할 발급 시각 (epoch millis)
+     */
+    public long issuedAt(long memberNo, String role, String sessionId, long now) {
+        if (buckets.isEmpty()) {
+            return now;
+        }
+        long latestRevokedSeconds = Long.MIN_VALUE;
+        long currentIndex = now / bucketMillis;
+        for (Map.Entry<Long, Bucket> entry : buckets.entrySet()) {
+            if (entry.getKey() >= currentIndex) {
+                latestRevokedSeconds = Math.max(latestRevokedSeconds,
+                        entry.getValue().revokedAtSeconds(memberNo, role, sessionId));
+            }
+        }
+        return latestRevokedSeconds >= now / 1000 ? (latestRevokedSeconds + 1) * 1000 : now;
+    }
+
+    /**
+     * 만료된 시간 구간을 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.bucket-ms:300000}")
+    public void evictExpired() {
+        long currentIndex = System.currentTimeMillis() / bucketMillis;
+        buckets.keySet().removeIf(index -> index < currentIndex);
+    }
+
+    /**
+     * 보관 중인 폐기 항목 수 (사용자 항목 + 세션 항목 + 권한 규칙)
+     */
+    public int size() {
+        return buckets.values().stream().mapToInt(Bucket::size).sum();
+    }
+
+    /**
+     * 세션 항목의 키
+     */
+    private record SessionKey(long memberNo, String sessionId) {
+    }
+
+    /**
+     * 하나의 시간 구간: 블룸 필터 + 정확한 집합
+     */
+    private static final class Bucket {
+
+        private final AtomicLongArray bits;
+        private final int mask;
+
+        /**
+         * 사용자 항목: memberNo → 폐기 시각 (초)
+         */
+        private final Map<Long, Long> revokedAt = new ConcurrentHashMap<>();
+
+        /**
+         * 세션 항목: (memberNo, sid) → 폐기 시각 (초)
+         */
+        private final Map<SessionKey, Long> sessionRevokedAt = new ConcurrentHashMap<>();
+
+        /**
+         * 사용자별 가장 늦은 세션 항목의 폐기 시각 (초), sid 클레임이 없는 토큰 판단용
+         */
+        private final Map<Long, Long> anySessionRevokedAt = new ConcurrentHashMap<>();
+
+        /**
+         * 권한 규칙: role → 폐기 시각 (초)
+         */
+        private final Map<String, Long> roleRevokedAt = new ConcurrentHashMap<>();
+
+        /**
+         * 모든 권한에 적용되는 규칙의 폐기 시각 (초), 없으면 {@link Long#MIN_VALUE}
+         */
+        private final AtomicLong allRolesRevokedAt = new AtomicLong(Long.MIN_VALUE);
+
+        Bucket(int bitCount) {
+            this.bits = new AtomicLongArray(bitCount >>> 6);
+            this.mask = bitCount - 1;
+        }
+
+        void add(long memberNo, String sessionId, long revokedAtSeconds) {
+            // 정확한 집합을 먼저 갱신한 뒤 블룸 필터 비트를 세워, 블룸 필터가 양성이면 집합에 항목이 있음을 보장
+            if (sessionId == null) {
+                revokedAt.merge(memberNo, revokedAtSeconds, Math::max);
+            } else {
+                sessionRevokedAt.merge(new SessionKey(memberNo, sessionId), revokedAtSeconds, Math::max);
+                anySessionRevokedAt.merge(memberNo, revokedAtSeconds, Math::max);
+            }
+            long hash = mix(memberNo);
+            setBit((int) hash & mask);
+            setBit((int) (hash >>> 32) & mask);
+        }
+
+        void addRule(String role, long revokedAtSeconds) {
+            if (role == null) {
+                allRolesRevokedAt.accumulateAndGet(revokedAtSeconds, Math::max);
+            } else {
+                roleRevokedAt.merge(role, revokedAtSeconds, Math::max);
+            }
+        }
+
+        /**
+         * 토큰에 적용되는 가장 늦은 폐기 시각 (초), 항목이 없으면 {@link Long#MIN_VALUE}
+         *
+         * @param role      토큰의 role 클레임, 없으면 null (모든 권한 규칙만 적용)
+         * @param sessionId 토큰의 sid 클레임, 없으면 null (그 사용자의 모든 세션 항목 적용)
+         */
+        long revokedAtSeconds(long memberNo, String role, String sessionId) {
+            // 권한 규칙은 몇 개뿐이므로 블룸 필터 앞에서 먼저 확인
+            long latest = allRolesRevokedAt.get();
+            if (role != null && !roleRevokedAt.isEmpty()) {
+                latest = Math.max(latest, roleRevokedAt.getOrDefault(role, Long.MIN_VALUE));
+            }
+
+            long hash = mix(memberNo);
+            if (!getBit((int) hash & mask) || !getBit((int) (hash >>> 32) & mask)) {
+                return latest;
+            }
+            latest = Math.max(latest, revokedAt.getOrDefault(memberNo, Long.MIN_VALUE));
+            Long session = sessionId == null
+                    ? anySessionRevokedAt.get(memberNo)
+                    : sessionRevokedAt.isEmpty() ? null : sessionRevokedAt.get(new SessionKey(memberNo, sessionId));
+            return session == null ? latest : Math.max(latest, session);
+        }
+
+        int size() {
+            return revokedAt.size() + sessionRevokedAt.size() + roleRevokedAt.size()
+                    + (allRolesRevokedAt.get() == Long.MIN_VALUE ? 0 : 1);
+        }
+
+        private void setBit(int index) {
+            long bit = 1L << index;
+            bits.getAndAccumulate(index >>> 6, bit, (current, b) -> current | b);
+        }
+
+        private boolean getBit(int index) {
+            return (bits.get(index >>> 6) & (1L << index)) != 0;
+        }
+
+        /**
+         * memberNo를 고르게 분산된 64비트 해시로 변환 (SplitMix64 finalizer)
+         */
+        private static long mix(long value) {
+            long z = value + 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
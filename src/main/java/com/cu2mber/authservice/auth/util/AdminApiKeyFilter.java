@@ -0,0 +1,93 @@
+package com.cu2mber.authservice.auth.util;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 관리자 API 인증 필터
+ * <p>
+ * 액세스 토큰의 role 클레임은 공개 발급 API({@code /auth/issue})에서 호출자가 지정한 값이므로 관리자 인증에 사용할 수 없습니다.
+ * 관리자 API는 설정된 관리자 키({@code auth.admin.api-keys})를 {@value #HEADER} 헤더로 보낸 요청만 허용하며,
+ * 키가 일치하면 {@link #AUTHORITY} 권한으로 인증 정보를 덮어씁니다.
+ * 키는 SHA-256 다이제스트로만 보관하고 고정 시간 비교를 사용합니다. 설정된 키가 없으면 어떤 요청도 관리자로 인증되지 않습니다.
+ * </p>
+ */
+public class AdminApiKeyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Admin-Api-Key";
+
+    /**
+     * 관리자 키로 인증된 요청의 권한
+     */
+    public static final String AUTHORITY = "ADMIN_API";
+
+    private static final byte[] INVALID_BODY = "{\"message\" : \"Invalid admin API key\"}\n".getBytes(StandardCharsets.UTF_8);
+
+    private final List<byte[]> keyDigests;
+    private final UsernamePasswordAuthenticationToken adminAuthentication =
+            UsernamePasswordAuthenticationToken.authenticated("admin-api", null, List.of(new SimpleGrantedAuthority(AUTHORITY)));
+
+    /**
+     * @param apiKeys 쉼표로 구분한 관리자 키 목록 (키 교체 시 두 개를 함께 지정), 비어 있으면 관리자 API 비활성화
+     */
+    public AdminApiKeyFilter(String apiKeys) {
+        this.keyDigests = Arrays.stream(apiKeys == null ? new String[0] : apiKeys.split(","))
+                .map(String::trim)
+                .filter(key -> !key.isEmpty())
+                .map(AdminApiKeyFilter::sha256)
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String apiKey = request.getHeader(HEADER);
+        if (apiKey == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!matches(apiKey)) {
+            response.setContentType("application/json;charset=UTF-8");
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setContentLength(INVALID_BODY.length);
+            response.getOutputStream().write(INVALID_BODY);
+            return;
+        }
+
+        SecurityContextHolder.getContext().setAuthentication(adminAuthentication);
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean matches(String apiKey) {
+        byte[] digest = sha256(apiKey);
+        boolean matched = false;
+        for (byte[] keyDigest : keyDigests) {
+            // 일치 여부와 무관하게 모든 키와 비교
+            matched |= MessageDigest.isEqual(keyDigest, digest);
+        }
+        return matched;
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.cu2mber.authservice.auth.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 인증 API 요청 제한 설정 및 제한기 모음
+ * <p>
+ * 엔드포인트별 클라이언트 IP 제한은 {@link RateLimitFilter}가 요청 본문을 읽기 전에 적용하고,
+ * 요청 본문에서 알 수 있는 사용자 번호(memberNo) 제한은 컨트롤러에서 적용합니다.
+ * 초당 허용 수가 0 이하인 항목은 제한하지 않습니다.
+ * </p>
+ */
+@Component
+public class AdmissionControl {
+
+    private final Map<String, TokenBucketLimiter> ipLimiters = new HashMap<>();
+    private final TokenBucketLimiter issueMemberLimiter;
+
+    public AdmissionControl(@Value("${auth.rate-limit.max-keys:100000}") int maxKeys,
+                            @Value("${auth.rate-limit.issue.per-ip.rate:20}") double issueIpRate,
+                            @Value("${auth.rate-limit.issue.per-ip.burst:40}") int issueIpBurst,
+                            @Value("${auth.rate-limit.issue-batch.per-ip.rate:1}") double issueBatchIpRate,
+                            @Value("${auth.rate-limit.issue-batch.per-ip.burst:2}") int issueBatchIpBurst,
+                            @Value("${auth.rate-limit.refresh.per-ip.rate:50}") double refreshIpRate,
+                            @Value("${auth.rate-limit.refresh.per-ip.burst:100}") int refreshIpBurst,
+                            @Value("${auth.rate-limit.logout.per-ip.rate:20}") double logoutIpRate,
+                            @Value("${auth.rate-limit.logout.per-ip.burst:40}") int logoutIpBurst,
+                            @Value("${auth.rate-limit.issue.per-member.rate:1}") double issueMemberRate,
+                            @Value("${auth.rate-limit.issue.per-member.burst:5}") int issueMemberBurst) {
+        putIpLimiter("/auth/issue", issueIpRate, issueIpBurst, maxKeys);
+        putIpLimiter("/auth/issue/batch", issueBatchIpRate, issueBatchIpBurst, maxKeys);
+        putIpLimiter("/auth/refresh", refreshIpRate, refreshIpBurst, maxKeys);
+        putIpLimiter("/auth/logout", logoutIpRate, logoutIpBurst, maxKeys);
+        putIpLimiter("/auth/logout/all", logoutIpRate, logoutIpBurst, maxKeys);
+        this.issueMemberLimiter = limiter(issueMemberRate, issueMemberBurst, maxKeys);
+    }
+
+    /**
+     * 요청 경로의 클라이언트 IP 제한기를 반환합니다.
+     *
+     * @return 제한기, 제한하지 않는 경로면 null
+     */
+    public TokenBucketLimiter ipLimiter(String path) {
+        return ipLimiters.get(path);
+    }
+
+    /**
+     * 사용자 번호 기준 토큰 발급 요청을 허용할지 판단합니다.
+     *
+     * @return 허용되면 0, 거절되면 다음 토큰이 채워질 때까지 남은 시간 (나노초)
+     */
+    public long tryAcquireIssue(Long memberNo) {
+        return issueMemberLimiter == null ? 0L : issueMemberLimiter.tryAcquire(memberNo);
+    }
+
+    /**
+     * 유휴 버킷을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${auth.rate-limit.sweep-interval-ms:30000}")
+    public void evictIdle() {
+        ipLimiters.values().forEach(TokenBucketLimiter::evictIdle);
+        if (issueMemberLimiter != null) {
+            issueMemberLimiter.evictIdle();
+        }
+    }
+
+    /**
+     * 거절된 요청 수 (모든 제한기 합계)
+     */
+    public long rejectedCount() {
+        long sum = issueMemberLimiter == null ? 0L : issueMemberLimiter.rejectedCount();
+        for (TokenBucketLimiter limiter : ipLimiters.values()) {
+            sum += limiter.rejectedCount();
+        }
+        return sum;
+    }
+
+    /**
+     * 버킷 수 상한에 걸려 제한 없이 통과시킨 요청 수 (모든 제한기 합계)
+     */
+    public long untrackedCount() {
+        long sum = issueMemberLimiter == null ? 0L : issueMemberLimiter.untrackedCount();
+        for (TokenBucketLimiter limiter : ipLimiters.values()) {
+            sum += limiter.untrackedCount();
+        }
+        return sum;
+    }
+
+    /**
+     * 보관 중인 버킷 수 (모든 제한기 합계)
+     */
+    public int size() {
+        int sum = issueMemberLimiter == null ? 0 : issueMemberLimiter.size();
+        for (TokenBucketLimiter limiter : ipLimiters.values()) {
+            sum += limiter.size();
+        }
+        return sum;
+    }
+
+    /**
+     * Retry-After 헤더 값 (초 단위, 올림)
+     */
+    public static String retryAfterSeconds(long waitNanos) {
+        return Long.toString(Math.max(1L, (waitNanos + 999_999_999L) / 1_000_000_000L));
+    }
+
+    private void putIpLimiter(String path, double rate, int burst, int maxKeys) {
+        TokenBucketLimiter limiter = limiter(rate, burst, maxKeys);
+        if (limiter != null) {
+            ipLimiters.put(path, limiter);
+        }
+    }
+
+    private static TokenBucketLimiter limiter(double rate, int burst, int maxKeys) {
+        return rate > 0 ? new TokenBucketLimiter(rate, burst, maxKeys) : null;
+    }
+}
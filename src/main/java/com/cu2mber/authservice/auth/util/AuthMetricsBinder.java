@@ -0,0 +1,135 @@
+package com.cu2mber.authservice.auth.util;
+
+import com.cu2mber.authservice.auth.audit.AuditLog;
+import com.cu2mber.authservice.auth.repository.InMemoryRefreshTokenStore;
+import com.cu2mber.authservice.auth.repository.RefreshTokenJdbcRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인증 서비스 내부 상태를 Micrometer 메트릭으로 노출하는 바인더
+ * <ul>
+ * <li>검증 토큰 캐시 적중/미스 및 크기</li>
+ * <li>만료 토큰 정리 건수 및 최근 배치 처리 시간</li>
+ * <li>refresh_tokens 테이블 추정 행 수 (DB 통계값을 주기적으로 샘플링, 전체 COUNT를 실행하지 않음)</li>
+ * <li>메모리 액세스 토큰 폐기 목록 크기</li>
+ * <li>메모리 저장소 사용 시 보관 중인 토큰 수와 미반영 변경 수</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthMetricsBinder implements MeterBinder {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final RefreshTokenValidationCache refreshTokenValidationCache;
+    private final AdmissionControl admissionControl;
+    private final AuditLog auditLog;
+    private final TokenCleanupScheduler tokenCleanupScheduler;
+    private final RefreshTokenJdbcRepository refreshTokenJdbcRepository;
+    private final ObjectProvider<InMemoryRefreshTokenStore> inMemoryRefreshTokenStore;
+
+    private final AtomicLong refreshTokenCount = new AtomicLong();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.jwt.verified_cache.requests", verifiedTokenCache, VerifiedTokenCache::hitCount)
+                .description("검증 토큰 캐시 조회 수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("auth.jwt.verified_cache.requests", verifiedTokenCache, VerifiedTokenCache::missCount)
+                .description("검증 토큰 캐시 조회 수")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("auth.jwt.verified_cache.size", verifiedTokenCache, VerifiedTokenCache::size)
+                .description("검증 토큰 캐시에 보관 중인 토큰 수")
+                .register(registry);
+
+        FunctionCounter.builder("auth.refresh.negative_cache.requests", refreshTokenValidationCache,
+                        RefreshTokenValidationCache::rejectedHitCount)
+                .description("리프레시 토큰 거절 캐시 조회 수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("auth.refresh.negative_cache.requests", refreshTokenValidationCache,
+                        RefreshTokenValidationCache::rejectedMissCount)
+                .description("리프레시 토큰 거절 캐시 조회 수")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("auth.refresh.positive_cache.requests", refreshTokenValidationCache,
+                        RefreshTokenValidationCache::validatedHitCount)
+                .description("리프레시 토큰 승인 캐시 조회 수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("auth.refresh.positive_cache.requests", refreshTokenValidationCache,
+                        RefreshTokenValidationCache::validatedMissCount)
+                .description("리프레시 토큰 승인 캐시 조회 수")
+                .tag("result", "miss")
+                .register(registry);
+
+        FunctionCounter.builder("auth.rate_limit.rejected", admissionControl, AdmissionControl::rejectedCount)
+                .description("요청 제한으로 거절된 요청 수")
+                .register(registry);
+        FunctionCounter.builder("auth.rate_limit.untracked", admissionControl, AdmissionControl::untrackedCount)
+                .description("버킷 수 상한에 걸려 제한 없이 통과한 요청 수")
+                .register(registry);
+        Gauge.builder("auth.rate_limit.buckets", admissionControl, AdmissionControl::size)
+                .description("요청 제한 버킷 수")
+                .register(registry);
+
+        FunctionCounter.builder("auth.audit.events", auditLog, AuditLog::writtenCount)
+                .description("감사 로그 이벤트 수")
+                .tag("result", "written")
+                .register(registry);
+        FunctionCounter.builder("auth.audit.events", auditLog, AuditLog::droppedCount)
+                .description("감사 로그 이벤트 수")
+                .tag("result", "dropped")
+                .register(registry);
+        Gauge.builder("auth.audit.backlog", auditLog, AuditLog::backlog)
+                .description("기록 대기 중인 감사 로그 이벤트 수")
+                .register(registry);
+
+        Gauge.builder("auth.revocation.size", accessTokenRevocationList, AccessTokenRevocationList::size)
+                .description("메모리 폐기 목록에 보관 중인 폐기 항목 수")
+                .register(registry);
+
+        FunctionCounter.builder("auth.cleanup.purged", tokenCleanupScheduler, TokenCleanupScheduler::purgedTotal)
+                .description("삭제된 만료 리프레시 토큰 수")
+                .register(registry);
+        TimeGauge.builder("auth.cleanup.last_batch", tokenCleanupScheduler, TimeUnit.NANOSECONDS,
+                        TokenCleanupScheduler::lastBatchNanos)
+                .description("가장 최근 만료 토큰 삭제 배치의 처리 시간")
+                .register(registry);
+
+        Gauge.builder("auth.refresh_tokens.size", refreshTokenCount, AtomicLong::get)
+                .description("refresh_tokens 테이블 추정 행 수 (DB 통계값의 주기적 샘플)")
+                .register(registry);
+
+        inMemoryRefreshTokenStore.ifAvailable(store -> {
+            Gauge.builder("auth.refresh_tokens.memory.size", store, InMemoryRefreshTokenStore::size)
+                    .description("메모리 저장소에 보관 중인 리프레시 토큰 수")
+                    .register(registry);
+            Gauge.builder("auth.refresh_tokens.memory.pending_writes", store, InMemoryRefreshTokenStore::pendingWriteCount)
+                    .description("RDS에 아직 반영되지 않은 변경 수")
+                    .register(registry);
+        });
+    }
+
+    /**
+     * refresh_tokens 테이블의 추정 행 수를 샘플링합니다.
+     * <p>InnoDB의 {@code COUNT(*)}는 인덱스 전체를 읽으므로, 모든 파드가 주기적으로 실행하지 않도록 DB 통계값을 읽습니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${auth.metrics.table-size-interval-ms:300000}")
+    public void sampleRefreshTokenCount() {
+        refreshTokenCount.set(refreshTokenJdbcRepository.estimatedRowCount());
+    }
+}
@@ -0,0 +1,74 @@
+package com.cu2mber.authservice.auth.util;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시에 처리 중인 인증 API 요청 수를 제한하는 필터
+ * <p>
+ * 가상 스레드 환경에서는 요청마다 스레드가 생성되므로 Tomcat 스레드 풀이 더 이상 상한 역할을 하지 못합니다.
+ * DB 커넥션 풀보다 훨씬 많은 요청이 동시에 커넥션을 기다리며 쌓이지 않도록,
+ * 세마포어로 동시 처리 수를 제한하고 일정 시간 안에 허가를 얻지 못한 요청은 503으로 즉시 거절합니다.
+ * </p>
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] REJECTED_BODY =
+            "{\"message\" : \"Too many concurrent requests\"}\n".getBytes(StandardCharsets.UTF_8);
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+
+    /**
+     * @param maxInFlight      동시에 처리할 최대 요청 수
+     * @param acquireTimeoutMs 허가를 기다릴 최대 시간 (밀리초)
+     */
+    public ConcurrencyLimitFilter(int maxInFlight, long acquireTimeoutMs) {
+        this.permits = new Semaphore(maxInFlight);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (!tryAcquire()) {
+            response.setContentType("application/json;charset=UTF-8");
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            response.setContentLength(REJECTED_BODY.length);
+            response.getOutputStream().write(REJECTED_BODY);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 현재 남아 있는 허가 수
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.cu2mber.authservice.auth.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최대 크기와 항목별 만료 시각을 가지는 경량 인메모리 캐시
+ * <p>
+ * 항목은 지정된 만료 시각(epoch millis)이 지나면 조회 시점에 제거되며,
+ * 크기 한도에 도달하면 만료된 항목을 먼저 정리하고 그래도 부족할 경우 일부 항목을 임의로 축출합니다.
+ * 동시성 환경에서 크기 한도는 근사치로 유지됩니다.
+ * </p>
+ *
+ * @param <K> 캐시 키 타입
+ * @param <V> 캐시 값 타입
+ */
+public class ExpiringCache<K, V> {
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize 캐시에 보관할 최대 항목 수
+     */
+    public ExpiringCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize는 0보다 커야 합니다.");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 키에 해당하는 유효한 값을 조회합니다.
+     *
+     * @param key 조회할 키
+     * @return 만료되지 않은 값, 없거나 만료된 경우 null
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    /**
+     * 값을 만료 시각과 함께 저장합니다. 이미 만료된 값은 저장하지 않습니다.
+     *
+     * @param key       저장할 키
+     * @param value     저장할 값
+     * @param expiresAt 만료 시각 (epoch millis)
+     */
+    public void put(K key, V value, long expiresAt) {
+        long now = System.currentTimeMillis();
+        if (expiresAt <= now) {
+            return;
+        }
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            makeRoom(now);
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    /**
+     * 키에 해당하는 항목을 즉시 제거합니다.
+     */
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 만료된 항목을 모두 제거합니다.
+     *
+     * @return 제거된 항목 수
+     */
+    public int evictExpired() {
+        return evictExpired(System.currentTimeMillis());
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private int evictExpired(long now) {
+        int removed = 0;
+        for (Iterator<Entry<V>> it = entries.values().iterator(); it.hasNext(); ) {
+            if (it.next().expiresAt() <= now) {
+                it.remove();
+                removed++;
+            }
+        }
+        evictions.add(removed);
+        return removed;
+    }
+
+    /**
+     * 만료 항목을 정리하고, 그래도 한도를 넘으면 전체의 1/16 정도를 임의 순서로 축출합니다.
+     */
+    private void makeRoom(long now) {
+        if (evictExpired(now) > 0 && entries.size() < maxSize) {
+            return;
+        }
+        int toRemove = Math.max(1, maxSize >>> 4);
+        for (Iterator<K> it = entries.keySet().iterator(); it.hasNext() && toRemove > 0; toRemove--) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,281 @@
+package com.cu2mber.authservice.auth.util;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정된 클레임 구성(category, memberNo, role, [sid], iat, exp) 전용 HS256 토큰 서명기
+ * <p>
+ * {@code Jwts.builder()}는 토큰마다 클레임 맵 생성, 리플렉션 기반 JSON 직렬화, {@link Mac} 생성을 반복합니다.
+ * 이 서명기는 헤더 세그먼트를 미리 인코딩해 두고, 재사용하는 버퍼에 payload JSON과 Base64URL 인코딩 결과를 직접 쓰며,
+ * 초기화된 {@link Mac}을 재사용합니다.
+ * 출력은 같은 입력에 대해 jjwt가 만드는 토큰과 바이트 단위로 동일하므로, 기존 파서(jjwt)로 그대로 검증됩니다.
+ * </p>
+ * <p>
+ * {@link Mac}과 버퍼는 {@link ThreadLocal}이 아니라 작은 고정 크기 풀에 둡니다.
+ * 가상 스레드 모드에서는 요청마다 새 스레드가 만들어지므로 {@link ThreadLocal}은 매번 {@link Mac} 생성과 버퍼 할당을 반복하게 됩니다.
+ * 풀은 스레드 id로 고른 슬롯에서 컨텍스트를 꺼내(getAndSet) 쓰고 되돌려 놓으며, 슬롯이 비어 있으면 새로 만들고 되돌릴 자리가 없으면 버립니다.
+ * 동시에 서명하는 스레드 수가 CPU 수 정도이므로 슬롯은 CPU 수의 두 배(2의 거듭제곱으로 올림)면 충분합니다.
+ * </p>
+ * <p>
+ * JSON 이스케이프가 필요한 문자열(따옴표, 역슬래시, 제어 문자, 비 ASCII)이나 null 값은 처리하지 않으며,
+ * {@link #supports(String, String, String)}가 false이면 호출 측이 jjwt 경로를 사용해야 합니다.
+ * </p>
+ */
+public final class Hs256TokenSigner {
+
+    /**
+     * Base64URL("{\"alg\":\"HS256\"}") + "."
+     */
+    private static final byte[] HEADER = ("eyJhbGciOiJIUzI1NiJ9.").getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] CATEGORY = ascii("{\"category\":\"");
+    private static final byte[] MEMBER_NO = ascii("\",\"memberNo\":");
+    private static final byte[] ROLE = ascii(",\"role\":\"");
+    private static final byte[] SESSION_ID = ascii("\",\"sid\":\"");
+    private static final byte[] ISSUED_AT = ascii("\",\"iat\":");
+    private static final byte[] EXPIRATION = ascii(",\"exp\":");
+
+    private static final byte[] BASE64_URL =
+            ascii("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_");
+
+    private static final int SIGNATURE_LENGTH = 32;
+
+    private final SecretKey secretKey;
+    private final AtomicReferenceArray<Context> pool;
+    private final int poolMask;
+
+    /**
+     * @param secretKey HmacSHA256 키
+     */
+    public Hs256TokenSigner(SecretKey secretKey) {
+        this.secretKey = secretKey;
+        int slots = Integer.highestOneBit(Math.max(2, Runtime.getRuntime().availableProcessors() * 2 - 1) << 1);
+        this.pool = new AtomicReferenceArray<>(slots);
+        this.poolMask = slots - 1;
+        // 키 오류는 첫 발급이 아니라 기동 시점에 드러나도록 미리 초기화합니다.
+        pool.set(0, new Context(secretKey));
+    }
+
+    /**
+     * 이 서명기로 만들 수 있는 클레임 값인지 확인합니다.
+     */
+    public static boolean supports(String category, String role) {
+        return isPlainAscii(category) && isPlainAscii(role);
+    }
+
+    /**
+     * 이 서명기로 만들 수 있는 클레임 값인지 확인합니다. 세션 식별자는 null이면 sid 클레임을 생략합니다.
+     */
+    public static boolean supports(String category, String role, String sessionId) {
+        return supports(category, role) && (sessionId == null || isPlainAscii(sessionId));
+    }
+
+    /**
+     * 토큰을 생성합니다. {@code iat}과 {@code exp}는 jjwt와 같이 초 단위로 내림합니다.
+     *
+     * @param category  토큰 종류 (access, refresh)
+     * @param memberNo  사용자 고유 번호
+     * @param role      사용자 권한
+     * @param nowMillis 발급 시각 (epoch millis)
+     * @param expiredMs 만료 시간 (밀리초)
+     * @return 생성된 JWT 문자열
+     */
+    public String sign(String category, long memberNo, String role, long nowMillis, long expiredMs) {
+        return sign(category, memberNo, role, null, nowMillis, expiredMs);
+    }
+
+    /**
+     * 세션 식별자(sid 클레임)를 포함한 토큰을 생성합니다.
+     *
+     * @param category  토큰 종류 (access, refresh)
+     * @param memberNo  사용자 고유 번호
+     * @param role      사용자 권한
+     * @param sessionId 세션 식별자, null이면 sid 클레임 생략
+     * @param nowMillis 발급 시각 (epoch millis)
+     * @param expiredMs 만료 시간 (밀리초)
+     * @return 생성된 JWT 문자열
+     */
+    public String sign(String category, long memberNo, String role, String sessionId, long nowMillis, long expiredMs) {
+        int slot = slotOf(Thread.currentThread());
+        Context b = pool.getAndSet(slot, null);
+        if (b == null) {
+            b = new Context(secretKey);
+        }
+        String token = sign(b, category, memberNo, role, sessionId, nowMillis, expiredMs);
+        // 실패한 컨텍스트는 Mac 상태를 알 수 없으므로 성공했을 때만 되돌려 놓습니다.
+        pool.compareAndSet(slot, null, b);
+        return token;
+    }
+
+    private static String sign(Context b, String category, long memberNo, String role, String sessionId,
+                               long nowMillis, long expiredMs) {
+
+        // payload JSON
+        byte[] json = b.json(CATEGORY.length + category.length() + MEMBER_NO.length + 20 + ROLE.length
+                + role.length() + (sessionId == null ? 0 : SESSION_ID.length + sessionId.length())
+                + ISSUED_AT.length + 20 + EXPIRATION.length + 20 + 1);
+        int n = put(json, 0, CATEGORY);
+        n = putAscii(json, n, category);
+        n = put(json, n, MEMBER_NO);
+        n = putLong(json, n, memberNo);
+        n = put(json, n, ROLE);
+        n = putAscii(json, n, role);
+        if (sessionId != null) {
+            n = put(json, n, SESSION_ID);
+            n = putAscii(json, n, sessionId);
+        }
+        n = put(json, n, ISSUED_AT);
+        n = putLong(json, n, nowMillis / 1000);
+        n = put(json, n, EXPIRATION);
+        n = putLong(json, n, (nowMillis + expiredMs) / 1000);
+        json[n++] = '}';
+
+        // header.payload
+        byte[] out = b.out(HEADER.length + encodedLength(n) + 1 + encodedLength(SIGNATURE_LENGTH));
+        int length = put(out, 0, HEADER);
+        length = encode(json, n, out, length);
+
+        // .signature
+        Mac hmac = b.mac;
+        hmac.update(out, 0, length);
+        try {
+            hmac.doFinal(b.signature, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+        out[length++] = '.';
+        length = encode(b.signature, SIGNATURE_LENGTH, out, length);
+
+        return new String(out, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 스레드 id를 섞어 풀 슬롯을 고릅니다. (가상 스레드 id는 연속으로 증가하므로 그대로 쓰면 인접 슬롯에 몰림)
+     */
+    private int slotOf(Thread thread) {
+        long id = thread.threadId() * 0x9E3779B97F4A7C15L;
+        return (int) (id >>> 32) & poolMask;
+    }
+
+    private static boolean isPlainAscii(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c > 0x7E || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int encodedLength(int length) {
+        return (length * 4 + 2) / 3;
+    }
+
+    /**
+     * 패딩 없는 Base64URL 인코딩
+     */
+    private static int encode(byte[] src, int length, byte[] dst, int offset) {
+        int i = 0;
+        for (int end = length - length % 3; i < end; i += 3) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+            dst[offset++] = BASE64_URL[bits >>> 18];
+            dst[offset++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            dst[offset++] = BASE64_URL[(bits >>> 6) & 0x3F];
+            dst[offset++] = BASE64_URL[bits & 0x3F];
+        }
+        int remaining = length - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xFF) << 16;
+            dst[offset++] = BASE64_URL[bits >>> 18];
+            dst[offset++] = BASE64_URL[(bits >>> 12) & 0x3F];
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8;
+            dst[offset++] = BASE64_URL[bits >>> 18];
+            dst[offset++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            dst[offset++] = BASE64_URL[(bits >>> 6) & 0x3F];
+        }
+        return offset;
+    }
+
+    private static int put(byte[] dst, int offset, byte[] src) {
+        System.arraycopy(src, 0, dst, offset, src.length);
+        return offset + src.length;
+    }
+
+    private static int putAscii(byte[] dst, int offset, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            dst[offset++] = (byte) value.charAt(i);
+        }
+        return offset;
+    }
+
+    private static int putLong(byte[] dst, int offset, long value) {
+        if (value == 0) {
+            dst[offset] = '0';
+            return offset + 1;
+        }
+        if (value == Long.MIN_VALUE) {
+            return put(dst, offset, ascii(Long.toString(value)));
+        }
+        if (value < 0) {
+            dst[offset++] = '-';
+            value = -value;
+        }
+        int digits = 0;
+        for (long v = value; v > 0; v /= 10) {
+            digits++;
+        }
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            dst[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return offset + digits;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 서명 컨텍스트: 초기화된 {@link Mac}과 재사용 버퍼 (한 번에 한 스레드만 사용)
+     */
+    private static final class Context {
+
+        private final Mac mac;
+        private byte[] json = new byte[256];
+        private byte[] out = new byte[512];
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+
+        private Context(SecretKey secretKey) {
+            try {
+                mac = Mac.getInstance("HmacSHA256");
+                mac.init(secretKey);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256을 초기화할 수 없습니다.", e);
+            }
+        }
+
+        private byte[] json(int capacity) {
+            if (json.length < capacity) {
+                json = Arrays.copyOf(json, capacity);
+            }
+            return json;
+        }
+
+        private byte[] out(int capacity) {
+            if (out.length < capacity) {
+                out = Arrays.copyOf(out, capacity);
+            }
+            return out;
+        }
+    }
+}
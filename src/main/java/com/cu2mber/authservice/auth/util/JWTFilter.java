@@ -2,27 +2,69 @@ package com.cu2mber.authservice.auth.util;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * HTTP 요청 당 1회 실행되는 JWT 인증 필터
  * 헤더의 Authorization 토큰을 검증하고 SecurityContext에 인증 정보를 등록합니다.
+ * <p>
+ * 모든 요청이 거치는 경로이므로 요청당 할당을 최소화합니다.
+ * 토큰은 헤더 값에서 위치(offset)로만 참조하고, 권한 목록은 role별로 한 번만 만들어 재사용하며,
+ * 오류 응답 본문은 미리 인코딩한 바이트 배열을 그대로 씁니다.
+ * </p>
  */
-@RequiredArgsConstructor
 public class JWTFilter extends OncePerRequestFilter {
 
-    private final JWTUtil jwtUtil;
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final byte[] EXPIRED_BODY = "{\"message\" : \"AccessToken has expired\"}\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] INVALID_BODY = "{\"message\" : \"Invalid Token\"}\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] REVOKED_BODY = "{\"message\" : \"AccessToken has been revoked\"}\n".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * role별 권한 목록 캐시의 최대 크기 (role 종류는 소수이므로 넘칠 일이 없지만 임의 값 유입에 대비)
+     */
+    private static final int MAX_CACHED_ROLES = 64;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenRevocationList revocationList;
+    private final Map<String, List<GrantedAuthority>> authoritiesByRole = new ConcurrentHashMap<>();
+
+    /**
+     * 필터 처리 결과별 요청 수 (valid, expired, invalid, revoked, no_header)
+     */
+    private final Counter validCounter;
+    private final Counter expiredCounter;
+    private final Counter invalidCounter;
+    private final Counter revokedCounter;
+    private final Counter noHeaderCounter;
+
+    public JWTFilter(VerifiedTokenCache verifiedTokenCache, AccessTokenRevocationList revocationList,
+                     MeterRegistry meterRegistry) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revocationList = revocationList;
+        this.validCounter = outcomeCounter(meterRegistry, "valid");
+        this.expiredCounter = outcomeCounter(meterRegistry, "expired");
+        this.invalidCounter = outcomeCounter(meterRegistry, "invalid");
+        this.revokedCounter = outcomeCounter(meterRegistry, "revoked");
+        this.noHeaderCounter = outcomeCounter(meterRegistry, "no_header");
+    }
 
     /**
      * 토큰 검증 로직 수행
@@ -36,39 +78,73 @@ public class JWTFilter extends OncePerRequestFilter {
         String authorization = request.getHeader("Authorization");
 
         // 토큰이 없거나 Bearer 형식이 아니면 다음 필터로 이동
-        if (authorization == null || !authorization.startsWith("Bearer ")) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            noHeaderCounter.increment();
             filterChain.doFilter(request, response);
             return;
         }
 
-        String token = authorization.split(" ")[1];
-
         // 토큰 만료 여부 확인
         try {
-            Claims claims = jwtUtil.getPayload(token);
+            // 이미 검증된 토큰은 캐시에서 Claims를 바로 가져옴 (접두사 뒤부터를 토큰으로 사용)
+            Claims claims = verifiedTokenCache.getPayload(authorization, BEARER_PREFIX.length());
 
             Long memberNo = claims.get("memberNo", Long.class);
             String role = claims.get("role", String.class);
 
+            // 로그아웃/관리자 폐기 여부 확인 (메모리 조회, I/O 없음)
+            if (revocationList.isRevoked(memberNo, role, claims.get("sid", String.class),
+                    claims.getIssuedAt().getTime())) {
+                revokedCounter.increment();
+                setResponse(response, REVOKED_BODY, HttpServletResponse.SC_UNAUTHORIZED);
+                return;
+            }
+
             // 인증 객체 생성 및 설정
             UsernamePasswordAuthenticationToken authToken =
-                    new UsernamePasswordAuthenticationToken(memberNo, null, List.of(new SimpleGrantedAuthority(role)));
+                    new UsernamePasswordAuthenticationToken(memberNo, null, authorities(role));
             SecurityContextHolder.getContext().setAuthentication(authToken);
+            validCounter.increment();
 
         } catch (ExpiredJwtException e) {
-            setResponse(response, "AccessToken has expired", HttpServletResponse.SC_UNAUTHORIZED);
+            expiredCounter.increment();
+            setResponse(response, EXPIRED_BODY, HttpServletResponse.SC_UNAUTHORIZED);
             return;
         } catch (Exception e) {
-            setResponse(response, "Invalid Token", HttpServletResponse.SC_UNAUTHORIZED);
+            invalidCounter.increment();
+            setResponse(response, INVALID_BODY, HttpServletResponse.SC_UNAUTHORIZED);
             return;
         }
 
         filterChain.doFilter(request, response);
     }
 
-    private void setResponse(HttpServletResponse response, String message, int status) throws IOException {
+    /**
+     * role에 해당하는 불변 권한 목록을 반환합니다.
+     */
+    private List<GrantedAuthority> authorities(String role) {
+        List<GrantedAuthority> authorities = authoritiesByRole.get(role);
+        if (authorities != null) {
+            return authorities;
+        }
+        authorities = List.of(new SimpleGrantedAuthority(role));
+        if (authoritiesByRole.size() < MAX_CACHED_ROLES) {
+            authoritiesByRole.putIfAbsent(role, authorities);
+        }
+        return authorities;
+    }
+
+    private void setResponse(HttpServletResponse response, byte[] body, int status) throws IOException {
         response.setContentType("application/json;charset=UTF-8");
         response.setStatus(status);
-        response.getWriter().println("{\"message\" : \"" + message + "\"}");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("auth.filter.requests")
+                .description("JWTFilter 처리 결과별 요청 수")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 }
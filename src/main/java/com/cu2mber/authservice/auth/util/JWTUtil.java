@@ -1,28 +1,123 @@
 package com.cu2mber.authservice.auth.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.LocatorAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import io.jsonwebtoken.Jwts;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
 
 /**
  * JWT 생성 및 검증 유틸리티
- * HS256 알고리즘을 사용하여 토큰의 생명주기를 관리합니다.
+ * HS256 알고리즘(기본값)을 사용하여 토큰의 생명주기를 관리합니다.
+ * <p>
+ * {@code auth.jwt.algorithm}을 ES256 또는 EdDSA로 지정하면 {@link JwtKeyRing}의 개인키로 서명하고
+ * 헤더에 kid를 기록합니다. 다른 서비스는 JWKS({@code /.well-known/jwks.json})의 공개키로 토큰을 직접 검증할 수 있습니다.
+ * </p>
+ * <p>
+ * HS256에서 비대칭 방식으로 전환할 때 {@code spring.jwt.secret}을 그대로 두면, 전환 전에 발급된 HS256 토큰도 계속 검증합니다.
+ * (새 토큰은 비대칭 키로만 서명) 리프레시 토큰 만료 기간(14일)이 지난 뒤 설정을 제거하면 HS256 토큰을 더 이상 받지 않습니다.
+ * </p>
  */
 @Component
 public class JWTUtil {
 
+    /**
+     * HS256 서명 키의 최소 길이 (RFC 7518 3.2: 해시 출력 크기 이상)
+     */
+    private static final int MIN_SECRET_BYTES = 32;
+
+    /**
+     * HS256 모드의 서명 키, 비대칭 모드에서는 전환 전 HS256 토큰 검증용 (설정하지 않았으면 null)
+     */
     private final SecretKey secretKey;
 
+    /**
+     * HS256 모드의 전용 서명기, 비대칭 모드에서는 null
+     */
+    private final Hs256TokenSigner hs256Signer;
+
+    /**
+     * 비대칭 모드의 키 집합, HS256 모드에서는 null
+     */
+    private final JwtKeyRing keyRing;
+
+    /**
+     * 토큰 검증에 사용하는 파서
+     * <p>불변(immutable)이며 스레드 안전하므로 생성 시점에 한 번만 만들어 재사용합니다.</p>
+     */
+    private final JwtParser jwtParser;
+
+    /**
+     * 서명(토큰 발급) 및 검증 소요 시간 측정용 타이머
+     */
+    private final Timer signTimer;
+    private final Timer verifyTimer;
+
     /**
      * 생성자에서 application.properties에 저장된 SecretKey 값을 가져와 설정
      */
-    public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
-        secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+    @Autowired
+    public JWTUtil(@Value("${spring.jwt.secret:}") String secret, ObjectProvider<JwtKeyRing> keyRing,
+                   MeterRegistry meterRegistry) {
+        this(secret, keyRing.getIfAvailable(), meterRegistry);
+    }
+
+    /**
+     * 스프링 컨텍스트 밖(벤치마크 등)에서 사용하는 생성자로, 메트릭은 수집하지 않습니다.
+     */
+    public JWTUtil(String secret) {
+        this(secret, (JwtKeyRing) null, new SimpleMeterRegistry());
+    }
+
+    JWTUtil(String secret, JwtKeyRing keyRing, MeterRegistry meterRegistry) {
+        this.keyRing = keyRing;
+        if (keyRing != null) {
+            secretKey = secret == null || secret.isBlank() ? null : secretKey(secret);
+            hs256Signer = null;
+            // 토큰 헤더의 kid로 검증 키를 찾으므로 키가 교체되어도 파서를 다시 만들 필요가 없음
+            jwtParser = Jwts.parser()
+                    .keyLocator(new LocatorAdapter<Key>() {
+                        @Override
+                        protected Key locate(JwsHeader header) {
+                            if (Jwts.SIG.HS256.getId().equals(header.getAlgorithm())) {
+                                return secretKey;
+                            }
+                            return keyRing.verificationKey(header.getKeyId());
+                        }
+                    })
+                    .build();
+        } else {
+            if (secret == null || secret.isBlank()) {
+                throw new IllegalStateException("HS256 모드에서는 spring.jwt.secret 설정이 필요합니다.");
+            }
+            secretKey = secretKey(secret);
+            hs256Signer = new Hs256TokenSigner(secretKey);
+            jwtParser = Jwts.parser()
+                    .verifyWith(secretKey)
+                    .build();
+        }
+
+        signTimer = Timer.builder("auth.jwt.sign")
+                .description("JWT 생성 및 서명 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        verifyTimer = Timer.builder("auth.jwt.verify")
+                .description("JWT 서명 검증 및 파싱 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     /**
@@ -43,15 +138,14 @@ public class JWTUtil {
      * @throws io.jsonwebtoken.JwtException 토큰이 변조되었거나 형식이 잘못된 경우 발생
      */
     public Claims getPayload(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getPayload();
+        return verifyTimer.record(() -> jwtParser.parseSignedClaims(token)
+                .getPayload());
     }
 
     /**
      * 신규 액세스/리프레시 토큰 발급
+     * <p>HS256 모드에서는 {@link Hs256TokenSigner}로 직접 서명하고, 비대칭 모드이거나 전용 서명기가 다룰 수 없는 값이면 jjwt 빌더를 사용합니다.
+     * HS256 모드의 jjwt 경로도 알고리즘을 HS256으로 고정하므로 두 경로의 토큰은 같은 헤더를 가집니다.</p>
      * @param category  토큰 종류 (access, refresh)
      * @param memberNo  사용자 고유 번호
      * @param role      사용자 권한
@@ -59,13 +153,56 @@ public class JWTUtil {
      * @return 생성된 JWT 문자열
      */
     public String createToken(String category, Long memberNo, String role, Long expiredMs) {
-        return Jwts.builder()
-                .claim("category", category)
-                .claim("memberNo", memberNo)
-                .claim("role", role)
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiredMs))
-                .signWith(secretKey)
-                .compact();
+        return createToken(category, memberNo, role, null, expiredMs, System.currentTimeMillis());
+    }
+
+    /**
+     * 세션 식별자와 발급 시각을 지정해 신규 토큰을 발급합니다.
+     * <p>세션 식별자는 sid 클레임으로 기록되어 로그아웃 시 그 세션의 액세스 토큰만 폐기하는 데 쓰입니다.
+     * 발급 시각은 폐기 직후 같은 초에 발급하는 액세스 토큰처럼 조정이 필요할 때 지정하며, 만료 시각도 이 시각을 기준으로 계산합니다.</p>
+     * @param category  토큰 종류 (access, refresh)
+     * @param memberNo  사용자 고유 번호
+     * @param role      사용자 권한
+     * @param sessionId 세션 식별자, null이면 sid 클레임 생략
+     * @param expiredMs 만료 시간 (밀리초)
+     * @param now       발급 시각 (epoch millis)
+     * @return 생성된 JWT 문자열
+     */
+    public String createToken(String category, Long memberNo, String role, String sessionId, Long expiredMs, long now) {
+        return signTimer.record(() -> {
+            if (hs256Signer != null && memberNo != null && Hs256TokenSigner.supports(category, role, sessionId)) {
+                return hs256Signer.sign(category, memberNo, role, sessionId, now, expiredMs);
+            }
+            // claim(name, null)은 클레임을 생략하므로 sid가 없는 토큰은 기존 구성과 같음
+            return sign(Jwts.builder()
+                    .claim("category", category)
+                    .claim("memberNo", memberNo)
+                    .claim("role", role)
+                    .claim("sid", sessionId)
+                    .issuedAt(new Date(now))
+                    .expiration(new Date(now + expiredMs)))
+                    .compact();
+        });
+    }
+
+    private static SecretKey secretKey(String secret) {
+        // jjwt는 256비트 미만 키로 서명/검증하지 않으므로, 전용 서명기만 통과하는 키가 되지 않도록 기동 시 거절합니다.
+        if (secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("spring.jwt.secret은 " + MIN_SECRET_BYTES + "바이트 이상이어야 합니다.");
+        }
+        return new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+    }
+
+    /**
+     * 설정된 모드에 맞는 키로 서명합니다. 비대칭 모드에서는 헤더에 kid를 기록합니다.
+     */
+    private JwtBuilder sign(JwtBuilder builder) {
+        if (keyRing == null) {
+            // 키 길이로 알고리즘을 고르지 않도록 HS256을 고정 (전용 서명기와 같은 헤더)
+            return builder.signWith(secretKey, Jwts.SIG.HS256);
+        }
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+        return builder.header().keyId(signingKey.keyId()).and()
+                .signWith(signingKey.privateKey(), keyRing.signatureAlgorithm());
     }
 }
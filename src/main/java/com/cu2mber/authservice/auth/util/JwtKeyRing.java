@@ -0,0 +1,329 @@
+package com.cu2mber.authservice.auth.util;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 비대칭 서명(ES256, EdDSA)용 키 집합을 관리하는 클래스
+ * <p>
+ * 키 디렉터리({@code auth.jwt.key-dir})의 {@code <kid>.pub}(X.509 PEM 공개키)와 {@code <kid>.key}(PKCS#8 PEM 개인키)를 읽습니다.
+ * 디렉터리는 주기적으로 다시 읽으므로 새 키 파일을 추가하는 것만으로 재기동 없이 키를 교체할 수 있습니다.
+ * kid는 {@code 2026-10-01}처럼 발급 순서대로 정렬되는 이름을 사용합니다.
+ * </p>
+ * <p>
+ * 새 키는 추가되는 즉시 JWKS에 공개하지만, 서명에는 {@code .pub} 파일의 수정 시각으로부터
+ * {@code auth.jwt.key-activation-delay-ms}(기본: JWKS 캐시 5분 + 키 재로드 주기 300초)가 지난 뒤에 사용합니다.
+ * 모든 노드가 새 키를 공개하고 다른 서비스의 JWKS 캐시가 갱신되기 전에 새 kid로 서명한 토큰이 거절되지 않도록 하기 위함입니다.
+ * 개인키가 있고 이 시간이 지난 kid 중 사전순으로 가장 마지막 kid로 서명하며, 아직 그런 kid가 없으면(최초 배포)
+ * 개인키가 있는 가장 오래된 kid로 서명합니다.
+ * </p>
+ * <p>
+ * 서명에서 물러난 키는 다음 키가 서명을 시작한 뒤 {@code auth.jwt.verification-key-retention-ms}(기본: 리프레시 토큰 만료 기간 14일)
+ * 동안 검증과 JWKS에 남기고, 이후에는 파일이 남아 있어도 사용하지 않습니다. 파일은 그 뒤에 삭제합니다.
+ * </p>
+ * <p>
+ * 키 디렉터리를 지정하지 않으면 기동 시 임시 키를 생성합니다. (로컬 개발용, 노드마다 키가 달라짐)
+ * 공개키 집합은 JWKS(JSON) 형식으로 미리 직렬화하여 {@code /.well-known/jwks.json}에서 ETag와 함께 제공합니다.
+ * </p>
+ */
+@Component
+@Slf4j
+@ConditionalOnExpression("'${auth.jwt.algorithm:HS256}' != 'HS256'")
+public class JwtKeyRing {
+
+    private final String algorithm;
+    private final Path keyDir;
+    private final long activationDelayMs;
+    private final long retentionMs;
+    private final Clock clock;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public JwtKeyRing(@Value("${auth.jwt.algorithm}") String algorithm,
+                      @Value("${auth.jwt.key-dir:}") String keyDir,
+                      @Value("${auth.jwt.key-activation-delay-ms:600000}") long activationDelayMs,
+                      @Value("${auth.jwt.verification-key-retention-ms:1209600000}") long retentionMs) {
+        this(algorithm, keyDir, activationDelayMs, retentionMs, Clock.systemUTC());
+    }
+
+    JwtKeyRing(String algorithm, String keyDir, long activationDelayMs, long retentionMs, Clock clock) {
+        if (!"ES256".equals(algorithm) && !"EdDSA".equals(algorithm)) {
+            throw new IllegalArgumentException("지원하지 않는 서명 알고리즘입니다: " + algorithm);
+        }
+        this.algorithm = algorithm;
+        this.keyDir = keyDir.isBlank() ? null : Path.of(keyDir);
+        this.activationDelayMs = activationDelayMs;
+        this.retentionMs = retentionMs;
+        this.clock = clock;
+
+        if (this.keyDir == null) {
+            log.warn("auth.jwt.key-dir가 지정되지 않아 임시 {} 키를 생성합니다. 운영 환경에서는 키 디렉터리를 지정하세요.", algorithm);
+            snapshot = ephemeralSnapshot();
+        } else {
+            snapshot = load();
+        }
+    }
+
+    /**
+     * 키 디렉터리를 다시 읽어 키 집합을 교체합니다. 읽기에 실패하면 기존 키 집합을 유지합니다.
+     */
+    @Scheduled(fixedDelayString = "${auth.jwt.key-reload-interval-ms:300000}")
+    public void reload() {
+        if (keyDir == null) {
+            return;
+        }
+        try {
+            Snapshot reloaded = load();
+            if (!reloaded.signingKeyId().equals(snapshot.signingKeyId())) {
+                log.info("JWT 서명 키 교체: {} -> {}", snapshot.signingKeyId(), reloaded.signingKeyId());
+            }
+            snapshot = reloaded;
+        } catch (RuntimeException e) {
+            log.error("JWT 키 디렉터리를 다시 읽지 못했습니다. 기존 키를 유지합니다.", e);
+        }
+    }
+
+    /**
+     * 현재 서명 키 (kid와 개인키를 함께 읽어야 하므로 한 객체로 반환)
+     */
+    public SigningKey signingKey() {
+        Snapshot current = snapshot;
+        return new SigningKey(current.signingKeyId(), current.signingKey());
+    }
+
+    /**
+     * kid에 해당하는 검증용 공개키
+     *
+     * @return 공개키, 없거나 보관 기간이 지난 kid이면 null
+     */
+    public PublicKey verificationKey(String kid) {
+        return kid == null ? null : snapshot.verificationKeys().get(kid);
+    }
+
+    public SignatureAlgorithm signatureAlgorithm() {
+        return "ES256".equals(algorithm) ? Jwts.SIG.ES256 : Jwts.SIG.EdDSA;
+    }
+
+    /**
+     * 미리 직렬화된 JWKS 문서 (UTF-8)
+     */
+    public byte[] jwks() {
+        return snapshot.jwks();
+    }
+
+    /**
+     * JWKS 문서의 ETag
+     */
+    public String jwksETag() {
+        return snapshot.jwksETag();
+    }
+
+    private Snapshot load() {
+        List<KeyFile> keys = new ArrayList<>();
+        try (Stream<Path> files = Files.list(keyDir)) {
+            List<String> kids = files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(".pub"))
+                    .map(name -> name.substring(0, name.length() - ".pub".length()))
+                    .sorted()
+                    .toList();
+            for (String kid : kids) {
+                keys.add(new KeyFile(kid, Files.getLastModifiedTime(keyDir.resolve(kid + ".pub")).toMillis(),
+                        Files.exists(keyDir.resolve(kid + ".key"))));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("JWT 키 디렉터리를 읽을 수 없습니다: " + keyDir, e);
+        }
+
+        long now = clock.millis();
+        int signing = -1;
+        for (int i = keys.size() - 1; i >= 0 && signing < 0; i--) {
+            if (keys.get(i).hasPrivateKey() && keys.get(i).activatedAt(activationDelayMs) <= now) {
+                signing = i;
+            }
+        }
+        for (int i = 0; i < keys.size() && signing < 0; i++) {
+            if (keys.get(i).hasPrivateKey()) {
+                signing = i;
+                log.warn("공개 후 {}ms가 지난 JWT 서명 키가 없어 아직 공개 중인 키({})로 서명합니다.",
+                        activationDelayMs, keys.get(i).kid());
+            }
+        }
+        if (signing < 0) {
+            throw new IllegalStateException("서명에 사용할 개인키(<kid>.key)가 없습니다: " + keyDir);
+        }
+
+        // 최근 kid부터 검증 키로 사용: 서명 키와 그 이후(공개 중) kid, 그리고 다음 키가 서명을 시작한 지 보관 기간이 지나지 않은 이전 kid
+        Map<String, PublicKey> verificationKeys = new LinkedHashMap<>();
+        long replacedAt = now;
+        for (int i = keys.size() - 1; i >= 0; i--) {
+            KeyFile key = keys.get(i);
+            if (i >= signing || now - replacedAt < retentionMs) {
+                verificationKeys.put(key.kid(), readPublicKey(keyDir.resolve(key.kid() + ".pub")));
+            }
+            if (i <= signing && key.hasPrivateKey()) {
+                replacedAt = Math.min(now, key.activatedAt(activationDelayMs));
+            }
+        }
+
+        String signingKid = keys.get(signing).kid();
+        return snapshot(signingKid, readPrivateKey(keyDir.resolve(signingKid + ".key")), verificationKeys);
+    }
+
+    private Snapshot ephemeralSnapshot() {
+        try {
+            KeyPairGenerator generator;
+            if ("ES256".equals(algorithm)) {
+                generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+            } else {
+                generator = KeyPairGenerator.getInstance("Ed25519");
+            }
+            KeyPair keyPair = generator.generateKeyPair();
+            String kid = "ephemeral-" + UUID.randomUUID();
+            return snapshot(kid, keyPair.getPrivate(), Map.of(kid, keyPair.getPublic()));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("임시 JWT 키를 생성할 수 없습니다.", e);
+        }
+    }
+
+    private Snapshot snapshot(String signingKid, PrivateKey signingKey, Map<String, PublicKey> verificationKeys) {
+        StringBuilder json = new StringBuilder("{\"keys\":[");
+        boolean first = true;
+        for (Map.Entry<String, PublicKey> entry : verificationKeys.entrySet()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            appendJwk(json, entry.getKey(), entry.getValue());
+        }
+        byte[] jwks = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+
+        return new Snapshot(signingKid, signingKey, Map.copyOf(verificationKeys), jwks, eTag(jwks));
+    }
+
+    private void appendJwk(StringBuilder json, String kid, PublicKey publicKey) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        if (publicKey instanceof ECPublicKey ecKey) {
+            json.append("{\"kty\":\"EC\",\"crv\":\"P-256\"")
+                    .append(",\"x\":\"").append(encoder.encodeToString(unsigned(ecKey.getW().getAffineX(), 32))).append('"')
+                    .append(",\"y\":\"").append(encoder.encodeToString(unsigned(ecKey.getW().getAffineY(), 32))).append('"');
+        } else {
+            // Ed25519 X.509 인코딩은 12바이트 헤더 뒤에 32바이트 원시 공개키가 이어짐
+            byte[] encoded = publicKey.getEncoded();
+            byte[] raw = new byte[32];
+            System.arraycopy(encoded, encoded.length - 32, raw, 0, 32);
+            json.append("{\"kty\":\"OKP\",\"crv\":\"Ed25519\"")
+                    .append(",\"x\":\"").append(encoder.encodeToString(raw)).append('"');
+        }
+        json.append(",\"use\":\"sig\",\"alg\":\"").append(algorithm).append('"')
+                .append(",\"kid\":\"").append(kid).append("\"}");
+    }
+
+    private PublicKey readPublicKey(Path path) {
+        try {
+            return keyFactory().generatePublic(new X509EncodedKeySpec(readPem(path)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("공개키를 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    private PrivateKey readPrivateKey(Path path) {
+        try {
+            return keyFactory().generatePrivate(new PKCS8EncodedKeySpec(readPem(path)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("개인키를 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    private KeyFactory keyFactory() throws GeneralSecurityException {
+        return KeyFactory.getInstance("ES256".equals(algorithm) ? "EC" : "Ed25519");
+    }
+
+    private static byte[] readPem(Path path) {
+        try {
+            String body = Files.readString(path)
+                    .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                    .replaceAll("\\s", "");
+            return Base64.getDecoder().decode(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("키 파일을 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    /**
+     * BigInteger를 부호 없는 고정 길이 바이트 배열로 변환합니다.
+     */
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        byte[] result = new byte[length];
+        int copy = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copy, result, length - copy, copy);
+        return result;
+    }
+
+    private static String eTag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 서명에 사용할 kid와 개인키
+     */
+    public record SigningKey(String keyId, PrivateKey privateKey) {
+    }
+
+    /**
+     * 키 디렉터리의 kid 하나
+     *
+     * @param publishedAt   공개 시각 ({@code .pub} 파일 수정 시각, epoch millis)
+     * @param hasPrivateKey 서명용 개인키({@code .key}) 존재 여부
+     */
+    private record KeyFile(String kid, long publishedAt, boolean hasPrivateKey) {
+
+        long activatedAt(long activationDelayMs) {
+            return publishedAt + activationDelayMs;
+        }
+    }
+
+    private record Snapshot(String signingKeyId, PrivateKey signingKey, Map<String, PublicKey> verificationKeys,
+                            byte[] jwks, String jwksETag) {
+    }
+}
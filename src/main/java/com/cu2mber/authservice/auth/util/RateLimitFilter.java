@@ -0,0 +1,102 @@
+package com.cu2mber.authservice.auth.util;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 클라이언트 IP별 인증 API 요청 수를 제한하는 필터
+ * <p>
+ * 경로별 {@link TokenBucketLimiter}에서 토큰을 얻지 못한 요청은 본문을 읽거나 DB에 접근하기 전에
+ * 미리 만들어 둔 429 응답과 {@code Retry-After} 헤더로 즉시 거절합니다.
+ * </p>
+ * <p>
+ * 클라이언트 IP는 {@link HttpServletRequest#getRemoteAddr()}를 사용합니다. 프록시(로드 밸런서) 뒤에서는 이 값이 프록시 주소이므로
+ * {@code server.forward-headers-strategy=native}와 신뢰할 프록시 목록({@code server.tomcat.remoteip.internal-proxies})을 함께 설정해,
+ * 신뢰하는 프록시가 붙인 {@code X-Forwarded-For}만 반영되도록 해야 합니다. 요청자가 직접 보낸 헤더는 사용하지 않습니다.
+ * </p>
+ * <p>
+ * 경로는 컨텍스트 경로, 경로 매개변수({@code ;...}), 중복/끝 슬래시를 제거한 뒤 비교하므로 {@code /auth/refresh/} 같은 변형으로 제한을 피할 수 없습니다.
+ * </p>
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] REJECTED_BODY =
+            "{\"message\" : \"Too many requests\"}\n".getBytes(StandardCharsets.UTF_8);
+
+    private final AdmissionControl admissionControl;
+
+    public RateLimitFilter(AdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        TokenBucketLimiter limiter = admissionControl.ipLimiter(normalizedPath(request));
+        if (limiter != null) {
+            long waitNanos = limiter.tryAcquire(request.getRemoteAddr());
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 컨텍스트 경로를 뺀 요청 경로에서 경로 매개변수와 중복/끝 슬래시를 제거합니다. 변경할 것이 없으면 원래 문자열을 그대로 반환합니다.
+     */
+    static String normalizedPath(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        int start = contextPath == null || !uri.startsWith(contextPath) ? 0 : contextPath.length();
+        int end = uri.length();
+        while (end > start + 1 && uri.charAt(end - 1) == '/') {
+            end--;
+        }
+        if (start == 0 && end == uri.length() && uri.indexOf(';') < 0 && !uri.contains("//")) {
+            return uri;
+        }
+
+        StringBuilder path = new StringBuilder(end - start);
+        boolean skipping = false;
+        for (int i = start; i < end; i++) {
+            char c = uri.charAt(i);
+            if (c == '/') {
+                skipping = false;
+                if (path.isEmpty() || path.charAt(path.length() - 1) != '/') {
+                    path.append(c);
+                }
+            } else if (c == ';') {
+                skipping = true;
+            } else if (!skipping) {
+                path.append(c);
+            }
+        }
+        int length = path.length();
+        while (length > 1 && path.charAt(length - 1) == '/') {
+            length--;
+        }
+        path.setLength(length);
+        return path.toString();
+    }
+
+    /**
+     * 미리 만들어 둔 429 응답을 씁니다.
+     */
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        response.setContentType("application/json;charset=UTF-8");
+        response.setStatus(429);
+        response.setHeader("Retry-After", AdmissionControl.retryAfterSeconds(waitNanos));
+        response.setContentLength(REJECTED_BODY.length);
+        response.getOutputStream().write(REJECTED_BODY);
+    }
+}
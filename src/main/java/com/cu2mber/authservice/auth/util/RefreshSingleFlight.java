@@ -0,0 +1,138 @@
+package com.cu2mber.authservice.auth.util;
+
+import com.cu2mber.authservice.auth.dto.AccessToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 리프레시 토큰으로 동시에 들어온 재발급 요청을 하나로 합치는 단일 실행(single-flight) 계층
+ * <p>
+ * 여러 탭이나 병렬 API 호출이 같은 토큰으로 거의 동시에 재발급을 요청하면, 처음 도착한 요청만 저장소 조회와 토큰 서명을 수행하고
+ * 나머지 요청은 그 결과를 함께 받습니다. 완료된 결과는 짧은 재사용 구간(기본 1초) 동안 보관되어 직후에 도착한 요청도 재사용합니다.
+ * 실패한 결과는 보관하지 않으므로, 그 시점에 기다리던 요청만 같은 예외를 받습니다.
+ * </p>
+ */
+@Component
+public class RefreshSingleFlight {
+
+    private final Map<TokenDigest, Flight> flights = new ConcurrentHashMap<>();
+    private final long reuseWindowMs;
+
+    /**
+     * 직접 실행한 요청 수와 다른 요청의 결과를 함께 받은 요청 수
+     */
+    private final Counter leaderCounter;
+    private final Counter sharedCounter;
+
+    public RefreshSingleFlight(@Value("${auth.refresh.single-flight.reuse-window-ms:1000}") long reuseWindowMs,
+                               MeterRegistry meterRegistry) {
+        this.reuseWindowMs = reuseWindowMs;
+        this.leaderCounter = resultCounter(meterRegistry, "leader");
+        this.sharedCounter = resultCounter(meterRegistry, "shared");
+    }
+
+    /**
+     * 같은 키로 진행 중이거나 재사용 구간 안에 완료된 실행이 있으면 그 결과를 반환하고, 없으면 직접 실행합니다.
+     *
+     * @param key     리프레시 토큰 다이제스트
+     * @param refresh 실제 재발급 로직
+     * @return 발급된 액세스 토큰
+     */
+    public AccessToken execute(TokenDigest key, Supplier<AccessToken> refresh) {
+        while (true) {
+            Flight flight = flights.get(key);
+            if (flight == null) {
+                Flight mine = new Flight();
+                flight = flights.putIfAbsent(key, mine);
+                if (flight == null) {
+                    leaderCounter.increment();
+                    return lead(key, mine, refresh);
+                }
+            }
+            if (flight.isStale(System.currentTimeMillis())) {
+                flights.remove(key, flight);
+                continue;
+            }
+            sharedCounter.increment();
+            return await(flight);
+        }
+    }
+
+    /**
+     * 해당 토큰의 보관된 결과를 버립니다. 로그아웃 직후 이전 결과가 재사용되지 않도록 호출합니다.
+     */
+    public void invalidate(TokenDigest key) {
+        flights.remove(key);
+    }
+
+    /**
+     * 재사용 구간이 지난 결과를 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${auth.refresh.single-flight.sweep-interval-ms:10000}")
+    public void evictCompleted() {
+        long now = System.currentTimeMillis();
+        flights.values().removeIf(flight -> flight.isStale(now));
+    }
+
+    public int size() {
+        return flights.size();
+    }
+
+    private AccessToken lead(TokenDigest key, Flight flight, Supplier<AccessToken> refresh) {
+        try {
+            AccessToken token = refresh.get();
+            flight.reusableUntil = System.currentTimeMillis() + reuseWindowMs;
+            flight.result.complete(token);
+            return token;
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static AccessToken await(Flight flight) {
+        try {
+            return flight.result.join();
+        } catch (CompletionException e) {
+            // 실행한 요청이 던진 예외 인스턴스를 그대로 전달 (상태 코드 매핑이 예외 타입에 의존)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.refresh.single_flight")
+                .description("재발급 단일 실행 요청 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class Flight {
+
+        private final CompletableFuture<AccessToken> result = new CompletableFuture<>();
+
+        /**
+         * 재사용 구간 종료 시각 (완료 전에는 {@link Long#MAX_VALUE})
+         */
+        private volatile long reusableUntil = Long.MAX_VALUE;
+
+        private boolean isStale(long now) {
+            return reusableUntil <= now;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.cu2mber.authservice.auth.util;
+
+import com.cu2mber.authservice.auth.domain.RefreshToken;
+import com.cu2mber.authservice.auth.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * token_hash 컬럼 도입 이전에 저장된 리프레시 토큰의 다이제스트를 채우는 이관 작업입니다.
+ * <p>
+ * 애플리케이션 기동 시 한 번 실행되며, 다이제스트가 비어 있는 행을 id 순으로 일정 크기씩 읽어
+ * 짧은 트랜잭션 단위로 갱신합니다. 이관이 끝난 뒤에는 조회 한 번으로 바로 종료됩니다.
+ * 스키마 변경은 {@code db/refresh_tokens_token_hash.sql}을 참고하세요.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "auth.refresh-token.digest-backfill.enabled", havingValue = "true", matchIfMissing = true)
+public class RefreshTokenDigestBackfill implements ApplicationRunner {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${auth.refresh-token.digest-backfill.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long migrated = 0;
+        int updated;
+        do {
+            updated = transactionTemplate.execute(status -> backfillBatch());
+            migrated += updated;
+        } while (updated == batchSize);
+
+        if (migrated > 0) {
+            log.info("리프레시 토큰 다이제스트 이관 완료: {}건", migrated);
+        }
+    }
+
+    /**
+     * 다이제스트가 없는 토큰을 한 배치만큼 갱신합니다.
+     *
+     * @return 갱신된 행 수
+     */
+    private int backfillBatch() {
+        List<RefreshToken> tokens = refreshTokenRepository.findByTokenHashIsNullOrderByIdAsc(PageRequest.of(0, batchSize));
+        tokens.forEach(RefreshToken::backfillTokenHash);
+        return tokens.size();
+    }
+}
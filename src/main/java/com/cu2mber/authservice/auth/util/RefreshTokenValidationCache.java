@@ -0,0 +1,124 @@
+package com.cu2mber.authservice.auth.util;
+
+import com.cu2mber.authservice.auth.exception.AuthException;
+import com.cu2mber.authservice.auth.exception.TokenNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리프레시 토큰 검증 결과를 짧은 시간 보관하는 캐시
+ * <p>
+ * <ul>
+ * <li>거절 캐시: 위조/만료/미등록/로그아웃된 토큰의 다이제스트와 처음 거절할 때 던진 예외. 같은 토큰으로 반복 요청해도 서명 검증이나 DB 조회 없이 같은 예외(같은 상태 코드)로 바로 거절합니다.</li>
+ * <li>승인 캐시: 최근 저장소 대조까지 통과한 토큰의 다이제스트와 사용자 번호. 짧은 시간 동안 DB 조회를 생략합니다.</li>
+ * </ul>
+ * 승인 캐시는 로그아웃한 노드에서는 즉시 무효화되지만, 다른 노드에서는 TTL(기본 5초) 동안 남을 수 있으므로 TTL을 짧게 유지합니다.
+ * 모든 세션 로그아웃은 사용자 단위로 기록하여, 승인 캐시 TTL 동안 해당 사용자의 승인 항목을 사용하지 않습니다.
+ * </p>
+ * <p>
+ * 위조/만료 토큰과 이 노드에서 로그아웃한 토큰은 다시 유효해질 수 없으므로 거절 캐시에 오래(기본 60초) 보관하지만,
+ * 저장소에 없다는 결과는 다른 노드의 쓰기 지연(write-behind)이나 읽기 복제본 지연으로 방금 발급된 토큰에서도 나올 수 있으므로
+ * 짧은 시간(기본 500ms)만 보관합니다. 반복 요청 폭주를 흡수하는 데는 이것으로 충분합니다.
+ * </p>
+ */
+@Component
+public class RefreshTokenValidationCache {
+
+    private final ExpiringCache<TokenDigest, AuthException> rejected;
+    private final ExpiringCache<TokenDigest, Long> validated;
+    private final ExpiringCache<Long, Boolean> invalidatedMembers;
+    private final long rejectedTtlMs;
+    private final long notFoundTtlMs;
+    private final long validatedTtlMs;
+
+    public RefreshTokenValidationCache(@Value("${auth.refresh.negative-cache.max-size:100000}") int rejectedMaxSize,
+                                       @Value("${auth.refresh.negative-cache.ttl-ms:60000}") long rejectedTtlMs,
+                                       @Value("${auth.refresh.negative-cache.not-found-ttl-ms:500}") long notFoundTtlMs,
+                                       @Value("${auth.refresh.positive-cache.max-size:100000}") int validatedMaxSize,
+                                       @Value("${auth.refresh.positive-cache.ttl-ms:5000}") long validatedTtlMs) {
+        this.rejected = new ExpiringCache<>(rejectedMaxSize);
+        this.validated = new ExpiringCache<>(validatedMaxSize);
+        this.invalidatedMembers = new ExpiringCache<>(validatedMaxSize);
+        this.rejectedTtlMs = rejectedTtlMs;
+        this.notFoundTtlMs = notFoundTtlMs;
+        this.validatedTtlMs = validatedTtlMs;
+    }
+
+    /**
+     * 최근 거절된 토큰이면 거절할 때 던진 예외를 반환합니다.
+     *
+     * @return 거절 사유 예외, 최근 거절된 적이 없으면 null
+     */
+    public AuthException rejection(TokenDigest digest) {
+        return rejected.get(digest);
+    }
+
+    /**
+     * 다시 유효해질 수 없는 토큰(위조, 만료, 로그아웃)을 거절 캐시에 등록하고 승인 캐시에서는 제거합니다.
+     *
+     * @param reason 이후 같은 토큰의 요청에 그대로 던질 예외
+     */
+    public void reject(TokenDigest digest, AuthException reason) {
+        reject(digest, reason, rejectedTtlMs);
+    }
+
+    /**
+     * 저장소에 없는 토큰을 짧은 시간 동안만 거절 캐시에 등록합니다.
+     */
+    public void rejectNotFound(TokenDigest digest) {
+        reject(digest, TokenNotFoundException.REFRESH_TOKEN, notFoundTtlMs);
+    }
+
+    private void reject(TokenDigest digest, AuthException reason, long ttlMs) {
+        validated.invalidate(digest);
+        rejected.put(digest, reason, System.currentTimeMillis() + ttlMs);
+    }
+
+    /**
+     * 최근 저장소 대조를 통과한 토큰의 사용자 번호를 반환합니다.
+     *
+     * @return 사용자 번호, 캐시에 없거나 해당 사용자의 세션이 모두 무효화된 직후이면 null
+     */
+    public Long validatedMemberNo(TokenDigest digest) {
+        Long memberNo = validated.get(digest);
+        if (memberNo != null && invalidatedMembers.get(memberNo) != null) {
+            return null;
+        }
+        return memberNo;
+    }
+
+    /**
+     * 사용자의 모든 세션이 무효화되었음을 기록합니다.
+     * <p>승인 캐시 TTL 동안 해당 사용자의 승인 항목을 무시하여 저장소 대조를 다시 거치게 합니다.</p>
+     */
+    public void invalidateMember(Long memberNo) {
+        invalidatedMembers.put(memberNo, Boolean.TRUE, System.currentTimeMillis() + validatedTtlMs);
+    }
+
+    /**
+     * 저장소 대조를 통과한 토큰을 승인 캐시에 등록합니다. 토큰 만료 시각을 넘겨 보관하지 않습니다.
+     *
+     * @param digest    토큰 다이제스트
+     * @param memberNo  사용자 번호
+     * @param expiresAt 토큰 만료 시각 (epoch millis)
+     */
+    public void validated(TokenDigest digest, Long memberNo, long expiresAt) {
+        validated.put(digest, memberNo, Math.min(expiresAt, System.currentTimeMillis() + validatedTtlMs));
+    }
+
+    public long rejectedHitCount() {
+        return rejected.hitCount();
+    }
+
+    public long rejectedMissCount() {
+        return rejected.missCount();
+    }
+
+    public long validatedHitCount() {
+        return validated.hitCount();
+    }
+
+    public long validatedMissCount() {
+        return validated.missCount();
+    }
+}
@@ -0,0 +1,122 @@
+package com.cu2mber.authservice.auth.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키(사용자 번호, 클라이언트 IP 등)별 토큰 버킷 요청 제한기
+ * <p>
+ * 버킷마다 "다음 토큰이 완전히 채워지는 이론상 시각" 하나만 {@link AtomicLong}으로 보관하고(GCRA),
+ * 요청마다 CAS 한 번으로 토큰을 차감하므로 락을 사용하지 않습니다. 초당 {@code ratePerSecond}개씩 채워지며 최대 {@code burst}개까지 모입니다.
+ * </p>
+ * <p>
+ * 버킷은 최대 {@code maxKeys}개까지만 보관합니다. 가득 차 다시 채워진(유휴) 버킷은 상태가 새 버킷과 같으므로 언제든 버려도 되며,
+ * {@link #evictIdle()}(주기 작업)와 용량 초과 시 정리합니다. 용량 초과 시 정리는 전체 버킷을 훑으므로 {@link #EVICTION_INTERVAL_NANOS}에 한 번만 수행합니다.
+ * 정리 후에도 가득 차 있으면 새 키는 제한하지 않고 통과시킵니다(fail open). 새 키들이 공용 버킷 하나를 나누어 쓰면
+ * 키를 많이 만드는 공격자 한 명 때문에 처음 보는 정상 클라이언트가 모두 거절되기 때문입니다. 통과시킨 요청 수는 {@link #untrackedCount()}로 확인합니다.
+ * </p>
+ */
+public class TokenBucketLimiter {
+
+    /**
+     * 용량 초과 시 정리의 최소 간격 (1초)
+     */
+    static final long EVICTION_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final Map<Object, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextEviction = new AtomicLong(System.nanoTime());
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder untracked = new LongAdder();
+
+    /**
+     * @param ratePerSecond 초당 채워지는 토큰 수
+     * @param burst         버킷 최대 크기 (연속으로 허용되는 요청 수)
+     * @param maxKeys       보관할 최대 버킷 수
+     */
+    public TokenBucketLimiter(double ratePerSecond, int burst, int maxKeys) {
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / ratePerSecond));
+        this.burstNanos = intervalNanos * Math.max(0, burst - 1);
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 토큰 하나를 차감합니다.
+     *
+     * @param key 버킷 키
+     * @return 허용되면 0, 거절되면 다음 토큰이 채워질 때까지 남은 시간 (나노초)
+     */
+    public long tryAcquire(Object key) {
+        long now = System.nanoTime();
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys && (!tryEvict(now) || buckets.size() >= maxKeys)) {
+                // 버킷을 만들 자리가 없으면 이 요청은 제한하지 않습니다.
+                untracked.increment();
+                return 0L;
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long tat = bucket.get();
+            long start = Math.max(tat, now);
+            long wait = start - burstNanos - now;
+            if (wait > 0) {
+                rejected.increment();
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, start + intervalNanos)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * 토큰이 가득 찬 버킷을 제거합니다.
+     *
+     * @return 제거한 버킷 수
+     */
+    public int evictIdle() {
+        return evictIdle(System.nanoTime());
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * 버킷 수가 상한에 걸려 제한 없이 통과시킨 요청 수
+     */
+    public long untrackedCount() {
+        return untracked.sum();
+    }
+
+    /**
+     * 마지막 용량 초과 정리 후 {@link #EVICTION_INTERVAL_NANOS}가 지났으면 한 스레드만 유휴 버킷을 정리합니다.
+     *
+     * @return 이번 호출에서 정리를 수행했으면 true
+     */
+    private boolean tryEvict(long now) {
+        long next = nextEviction.get();
+        if (now - next < 0 || !nextEviction.compareAndSet(next, now + EVICTION_INTERVAL_NANOS)) {
+            return false;
+        }
+        evictIdle(now);
+        return true;
+    }
+
+    private int evictIdle(long now) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        return before - buckets.size();
+    }
+}
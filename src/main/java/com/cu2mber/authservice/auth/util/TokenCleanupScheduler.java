@@ -1,34 +1,112 @@
 package com.cu2mber.authservice.auth.util;
 
-import com.cu2mber.authservice.auth.repository.RefreshTokenRepository;
-import jakarta.transaction.Transactional;
+import com.cu2mber.authservice.auth.audit.AuditEventType;
+import com.cu2mber.authservice.auth.audit.AuditLog;
+import com.cu2mber.authservice.auth.repository.JpaRefreshTokenStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 리프레시 토큰 청소 스케줄러 클래스입니다.
  * <p>데이터베이스의 무결성을 유지하고 불필요한 데이터를 정리하기 위해 정기적으로 만료된 토큰을 삭제합니다.</p>
+ * <p>
+ * 하루 한 번의 대량 DELETE 대신 짧은 주기로 실행되며, 한 번에 {@code batch-size}건씩 별도 트랜잭션으로 삭제합니다.
+ * 배치 사이에는 {@code pause-ms}만큼 쉬어 복제 지연과 잠금 경합을 완화하고,
+ * 한 주기에 최대 {@code max-batches-per-run}개 배치만 처리한 뒤 다음 주기로 넘깁니다.
+ * </p>
+ * <p>
+ * 모든 노드에서 실행되지만, 배치마다 삭제할 행을 {@code FOR UPDATE SKIP LOCKED}로 잠가 다른 노드가 처리 중인 행은 건너뜁니다.
+ * 따라서 노드들이 같은 행을 두고 잠금 대기하거나 중복 삭제하지 않으며, 다른 노드와 겹쳐 가득 차지 않은 배치를 받으면 그 주기를 마칩니다.
+ * 만료된 행이 없으면 각 노드의 실행은 expiry_date 인덱스 조회 한 번으로 끝납니다.
+ * </p>
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class TokenCleanupScheduler {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final JpaRefreshTokenStore jpaRefreshTokenStore;
+    private final AuditLog auditLog;
+
+    @Value("${auth.cleanup.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${auth.cleanup.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    @Value("${auth.cleanup.pause-ms:50}")
+    private long pauseMs;
+
+    private final LongAdder purgedTotal = new LongAdder();
+    private final AtomicLong lastBatchNanos = new AtomicLong();
 
     /**
-     * 매일 새벽 3시에 만료된 리프레시 토큰을 DB에서 일괄 삭제합니다.
-     * cron: "초 분 시 일 월 요일"
+     * 만료된 리프레시 토큰을 배치 단위로 DB에서 삭제합니다.
+     * 이전 실행이 끝난 뒤 {@code auth.cleanup.interval-ms}(기본 1분)마다 실행됩니다.
      */
-    @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
+    @Scheduled(fixedDelayString = "${auth.cleanup.interval-ms:60000}")
     public void cleanupExpiredTokens() {
-        log.info("만료된 리프레시 토큰 삭제 스케줄러 실행");
-        refreshTokenRepository.deleteByExpiryDateBefore(LocalDateTime.now());
-        log.info("만료된 토큰 청소 완료");
+        LocalDateTime now = LocalDateTime.now();
+        long purged = 0;
+        long elapsedNanos = 0;
+        int batches = 0;
+
+        while (batches < maxBatchesPerRun) {
+            long start = System.nanoTime();
+            int deleted = jpaRefreshTokenStore.purgeExpired(now, batchSize);
+            long batchNanos = System.nanoTime() - start;
+
+            batches++;
+            purged += deleted;
+            elapsedNanos += batchNanos;
+            purgedTotal.add(deleted);
+            lastBatchNanos.set(batchNanos);
+            log.debug("만료 토큰 삭제 배치 #{}: {}건, {}ms", batches, deleted, TimeUnit.NANOSECONDS.toMillis(batchNanos));
+
+            if (deleted < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        if (purged > 0) {
+            auditLog.record(AuditEventType.CLEANUP, 0L, purged);
+            log.info("만료된 리프레시 토큰 {}건 삭제 완료 (배치 {}개, 배치당 평균 {}ms)",
+                    purged, batches, TimeUnit.NANOSECONDS.toMillis(elapsedNanos / batches));
+        }
+    }
+
+    /**
+     * 애플리케이션 기동 이후 삭제된 만료 토큰의 총 건수
+     */
+    public long purgedTotal() {
+        return purgedTotal.sum();
+    }
+
+    /**
+     * 가장 최근 배치의 처리 시간 (나노초)
+     */
+    public long lastBatchNanos() {
+        return lastBatchNanos.get();
+    }
+
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,134 @@
+package com.cu2mber.authservice.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * 토큰 문자열의 SHA-256 다이제스트를 나타내는 불변 값 객체
+ * <p>
+ * 원본 토큰 대신 고정 길이(32바이트) 다이제스트를 캐시 키나 검색 키로 사용하기 위해 존재합니다.
+ * {@link MessageDigest} 인스턴스는 스레드별로 재사용하여 호출마다 새로 생성하지 않습니다.
+ * </p>
+ */
+public final class TokenDigest {
+
+    /**
+     * SHA-256 다이제스트의 바이트 길이
+     */
+    public static final int LENGTH = 32;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    /**
+     * ASCII 토큰을 부분 문자열 생성 없이 다이제스트하기 위한 스레드별 버퍼
+     */
+    private static final ThreadLocal<byte[]> ASCII_BUFFER = ThreadLocal.withInitial(() -> new byte[2048]);
+
+    private final byte[] bytes;
+    private final int hash;
+
+    private TokenDigest(byte[] bytes) {
+        this.bytes = bytes;
+        // 다이제스트 자체가 균등 분포이므로 앞 4바이트를 그대로 해시값으로 사용
+        this.hash = (bytes[0] << 24) | ((bytes[1] & 0xFF) << 16) | ((bytes[2] & 0xFF) << 8) | (bytes[3] & 0xFF);
+    }
+
+    /**
+     * 토큰 문자열의 다이제스트를 계산합니다.
+     *
+     * @param token 원본 토큰 문자열
+     * @return 계산된 다이제스트
+     */
+    public static TokenDigest of(String token) {
+        MessageDigest digest = SHA_256.get();
+        return new TokenDigest(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 문자열의 {@code start} 위치부터 끝까지를 토큰으로 보고 다이제스트를 계산합니다.
+     * <p>
+     * "Bearer " 접두사가 붙은 헤더 값처럼 토큰이 문자열 중간에서 시작하는 경우 부분 문자열을 만들지 않기 위해 사용합니다.
+     * JWT는 ASCII 문자로만 구성되므로 스레드별 버퍼에 바로 복사하며,
+     * ASCII가 아닌 문자가 있거나 버퍼보다 길면 {@link #of(String)}와 같은 방식으로 처리합니다.
+     * </p>
+     *
+     * @param value 토큰을 포함한 문자열
+     * @param start 토큰 시작 위치
+     * @return 계산된 다이제스트 ({@code of(value.substring(start))}와 동일)
+     */
+    public static TokenDigest of(String value, int start) {
+        int length = value.length() - start;
+        byte[] buffer = ASCII_BUFFER.get();
+        if (length > buffer.length) {
+            return of(value.substring(start));
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(start + i);
+            if (c > 0x7F) {
+                return of(value.substring(start));
+            }
+            buffer[i] = (byte) c;
+        }
+        MessageDigest digest = SHA_256.get();
+        digest.update(buffer, 0, length);
+        return new TokenDigest(digest.digest());
+    }
+
+    /**
+     * 이미 계산된 32바이트 다이제스트를 감쌉니다. (DB에서 읽어온 값 등)
+     *
+     * @param bytes SHA-256 다이제스트 바이트 배열
+     * @return 다이제스트 객체
+     */
+    public static TokenDigest wrap(byte[] bytes) {
+        if (bytes == null || bytes.length != LENGTH) {
+            throw new IllegalArgumentException("SHA-256 다이제스트는 32바이트여야 합니다.");
+        }
+        return new TokenDigest(bytes.clone());
+    }
+
+    /**
+     * 다이제스트 바이트 배열의 복사본을 반환합니다.
+     */
+    public byte[] toByteArray() {
+        return bytes.clone();
+    }
+
+    /**
+     * 다이제스트 앞 8바이트를 long으로 반환합니다. 토큰 원문 없이 이벤트를 서로 연결하는 식별자로 사용합니다.
+     */
+    public long prefix() {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof TokenDigest other && hash == other.hash && Arrays.equals(bytes, other.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return HexFormat.of().formatHex(bytes);
+    }
+}
@@ -0,0 +1,80 @@
+package com.cu2mber.authservice.auth.util;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰의 Claims를 보관하는 캐시
+ * <p>
+ * 같은 액세스 토큰은 만료 전까지(기본 30분) 요청마다 반복해서 전달되므로,
+ * 한 번 검증한 토큰은 토큰 다이제스트를 키로 Claims를 보관하고 토큰의 {@code exp} 시각에 자동으로 만료시킵니다.
+ * 캐시에 없는 토큰만 {@link JWTUtil#getPayload(String)}를 통해 HMAC 검증과 JSON 파싱을 수행합니다.
+ * </p>
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JWTUtil jwtUtil;
+    private final ExpiringCache<TokenDigest, Claims> cache;
+
+    public VerifiedTokenCache(JWTUtil jwtUtil,
+                              @Value("${auth.jwt.verified-cache.max-size:10000}") int maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.cache = new ExpiringCache<>(maxSize);
+    }
+
+    /**
+     * 검증된 Claims를 반환합니다. 캐시에 없으면 토큰을 검증한 뒤 캐시에 저장합니다.
+     *
+     * @param token 검증할 JWT 문자열
+     * @return 검증된 Claims
+     * @throws io.jsonwebtoken.ExpiredJwtException 토큰의 유효 기간이 만료된 경우 발생
+     * @throws io.jsonwebtoken.JwtException 토큰이 변조되었거나 형식이 잘못된 경우 발생
+     */
+    public Claims getPayload(String token) {
+        return getPayload(token, 0);
+    }
+
+    /**
+     * 문자열의 {@code offset} 위치부터 시작하는 토큰의 검증된 Claims를 반환합니다.
+     * <p>Authorization 헤더 값을 그대로 넘기면 캐시 적중 시 토큰 부분 문자열을 만들지 않습니다.</p>
+     *
+     * @param value  토큰을 포함한 문자열 (예: "Bearer eyJ...")
+     * @param offset 토큰 시작 위치
+     * @return 검증된 Claims
+     * @throws io.jsonwebtoken.ExpiredJwtException 토큰의 유효 기간이 만료된 경우 발생
+     * @throws io.jsonwebtoken.JwtException 토큰이 변조되었거나 형식이 잘못된 경우 발생
+     */
+    public Claims getPayload(String value, int offset) {
+        TokenDigest key = TokenDigest.of(value, offset);
+
+        Claims cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = jwtUtil.getPayload(offset == 0 ? value : value.substring(offset));
+
+        // 만료 시각이 없는 토큰은 캐시하지 않음
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            cache.put(key, claims, expiration.getTime());
+        }
+        return claims;
+    }
+
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+}
@@ -0,0 +1,38 @@
+package com.cu2mber.authservice.common.config;
+
+import com.cu2mber.authservice.auth.util.ConcurrencyLimitFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 인증 API 동시 처리 제한 설정 클래스
+ * <p>
+ * {@code auth.concurrency.max-in-flight}가 0보다 클 때만 활성화되며,
+ * 인증 필터 체인보다 앞에서 동작하여 거절되는 요청은 토큰 검증 비용도 들지 않습니다.
+ * 가상 스레드 모드({@code virtual-threads} 프로파일)에서는 플랫폼 스레드 모드의 Tomcat 스레드 수에 맞춰 반드시 설정합니다.
+ * </p>
+ */
+@Configuration
+@ConditionalOnExpression("${auth.concurrency.max-in-flight:0} > 0")
+public class ConcurrencyLimitConfig {
+
+    /**
+     * Spring Security 필터 체인(-100)보다 먼저 실행되도록 순서를 지정합니다.
+     */
+    private static final int FILTER_ORDER = -200;
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${auth.concurrency.max-in-flight}") int maxInFlight,
+            @Value("${auth.concurrency.acquire-timeout-ms:100}") long acquireTimeoutMs) {
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(maxInFlight, acquireTimeoutMs));
+        registration.addUrlPatterns("/auth/*");
+        registration.setOrder(FILTER_ORDER);
+        return registration;
+    }
+}
@@ -0,0 +1,53 @@
+package com.cu2mber.authservice.common.config;
+
+import com.cu2mber.authservice.auth.audit.AuditLog;
+import com.cu2mber.authservice.auth.repository.RefreshTokenStore;
+import com.cu2mber.authservice.auth.service.AuthService;
+import com.cu2mber.authservice.auth.util.JWTUtil;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+
+/**
+ * 지연 초기화({@code spring.main.lazy-initialization=true}, {@code fast-start} 프로파일) 시 즉시 생성할 빈을 지정하는 설정 클래스
+ * <p>
+ * 지연 초기화는 기동 시 생성하는 빈을 줄여 기동 시간을 단축하지만, 다음 빈은 기동 시점에 생성되어야 하므로 제외합니다.
+ * <ul>
+ * <li>{@code @Scheduled} 메서드가 있는 빈: 빈이 생성되어야 작업이 등록되므로, 지연되면 만료 토큰 정리/지연 기록 등이 실행되지 않습니다.</li>
+ * <li>{@link AuditLog}: 생성 시 기록 스레드를 시작합니다.</li>
+ * <li>토큰 발급 경로({@link AuthService}, {@link JWTUtil}, {@link RefreshTokenStore}): 첫 발급 요청이 빈 생성 비용을 떠안지 않도록 합니다.</li>
+ * </ul>
+ * 지연 초기화를 사용하지 않으면 아무 영향이 없습니다.
+ * </p>
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    private static final List<Class<?>> EAGER_TYPES =
+            List.of(AuditLog.class, AuthService.class, JWTUtil.class, RefreshTokenStore.class);
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerAuthBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && (isEagerType(beanType) || hasScheduledMethods(beanType));
+    }
+
+    private static boolean isEagerType(Class<?> beanType) {
+        for (Class<?> eagerType : EAGER_TYPES) {
+            if (eagerType.isAssignableFrom(beanType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        return !MethodIntrospector.selectMethods(beanType, (MethodIntrospector.MetadataLookup<Scheduled>) method ->
+                AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class)).isEmpty();
+    }
+}
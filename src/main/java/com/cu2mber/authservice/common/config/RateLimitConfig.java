@@ -0,0 +1,36 @@
+package com.cu2mber.authservice.common.config;
+
+import com.cu2mber.authservice.auth.util.AdmissionControl;
+import com.cu2mber.authservice.auth.util.RateLimitFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 인증 API 클라이언트 IP별 요청 제한 설정 클래스
+ * <p>
+ * 동시 처리 제한 필터({@link ConcurrencyLimitConfig})보다 먼저 실행되어, 제한에 걸린 요청은 동시 처리 허가도 소비하지 않습니다.
+ * 클라이언트 IP를 기준으로 하므로 기본으로는 꺼져 있으며, 실제 클라이언트 IP를 알 수 있는 배포
+ * (직접 노출되거나 신뢰할 프록시 목록과 함께 {@code server.forward-headers-strategy}를 설정한 경우)에서 {@code auth.rate-limit.enabled=true}로 켭니다.
+ * 프록시 뒤에서 그대로 켜면 모든 요청이 프록시 IP 하나의 버킷을 나누어 쓰게 됩니다.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "auth.rate-limit.enabled", havingValue = "true")
+public class RateLimitConfig {
+
+    /**
+     * 동시 처리 제한 필터(-200)보다 먼저 실행되도록 순서를 지정합니다.
+     */
+    private static final int FILTER_ORDER = -300;
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(AdmissionControl admissionControl) {
+        FilterRegistrationBean<RateLimitFilter> registration =
+                new FilterRegistrationBean<>(new RateLimitFilter(admissionControl));
+        registration.addUrlPatterns("/auth/*");
+        registration.setOrder(FILTER_ORDER);
+        return registration;
+    }
+}
@@ -0,0 +1,83 @@
+package com.cu2mber.authservice.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.DataSourceInitializer;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 라우팅 설정 클래스
+ * <p>
+ * {@code auth.datasource.replica.url}이 설정된 경우에만 활성화되며, 읽기 전용 트랜잭션(리프레시 토큰 조회)은 복제본 커넥션 풀로,
+ * 나머지(발급, 로그아웃, 만료 토큰 정리 등)는 주 DB 커넥션 풀({@code spring.datasource.*})로 보냅니다.
+ * 복제본 풀 설정은 {@code auth.datasource.replica.hikari.*}로 따로 지정합니다.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "auth.datasource.replica.url")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("auth-primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("auth.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${auth.datasource.replica.url}") String url,
+            @Value("${auth.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${auth.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${auth.datasource.replica.driver-class-name:${spring.datasource.driver-class-name:}}") String driverClassName) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .driverClassName(driverClassName.isEmpty() ? null : driverClassName)
+                .build();
+        dataSource.setPoolName("auth-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * JPA와 JDBC 레포지토리가 사용하는 기본 DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource));
+    }
+
+    /**
+     * 복제본 스키마 초기화 (로컬 H2 복제본처럼 별도로 스키마를 만들어야 하는 경우에만 사용)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "auth.datasource.replica.schema")
+    public DataSourceInitializer replicaSchemaInitializer(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${auth.datasource.replica.schema}") String schema,
+            ResourceLoader resourceLoader) {
+        DataSourceInitializer initializer = new DataSourceInitializer();
+        initializer.setDataSource(replicaDataSource);
+        initializer.setDatabasePopulator(new ResourceDatabasePopulator(resourceLoader.getResource(schema)));
+        return initializer;
+    }
+}
@@ -0,0 +1,32 @@
+package com.cu2mber.authservice.common.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 현재 트랜잭션의 읽기 전용 여부에 따라 주 DB와 읽기 복제본 중 하나로 커넥션을 라우팅하는 DataSource
+ * <p>
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 등록되지 않으므로,
+ * 반드시 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸 첫 쿼리 시점에 커넥션을 얻도록 합니다.
+ * 트랜잭션 밖의 요청(스키마 확인, auto-commit upsert 등)은 모두 주 DB로 보냅니다.
+ * </p>
+ */
+class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : PRIMARY;
+    }
+}
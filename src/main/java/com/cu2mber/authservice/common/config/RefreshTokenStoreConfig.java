@@ -0,0 +1,51 @@
+package com.cu2mber.authservice.common.config;
+
+import com.cu2mber.authservice.auth.repository.InMemoryRefreshTokenStore;
+import com.cu2mber.authservice.auth.repository.JpaRefreshTokenStore;
+import com.cu2mber.authservice.auth.repository.RefreshTokenJdbcRepository;
+import com.cu2mber.authservice.auth.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 리프레시 토큰 저장 엔진 설정 클래스
+ * <p>
+ * {@code auth.refresh-token.store} 값으로 엔진을 선택합니다.
+ * <ul>
+ * <li>{@code jpa} (기본값): RDS에 직접 저장</li>
+ * <li>{@code memory}: 노드 메모리에 저장, {@code auth.refresh-token.memory.write-behind=true}이면 RDS에 지연 기록</li>
+ * </ul>
+ * </p>
+ */
+@Configuration
+public class RefreshTokenStoreConfig {
+
+    @Bean
+    public JpaRefreshTokenStore jpaRefreshTokenStore(
+            RefreshTokenRepository refreshTokenRepository,
+            RefreshTokenJdbcRepository refreshTokenJdbcRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${auth.refresh-token.batch.chunk-size:500}") int chunkSize,
+            @Value("${auth.datasource.replica.url:}") String replicaUrl,
+            @Value("${auth.refresh-token.max-sessions-per-member:5}") int maxSessionsPerMember) {
+        return new JpaRefreshTokenStore(refreshTokenRepository, refreshTokenJdbcRepository, transactionTemplate, chunkSize,
+                !replicaUrl.isEmpty(), maxSessionsPerMember);
+    }
+
+    /**
+     * 메모리 저장소 선택 시 JPA 저장소보다 우선하여 주입됩니다.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "memory")
+    public InMemoryRefreshTokenStore inMemoryRefreshTokenStore(
+            JpaRefreshTokenStore jpaRefreshTokenStore,
+            @Value("${auth.refresh-token.memory.write-behind:false}") boolean writeBehind,
+            @Value("${auth.refresh-token.max-sessions-per-member:5}") int maxSessionsPerMember) {
+        return new InMemoryRefreshTokenStore(writeBehind ? jpaRefreshTokenStore : null, maxSessionsPerMember);
+    }
+}
@@ -1,8 +1,12 @@
 package com.cu2mber.authservice.common.config;
 
+import com.cu2mber.authservice.auth.util.AccessTokenRevocationList;
+import com.cu2mber.authservice.auth.util.AdminApiKeyFilter;
 import com.cu2mber.authservice.auth.util.JWTFilter;
-import com.cu2mber.authservice.auth.util.JWTUtil;
+import com.cu2mber.authservice.auth.util.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -24,15 +28,19 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JWTUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 보안 필터 체인 정의
      * 허용 주소 설정 및 JWT 필터를 인증 프로세스 앞에 추가합니다.
+     * 관리자 API는 토큰의 role이 아닌 관리자 키({@link AdminApiKeyFilter})로만 인증합니다.
      * 추후, 로그인 안 해도 접근할 수 있는 경로 추가 예정
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${auth.admin.api-keys:}") String adminApiKeys) throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
@@ -40,12 +48,16 @@ public class SecurityConfig {
                 .httpBasic(httpBasic -> httpBasic.disable())
 
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/auth/issue", "/auth/refresh", "/auth/logout").permitAll()
+                        .requestMatchers("/auth/admin/**").hasAuthority(AdminApiKeyFilter.AUTHORITY)
+                        .requestMatchers("/auth/issue", "/auth/issue/batch", "/auth/refresh", "/auth/logout", "/auth/logout/all").permitAll()
                         .requestMatchers( "/api/events/**", "/api/home/**", "/api/notices/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        .requestMatchers("/.well-known/jwks.json").permitAll()
                         .anyRequest().authenticated())
 
                 // 갱신 요청 등을 보낼 때 이미 가진 토큰이 유효한지 확인하는 필터만 유지
-                .addFilterBefore(new JWTFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JWTFilter(verifiedTokenCache, accessTokenRevocationList, meterRegistry), UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(new AdminApiKeyFilter(adminApiKeys), JWTFilter.class)
 
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
@@ -59,15 +71,14 @@ public class SecurityConfig {
      */
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
-        return request -> {
-            CorsConfiguration configuration = new CorsConfiguration();
-            configuration.setAllowedOrigins(Collections.singletonList("http://localhost:3000")); // 허용할 도메인
-            configuration.setAllowedMethods(Collections.singletonList("*")); // 모든 HTTP 메서드 허용
-            configuration.setAllowCredentials(true); // 인증 정보 포함 허용
-            configuration.setAllowedHeaders(Collections.singletonList("*")); // 모든 헤더 허용
-            configuration.setExposedHeaders(Collections.singletonList("Authorization")); // Authorization 헤더 노출
-            configuration.setMaxAge(1800L); // 30분 동안 캐싱
-            return configuration;
-        };
+        // 요청마다 새로 만들지 않도록 한 번만 생성하여 공유 (생성 이후 변경하지 않음)
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOrigins(Collections.singletonList("http://localhost:3000")); // 허용할 도메인
+        configuration.setAllowedMethods(Collections.singletonList("*")); // 모든 HTTP 메서드 허용
+        configuration.setAllowCredentials(true); // 인증 정보 포함 허용
+        configuration.setAllowedHeaders(Collections.singletonList("*")); // 모든 헤더 허용
+        configuration.setExposedHeaders(Collections.singletonList("Authorization")); // Authorization 헤더 노출
+        configuration.setMaxAge(1800L); // 30분 동안 캐싱
+        return request -> configuration;
     }
 }
\ No newline at end of file
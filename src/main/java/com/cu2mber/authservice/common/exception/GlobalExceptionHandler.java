@@ -0,0 +1,25 @@
+package com.cu2mber.authservice.common.exception;
+
+import com.cu2mber.authservice.auth.exception.AuthException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 컨트롤러 예외 처리
+ * <p>
+ * 예상 가능한 인증 실패({@link AuthException})는 로그를 남기지 않고 미리 만들어 둔 본문과 함께 401/404로 응답합니다.
+ * 그 밖의 예외는 처리하지 않으므로 Spring 기본 오류 처리(스택 트레이스 로그 포함)를 그대로 따릅니다.
+ * </p>
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(AuthException.class)
+    public ResponseEntity<byte[]> handleAuthException(AuthException e) {
+        return ResponseEntity.status(e.status())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(e.body());
+    }
+}
@@ -0,0 +1,11 @@
+-- 액세스 토큰 폐기 기록 테이블 (MariaDB)
+CREATE TABLE access_token_revocations (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    member_no  BIGINT      NOT NULL,
+    revoked_at DATETIME(6) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_access_token_revocations_expires_at (expires_at),
+    -- 노드 간 증분 동기화 (revoked_at, id) 커서 조회용
+    INDEX idx_access_token_revocations_revoked_at (revoked_at, id)
+);
@@ -0,0 +1,5 @@
+-- 권한 규칙 액세스 토큰 폐기 (MariaDB)
+-- member_no가 NULL인 행은 권한 규칙으로, role(NULL이면 모든 권한)로 폐기 시각 이전에 발급된 모든 사용자의 액세스 토큰을 폐기합니다.
+-- 관리자 일괄 폐기가 사용자마다 행을 만들지 않고 규칙 한 행만 기록합니다.
+ALTER TABLE access_token_revocations MODIFY member_no BIGINT NULL;
+ALTER TABLE access_token_revocations ADD COLUMN role VARCHAR(50) NULL AFTER session_id;
@@ -0,0 +1,3 @@
+-- 세션 단위 액세스 토큰 폐기 (MariaDB)
+-- session_id가 있으면 그 세션(sid 클레임)의 토큰만, NULL이면 사용자의 모든 토큰을 폐기합니다. 기존 행은 NULL(모든 토큰)로 유지됩니다.
+ALTER TABLE access_token_revocations ADD COLUMN session_id VARCHAR(64) NULL AFTER member_no;
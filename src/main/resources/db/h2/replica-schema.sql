@@ -0,0 +1,15 @@
+-- 로컬 읽기 복제본(H2) 스키마 (replica-local 프로파일 전용)
+-- 주 DB는 Hibernate(ddl-auto)가 스키마를 만들지만 복제본은 라우팅 확인용이므로 읽기에 필요한 테이블만 만듭니다.
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_no   BIGINT       NOT NULL,
+    session_id  VARCHAR(64)  NOT NULL,
+    role        VARCHAR(50),
+    token       VARCHAR(500) NOT NULL,
+    token_hash  BINARY(32),
+    issued_at   TIMESTAMP(6) NOT NULL,
+    expiry_date TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_refresh_tokens_member_session UNIQUE (member_no, session_id),
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash)
+);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expiry_date ON refresh_tokens (expiry_date);
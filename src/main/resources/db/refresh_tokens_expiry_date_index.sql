@@ -0,0 +1,3 @@
+-- 만료 토큰 배치 삭제(TokenCleanupScheduler)용 expiry_date 인덱스 (MariaDB)
+-- WHERE expiry_date < ? ORDER BY expiry_date LIMIT n 조회가 인덱스 범위 스캔으로 처리되도록 합니다.
+CREATE INDEX idx_refresh_tokens_expiry_date ON refresh_tokens (expiry_date);
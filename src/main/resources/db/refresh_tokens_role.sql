@@ -0,0 +1,6 @@
+-- 관리자 세션 일괄 폐기(권한 조건)를 위한 role 컬럼과 인덱스 (MariaDB)
+-- 기존 행은 발급 시 권한이 기록되지 않았으므로 NULL로 남습니다. 권한은 회원 서비스에 있어 여기서 채울 수 없으므로,
+-- 권한 조건 폐기는 NULL인 세션도 대상에 포함하고 작업 상태의 roleUnknown으로 그 수를 보고합니다.
+-- (해당 세션은 다음 로그인/토큰 교체 시 권한이 기록됩니다.)
+ALTER TABLE refresh_tokens ADD COLUMN role VARCHAR(50) NULL;
+CREATE INDEX idx_refresh_tokens_role ON refresh_tokens (role);
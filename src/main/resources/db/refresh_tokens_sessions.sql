@@ -0,0 +1,30 @@
+-- 다중 세션 리프레시 토큰 모델 도입 (MariaDB)
+-- 1. 세션 식별자와 발급 시각 컬럼을 추가합니다. 기존 행은 사용자별 단일 세션('default')으로 이관됩니다.
+ALTER TABLE refresh_tokens ADD COLUMN session_id VARCHAR(64) NOT NULL DEFAULT 'default';
+ALTER TABLE refresh_tokens ADD COLUMN issued_at DATETIME(6) NULL;
+UPDATE refresh_tokens SET issued_at = NOW(6) WHERE issued_at IS NULL;
+ALTER TABLE refresh_tokens MODIFY issued_at DATETIME(6) NOT NULL;
+
+-- 2. 사용자당 한 행만 허용하던 유니크 인덱스를 (member_no, session_id) 복합 유니크 인덱스로 교체합니다.
+--    복합 인덱스의 선두 컬럼이 member_no이므로 사용자 단위 조회/삭제도 이 인덱스를 사용합니다.
+ALTER TABLE refresh_tokens ADD CONSTRAINT uk_refresh_tokens_member_session UNIQUE (member_no, session_id);
+--    기존 member_no 단일 컬럼 유니크 인덱스는 Hibernate가 이름을 생성했으므로 information_schema에서 이름을 찾아 삭제합니다.
+--    이미 삭제되었으면 아무것도 하지 않으므로 다시 실행해도 안전합니다.
+SET @old_index = (
+    SELECT s.INDEX_NAME
+    FROM information_schema.STATISTICS s
+    WHERE s.TABLE_SCHEMA = DATABASE()
+      AND s.TABLE_NAME = 'refresh_tokens'
+      AND s.NON_UNIQUE = 0
+      AND s.INDEX_NAME NOT IN ('PRIMARY', 'uk_refresh_tokens_member_session')
+    GROUP BY s.INDEX_NAME
+    HAVING COUNT(*) = 1 AND MAX(s.COLUMN_NAME) = 'member_no'
+    LIMIT 1);
+SET @drop_old_index = IF(@old_index IS NULL, 'DO 0',
+    CONCAT('ALTER TABLE refresh_tokens DROP INDEX `', @old_index, '`'));
+PREPARE drop_old_index FROM @drop_old_index;
+EXECUTE drop_old_index;
+DEALLOCATE PREPARE drop_old_index;
+
+-- 3. 새 행은 애플리케이션이 session_id를 항상 채우므로 기본값을 제거합니다.
+ALTER TABLE refresh_tokens ALTER COLUMN session_id DROP DEFAULT;
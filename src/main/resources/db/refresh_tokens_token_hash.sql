@@ -0,0 +1,11 @@
+-- 리프레시 토큰 다이제스트(token_hash) 컬럼 도입 (MariaDB)
+-- 1. 컬럼과 유니크 인덱스를 추가합니다. 기존 행은 NULL 상태로 남습니다.
+ALTER TABLE refresh_tokens ADD COLUMN token_hash BINARY(32) NULL;
+ALTER TABLE refresh_tokens ADD CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash);
+
+-- 2. 애플리케이션 기동 시 RefreshTokenDigestBackfill이 기존 행의 다이제스트를 채웁니다.
+--    (auth.refresh-token.digest-backfill.enabled=true, 기본값)
+
+-- 3. 이관 완료 확인 후 (아래 결과가 0건) 원하면 NOT NULL로 전환합니다.
+-- SELECT COUNT(*) FROM refresh_tokens WHERE token_hash IS NULL;
+-- ALTER TABLE refresh_tokens MODIFY token_hash BINARY(32) NOT NULL;
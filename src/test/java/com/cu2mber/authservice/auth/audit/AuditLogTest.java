@@ -0,0 +1,124 @@
+package com.cu2mber.authservice.auth.audit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditLogTest {
+
+    /**
+     * 헤더 + 레코드 두 개 크기의 세그먼트
+     */
+    private static final int TWO_RECORD_SEGMENT = AuditSegmentWriter.HEADER_SIZE + 2 * AuditRecord.SIZE;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void fullRingDropsAndDrainedRecordsReplayAcrossRolledSegments() throws IOException {
+        AuditRingBuffer ring = new AuditRingBuffer(4);
+        for (int i = 1; i <= 5; i++) {
+            boolean accepted = ring.offer(1000L + i, AuditEventType.REFRESH.code(), i, 0xABL + i);
+            assertThat(accepted).isEqualTo(i <= 4);
+        }
+        assertThat(ring.droppedCount()).isEqualTo(1);
+        assertThat(ring.backlog()).isEqualTo(4);
+
+        try (AuditSegmentWriter writer = new AuditSegmentWriter(directory, TWO_RECORD_SEGMENT, 8)) {
+            // 첫 세그먼트에 두 건, 가득 차면 교체한 세그먼트에 나머지 두 건
+            assertThat(writer.append(ring)).isEqualTo(4);
+            assertThat(ring.backlog()).isZero();
+
+            // 비워진 자리에는 다시 들어감
+            assertThat(ring.offer(2000L, AuditEventType.LOGOUT.code(), 9L, 0L)).isTrue();
+            assertThat(writer.append(ring)).isEqualTo(1);
+        }
+
+        assertThat(AuditLogReader.segments(directory)).hasSize(3);
+        List<AuditRecord> records = replay();
+        assertThat(records).containsExactly(
+                new AuditRecord(1001L, AuditEventType.REFRESH, 1L, 0xACL),
+                new AuditRecord(1002L, AuditEventType.REFRESH, 2L, 0xADL),
+                new AuditRecord(1003L, AuditEventType.REFRESH, 3L, 0xAEL),
+                new AuditRecord(1004L, AuditEventType.REFRESH, 4L, 0xAFL),
+                new AuditRecord(2000L, AuditEventType.LOGOUT, 9L, 0L));
+    }
+
+    @Test
+    void rollingDeletesSegmentsBeyondLimit() throws IOException {
+        AuditRingBuffer ring = new AuditRingBuffer(16);
+        for (int i = 1; i <= 6; i++) {
+            ring.offer(i, AuditEventType.ISSUE.code(), i, 0L);
+        }
+
+        try (AuditSegmentWriter writer = new AuditSegmentWriter(directory, TWO_RECORD_SEGMENT, 2)) {
+            int written = 0;
+            while (ring.backlog() > 0) {
+                written += writer.append(ring);
+            }
+            assertThat(written).isEqualTo(6);
+        }
+
+        assertThat(AuditLogReader.segments(directory)).hasSize(2);
+        assertThat(replay()).extracting(AuditRecord::memberNo).containsExactly(3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    void recordedEventsAreFlushedOnShutdown() throws Exception {
+        AuditLog auditLog = new AuditLog(true, directory.toString(), 16, 4096, 4, 1);
+        auditLog.start();
+        auditLog.record(AuditEventType.ISSUE, 1L, 0L);
+        auditLog.record(AuditEventType.REFRESH, 1L, 0x1234L);
+        auditLog.record(AuditEventType.LOGOUT, 1L, 0x1234L);
+        auditLog.shutdown();
+
+        assertThat(auditLog.writtenCount()).isEqualTo(3);
+        assertThat(replay()).extracting(AuditRecord::type)
+                .containsExactly(AuditEventType.ISSUE, AuditEventType.REFRESH, AuditEventType.LOGOUT);
+    }
+
+    @Test
+    void idleWriterIsWokenByProducer() throws Exception {
+        // 유휴 대기 시간이 길어도 이벤트가 들어오면 바로 기록
+        AuditLog auditLog = new AuditLog(true, directory.toString(), 16, 4096, 4, 60_000);
+        auditLog.start();
+        try {
+            Thread.sleep(50);
+            auditLog.record(AuditEventType.ISSUE, 1L, 0L);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (auditLog.writtenCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertThat(auditLog.writtenCount()).isEqualTo(1);
+        } finally {
+            auditLog.shutdown();
+        }
+    }
+
+    @Test
+    void disabledLogWritesNothing() throws Exception {
+        Path target = directory.resolve("disabled");
+        AuditLog auditLog = new AuditLog(false, target.toString(), 16, 4096, 4, 1);
+        auditLog.start();
+        auditLog.record(AuditEventType.ISSUE, 1L, 0L);
+        auditLog.shutdown();
+
+        assertThat(auditLog.publishedCount()).isZero();
+        assertThat(Files.exists(target)).isFalse();
+    }
+
+    private List<AuditRecord> replay() throws IOException {
+        List<AuditRecord> records = new ArrayList<>();
+        AuditLogReader.replay(directory, records::add);
+        return records;
+    }
+}
@@ -0,0 +1,144 @@
+package com.cu2mber.authservice.auth.controller;
+
+import com.cu2mber.authservice.auth.dto.AccessToken;
+import com.cu2mber.authservice.auth.dto.IssueRequest;
+import com.cu2mber.authservice.auth.dto.TokenResponse;
+import com.cu2mber.authservice.auth.service.AuthService;
+import com.cu2mber.authservice.auth.util.AdmissionControl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthControllerTest {
+
+    private final RecordingAuthService authService = new RecordingAuthService();
+
+    private AuthController controller;
+
+    @BeforeEach
+    void setUp() {
+        // 사용자별 발급 제한: 초당 1건, 최대 2건 연속
+        AdmissionControl admissionControl = new AdmissionControl(1000, 0, 0, 0, 0, 0, 0, 0, 0, 1, 2);
+        controller = new AuthController(authService, admissionControl);
+        ReflectionTestUtils.setField(controller, "maxBatchSize", 10);
+    }
+
+    @Test
+    void batchIsIssuedInRequestOrder() {
+        ResponseEntity<List<TokenResponse>> response = controller.issueTokens(List.of(
+                new IssueRequest(1L, "ROLE_USER", "phone"),
+                new IssueRequest(1L, "ROLE_USER", "laptop"),
+                new IssueRequest(2L, "ROLE_USER", null)));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).extracting(TokenResponse::accessToken)
+                .containsExactly("access-1-phone", "access-1-laptop", "access-2-null");
+        assertThat(authService.batches).hasSize(1);
+    }
+
+    @Test
+    void batchWithoutMemberNoIsRejected() {
+        ResponseEntity<List<TokenResponse>> response = controller.issueTokens(List.of(
+                new IssueRequest(1L, "ROLE_USER", "phone"),
+                new IssueRequest(null, "ROLE_USER", "phone")));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(authService.batches).isEmpty();
+    }
+
+    @Test
+    void batchWithNullEntryIsRejected() {
+        ResponseEntity<List<TokenResponse>> response = controller.issueTokens(
+                Arrays.asList(new IssueRequest(1L, "ROLE_USER", "phone"), null));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(authService.batches).isEmpty();
+    }
+
+    @Test
+    void duplicateSessionInBatchIsRejected() {
+        ResponseEntity<List<TokenResponse>> response = controller.issueTokens(List.of(
+                new IssueRequest(1L, "ROLE_USER", "phone"),
+                new IssueRequest(2L, "ROLE_USER", "phone"),
+                new IssueRequest(1L, "ROLE_ADMIN", "phone")));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(authService.batches).isEmpty();
+    }
+
+    @Test
+    void omittedSessionIdsAreNotDuplicates() {
+        ResponseEntity<List<TokenResponse>> response = controller.issueTokens(List.of(
+                new IssueRequest(1L, "ROLE_USER", null),
+                new IssueRequest(1L, "ROLE_USER", null)));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).hasSize(2);
+    }
+
+    @Test
+    void batchIsLimitedPerMember() {
+        ResponseEntity<List<TokenResponse>> response = controller.issueTokens(List.of(
+                new IssueRequest(1L, "ROLE_USER", "phone"),
+                new IssueRequest(1L, "ROLE_USER", "laptop"),
+                new IssueRequest(1L, "ROLE_USER", "tablet")));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(authService.batches).isEmpty();
+
+        // 일괄 발급이 사용한 허용량은 단건 발급과 공유
+        assertThat(controller.issueToken(new IssueRequest(1L, "ROLE_USER", "phone")).getStatusCode())
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(controller.issueToken(new IssueRequest(2L, "ROLE_USER", "phone")).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    /**
+     * 발급 요청을 기록하고 사용자 번호와 세션 식별자로 만든 토큰을 돌려주는 인증 서비스
+     */
+    private static final class RecordingAuthService implements AuthService {
+
+        private final List<List<IssueRequest>> batches = new ArrayList<>();
+
+        @Override
+        public TokenResponse createTokens(Long memberNo, String role, String sessionId) {
+            return token(memberNo, sessionId);
+        }
+
+        @Override
+        public List<TokenResponse> createTokens(List<IssueRequest> requests) {
+            batches.add(requests);
+            return requests.stream().map(request -> token(request.memberNo(), request.sessionId())).toList();
+        }
+
+        @Override
+        public AccessToken refreshAccessToken(String refreshToken) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void logout(String refreshToken) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int logoutAll(String refreshToken) {
+            throw new UnsupportedOperationException();
+        }
+
+        private static TokenResponse token(Long memberNo, String sessionId) {
+            return new TokenResponse("access-" + memberNo + "-" + sessionId, "refresh-" + memberNo + "-" + sessionId,
+                    sessionId);
+        }
+    }
+}
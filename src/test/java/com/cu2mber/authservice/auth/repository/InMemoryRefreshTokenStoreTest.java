@@ -0,0 +1,185 @@
+package com.cu2mber.authservice.auth.repository;
+
+import com.cu2mber.authservice.auth.domain.RefreshToken;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRefreshTokenStoreTest {
+
+    private final BackingStore rds = new BackingStore();
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(rds, 5);
+
+    @Test
+    void loggedOutTokenIsNotReadBackBeforeFlush() {
+        rds.save(entry(1L, "phone", "token-1"));
+        assertThat(store.findByToken("token-1")).isPresent();
+
+        assertThat(store.deleteByToken("token-1")).isTrue();
+
+        // RDS에는 아직 행이 남아 있지만 반영 대기 중인 삭제가 우선
+        assertThat(rds.findByToken("token-1")).isPresent();
+        assertThat(store.findByToken("token-1")).isEmpty();
+
+        store.flush();
+        assertThat(rds.findByToken("token-1")).isEmpty();
+        assertThat(store.findByToken("token-1")).isEmpty();
+    }
+
+    @Test
+    void rotatedTokenIsNotReadBackBeforeFlush() {
+        store.save(entry(1L, "phone", "token-1"));
+        store.flush();
+        store.save(entry(1L, "phone", "token-2"));
+
+        assertThat(rds.findByToken("token-1")).isPresent();
+        assertThat(store.findByToken("token-1")).isEmpty();
+        assertThat(store.findByToken("token-2")).isPresent();
+    }
+
+    @Test
+    void loggedOutTokenIsNotReadBackWhileFlushIsApplying() throws Exception {
+        rds.save(entry(1L, "phone", "token-1"));
+        assertThat(store.findByToken("token-1")).isPresent();
+        assertThat(store.deleteByToken("token-1")).isTrue();
+
+        CountDownLatch deleting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        rds.beforeDelete = () -> {
+            deleting.countDown();
+            await(release);
+        };
+        Thread flusher = Thread.ofPlatform().start(store::flush);
+        assertThat(deleting.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 반영 대기 목록에서는 빠졌지만 아직 RDS에서 지워지지 않은 상태
+        assertThat(store.pendingWriteCount()).isZero();
+        assertThat(rds.findByToken("token-1")).isPresent();
+        assertThat(store.findByToken("token-1")).isEmpty();
+
+        release.countDown();
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+        assertThat(rds.findByToken("token-1")).isEmpty();
+        assertThat(store.findByToken("token-1")).isEmpty();
+    }
+
+    @Test
+    void failedFlushKeepsChangeUntilRetrySucceeds() {
+        rds.save(entry(1L, "phone", "token-1"));
+        assertThat(store.findByToken("token-1")).isPresent();
+        assertThat(store.deleteByToken("token-1")).isTrue();
+
+        AtomicBoolean fail = new AtomicBoolean(true);
+        rds.beforeDelete = () -> {
+            if (fail.getAndSet(false)) {
+                throw new IllegalStateException("RDS 연결 실패");
+            }
+        };
+        store.flush();
+
+        assertThat(store.pendingWriteCount()).isEqualTo(1);
+        assertThat(store.findByToken("token-1")).isEmpty();
+
+        store.flush();
+        assertThat(store.pendingWriteCount()).isZero();
+        assertThat(rds.findByToken("token-1")).isEmpty();
+    }
+
+    @Test
+    void otherSessionOfMemberWithPendingChangeIsStillReadThrough() {
+        rds.save(entry(1L, "laptop", "token-laptop"));
+        store.save(entry(1L, "phone", "token-phone"));
+
+        Optional<RefreshToken> laptop = store.findByToken("token-laptop");
+
+        assertThat(laptop).isPresent();
+        assertThat(laptop.get().getSessionId()).isEqualTo("laptop");
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    void sessionsOverTheCapAreEvictedOldestFirst() {
+        for (int i = 1; i <= 5; i++) {
+            store.save(entry(1L, "device-" + i, "token-" + i));
+        }
+        // 다시 발급한 세션은 가장 최근 세션이 되어 다음 제거 대상에서 빠짐
+        store.save(entry(1L, "device-1", "token-1b"));
+        store.save(entry(1L, "device-6", "token-6"));
+        store.save(entry(2L, "device-1", "token-other"));
+
+        assertThat(store.findByToken("token-2")).isEmpty();
+        assertThat(store.findByToken("token-1")).isEmpty();
+        assertThat(store.findByToken("token-1b")).isPresent();
+        assertThat(store.findByToken("token-6")).isPresent();
+        assertThat(store.findByToken("token-other")).isPresent();
+        assertThat(store.size()).isEqualTo(6);
+
+        store.flush();
+        assertThat(rds.findByToken("token-2")).isEmpty();
+        assertThat(rds.findByToken("token-3")).isPresent();
+        assertThat(rds.byToken).hasSize(6);
+    }
+
+    private static RefreshTokenStore.TokenEntry entry(Long memberNo, String sessionId, String token) {
+        LocalDateTime now = LocalDateTime.now();
+        return new RefreshTokenStore.TokenEntry(memberNo, sessionId, "ROLE_USER", token, now, now.plusDays(14));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 지연 기록 대상(RDS) 대신 사용하는 토큰 문자열 기준 저장소
+     */
+    private static final class BackingStore implements RefreshTokenStore {
+
+        private final Map<String, RefreshToken> byToken = new ConcurrentHashMap<>();
+        private volatile Runnable beforeDelete = () -> {
+        };
+
+        @Override
+        public void save(TokenEntry entry) {
+            byToken.values().removeIf(token -> token.getMemberNo().equals(entry.memberNo())
+                    && token.getSessionId().equals(entry.sessionId()));
+            byToken.put(entry.token(), new RefreshToken(entry.memberNo(), entry.sessionId(), entry.role(), entry.token(),
+                    entry.issuedAt(), entry.expiryDate()));
+        }
+
+        @Override
+        public void saveAll(List<TokenEntry> tokens) {
+            tokens.forEach(this::save);
+        }
+
+        @Override
+        public Optional<RefreshToken> findByToken(String token) {
+            return Optional.ofNullable(byToken.get(token));
+        }
+
+        @Override
+        public boolean deleteByToken(String token) {
+            beforeDelete.run();
+            return byToken.remove(token) != null;
+        }
+
+        @Override
+        public int deleteByMemberNo(Long memberNo) {
+            int before = byToken.size();
+            byToken.values().removeIf(token -> token.getMemberNo().equals(memberNo));
+            return before - byToken.size();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.cu2mber.authservice.auth.repository;
+
+import com.cu2mber.authservice.auth.domain.RefreshToken;
+import com.cu2mber.authservice.common.config.RefreshTokenStoreConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({RefreshTokenStoreConfig.class, RefreshTokenJdbcRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaRefreshTokenStoreTest {
+
+    @Autowired
+    private JpaRefreshTokenStore store;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void expiredTokensArePurgedInBatches() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            save(i, now.minusDays(15), now.minusDays(1));
+        }
+        save(3, now, now.plusDays(14));
+
+        assertThat(store.purgeExpired(now, 2)).isEqualTo(2);
+        assertThat(store.purgeExpired(now, 2)).isEqualTo(1);
+        assertThat(store.purgeExpired(now, 2)).isZero();
+        assertThat(refreshTokenRepository.findAll()).extracting(RefreshToken::getSessionId)
+                .containsExactly("device-3");
+    }
+
+    @Test
+    void rowsLockedByAnotherCleanupAreSkippedWithoutWaiting() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            save(i, now.minusDays(15), now.minusDays(1));
+        }
+
+        // 다른 노드의 정리 트랜잭션이 가장 먼저 만료된 행을 잠근 동안 실행
+        List<Long> lockedIds = transactionTemplate.execute(status -> {
+            List<Long> locked = refreshTokenRepository.lockExpiredIds(now, 1);
+            int purged = CompletableFuture.supplyAsync(() -> store.purgeExpired(now, 10))
+                    .orTimeout(10, TimeUnit.SECONDS)
+                    .join();
+            // 잠긴 행은 건너뛰므로 기다리지 않고 끝남 (H2는 조회 범위의 행을 모두 건너뛰고, MariaDB는 잠기지 않은 행을 삭제)
+            assertThat(purged).isLessThan(3);
+            return locked;
+        });
+
+        assertThat(refreshTokenRepository.findAllById(lockedIds)).hasSize(1);
+        assertThat(store.purgeExpired(now, 10)).isPositive();
+        assertThat(refreshTokenRepository.count()).isZero();
+    }
+
+    private void save(int device, LocalDateTime issuedAt, LocalDateTime expiryDate) {
+        store.save(new RefreshTokenStore.TokenEntry(1L, "device-" + device, "ROLE_USER", "token-" + device,
+                issuedAt.plusSeconds(device), expiryDate.plusSeconds(device)));
+    }
+}
@@ -0,0 +1,124 @@
+package com.cu2mber.authservice.auth.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshTokenJdbcRepositoryTest {
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MariaDB;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/h2/replica-schema.sql")).execute(dataSource);
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.getJdbcTemplate().execute("SHUTDOWN");
+    }
+
+    /**
+     * H2: MERGE 문, Unknown: UPDATE 후 INSERT 방식
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"H2", "Unknown"})
+    void upsertInsertsNewSessionAndReplacesExistingOne(String databaseProductName) {
+        RefreshTokenJdbcRepository repository = new RefreshTokenJdbcRepository(jdbcTemplate, () -> databaseProductName);
+
+        repository.upsert(entry(1L, "phone", "token-1"));
+        repository.upsert(entry(1L, "laptop", "token-2"));
+        repository.upsert(entry(1L, "phone", "token-3"));
+
+        assertThat(tokens()).containsExactly(Map.entry("laptop", "token-2"), Map.entry("phone", "token-3"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"H2", "Unknown"})
+    void batchWithDuplicateSessionKeepsLastToken(String databaseProductName) {
+        RefreshTokenJdbcRepository repository = new RefreshTokenJdbcRepository(jdbcTemplate, () -> databaseProductName);
+        repository.upsert(entry(1L, "laptop", "token-0"));
+
+        repository.upsertAll(List.of(
+                entry(1L, "phone", "token-1"),
+                entry(1L, "laptop", "token-2"),
+                entry(1L, "phone", "token-3")));
+
+        assertThat(tokens()).containsExactly(Map.entry("laptop", "token-2"), Map.entry("phone", "token-3"));
+    }
+
+    @Test
+    void dialectIsResolvedLazilyAndRetriedAfterFailure() {
+        AtomicInteger lookups = new AtomicInteger();
+        RefreshTokenJdbcRepository repository = new RefreshTokenJdbcRepository(jdbcTemplate,
+                () -> lookups.incrementAndGet() == 1 ? null : "H2");
+        assertThat(lookups).hasValue(0);
+
+        // 첫 확인에 실패해도 UPDATE/INSERT 방식으로 저장하고, 다음 저장에서 다시 확인해 기억
+        repository.upsert(entry(1L, "phone", "token-1"));
+        repository.upsert(entry(1L, "phone", "token-2"));
+        repository.upsert(entry(1L, "laptop", "token-3"));
+
+        assertThat(repository.dialect()).isEqualTo(RefreshTokenJdbcRepository.Dialect.H2);
+        assertThat(lookups).hasValue(2);
+        assertThat(tokens()).containsExactly(Map.entry("laptop", "token-3"), Map.entry("phone", "token-2"));
+    }
+
+    @Test
+    void excessSessionsAreEvictedOldestFirst() {
+        RefreshTokenJdbcRepository repository = new RefreshTokenJdbcRepository(jdbcTemplate, () -> "H2");
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 4; i++) {
+            repository.upsert(new RefreshTokenStore.TokenEntry(1L, "device-" + i, "ROLE_USER", "token-" + i,
+                    now.plusSeconds(i), now.plusDays(14)));
+        }
+        repository.upsert(entry(2L, "phone", "token-other"));
+
+        assertThat(repository.evictExcessSessions(List.of(1L, 2L), 2)).isEqualTo(2);
+        assertThat(tokens()).containsOnlyKeys("device-2", "device-3", "phone");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"H2", "Unknown"})
+    void estimatedRowCountReadsTableStatistics(String databaseProductName) {
+        RefreshTokenJdbcRepository repository = new RefreshTokenJdbcRepository(jdbcTemplate, () -> databaseProductName);
+        repository.upsertAll(List.of(entry(1L, "phone", "token-1"), entry(1L, "laptop", "token-2"),
+                entry(2L, "phone", "token-3")));
+
+        assertThat(repository.estimatedRowCount()).isEqualTo(3);
+    }
+
+    private Map<String, String> tokens() {
+        return jdbcTemplate.getJdbcTemplate().query("SELECT session_id, token FROM refresh_tokens ORDER BY session_id",
+                rs -> {
+                    Map<String, String> tokens = new LinkedHashMap<>();
+                    while (rs.next()) {
+                        tokens.put(rs.getString("session_id"), rs.getString("token"));
+                    }
+                    return tokens;
+                });
+    }
+
+    private static RefreshTokenStore.TokenEntry entry(Long memberNo, String sessionId, String token) {
+        LocalDateTime now = LocalDateTime.now();
+        return new RefreshTokenStore.TokenEntry(memberNo, sessionId, "ROLE_USER", token, now, now.plusDays(14));
+    }
+}
@@ -0,0 +1,245 @@
+package com.cu2mber.authservice.auth.service.impl;
+
+import com.cu2mber.authservice.auth.audit.AuditLog;
+import com.cu2mber.authservice.auth.dto.AdminJobStatus;
+import com.cu2mber.authservice.auth.dto.BulkRevokeRequest;
+import com.cu2mber.authservice.auth.repository.RefreshTokenScanRepository;
+import com.cu2mber.authservice.auth.service.RevocationService;
+import com.cu2mber.authservice.auth.util.AccessTokenRevocationList;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SessionAdminServiceImplTest {
+
+    private static final long TTL = 1800000L;
+
+    private final AccessTokenRevocationList revocationList = new AccessTokenRevocationList(300000L, 1024);
+    private final RecordingRevocationService revocationService = new RecordingRevocationService();
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private SessionAdminServiceImpl sessionAdminService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MariaDB;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/h2/replica-schema.sql")).execute(dataSource);
+
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        sessionAdminService = new SessionAdminServiceImpl(new RefreshTokenScanRepository(jdbcTemplate),
+                revocationService, new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                new AuditLog(false, "./audit-log", 1024, 1 << 20, 1, 1L),
+                new ObjectMapper().findAndRegisterModules(), 3, 0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.getJdbcTemplate().execute("SHUTDOWN");
+        sessionAdminService.shutdown();
+    }
+
+    @Test
+    void scanRevokesMatchingSessionsWithOneRoleRule() throws InterruptedException {
+        for (long memberNo = 1; memberNo <= 10; memberNo++) {
+            insertSession(memberNo, "phone", memberNo % 2 == 0 ? "ROLE_ADMIN" : "ROLE_USER", LocalDateTime.now());
+        }
+        long issuedBeforeRevocation = System.currentTimeMillis() - 1000;
+
+        AdminJobStatus job = awaitFinished(sessionAdminService.startBulkRevocation(
+                new BulkRevokeRequest("ROLE_ADMIN", null, null)));
+
+        assertThat(job.state()).isEqualTo("COMPLETED");
+        assertThat(job.scanned()).isEqualTo(10);
+        assertThat(job.affected()).isEqualTo(5);
+        assertThat(job.roleUnknown()).isZero();
+        assertThat(remainingRoles()).containsOnly("ROLE_USER").hasSize(5);
+
+        // 세션별 기록 없이 시작/종료 시 권한 규칙만 기록
+        assertThat(revocationService.revokedSessions).isEmpty();
+        assertThat(revocationService.revokedRoles).containsExactly("ROLE_ADMIN", "ROLE_ADMIN");
+        assertThat(revocationList.isRevoked(2L, "ROLE_ADMIN", "phone", issuedBeforeRevocation)).isTrue();
+        assertThat(revocationList.isRevoked(1L, "ROLE_USER", "phone", issuedBeforeRevocation)).isFalse();
+        assertThat(revocationList.size()).isEqualTo(1);
+    }
+
+    @Test
+    void roleWithOtherCriteriaRevokesDeletedSessionsInsteadOfRoleRule() throws InterruptedException {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(1);
+        insertSession(1L, "phone", "ROLE_ADMIN", cutoff.minusDays(1));
+        insertSession(1L, "laptop", "ROLE_ADMIN", cutoff.plusHours(1));
+        insertSession(2L, "phone", "ROLE_USER", cutoff.minusDays(1));
+        long issuedBeforeRevocation = System.currentTimeMillis() - 1000;
+
+        AdminJobStatus job = awaitFinished(sessionAdminService.startBulkRevocation(
+                new BulkRevokeRequest("ROLE_ADMIN", null, cutoff)));
+
+        assertThat(job.state()).isEqualTo("COMPLETED");
+        assertThat(job.affected()).isEqualTo(1);
+        assertThat(revocationService.revokedRoles).isEmpty();
+        assertThat(revocationService.revokedSessions).containsExactly("1:phone");
+        assertThat(revocationList.isRevoked(1L, "ROLE_ADMIN", "phone", issuedBeforeRevocation)).isTrue();
+        assertThat(revocationList.isRevoked(1L, "ROLE_ADMIN", "laptop", issuedBeforeRevocation)).isFalse();
+    }
+
+    @Test
+    void memberListRevokesOnlyDeletedSessions() throws InterruptedException {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(1);
+        insertSession(1L, "phone", "ROLE_USER", cutoff.minusDays(1));
+        insertSession(1L, "laptop", "ROLE_USER", cutoff.plusHours(1));
+        insertSession(2L, "phone", "ROLE_USER", cutoff.minusDays(2));
+        insertSession(3L, "phone", "ROLE_USER", cutoff.plusHours(2));
+        insertSession(4L, "phone", "ROLE_USER", cutoff.minusDays(1));
+        long issuedBeforeRevocation = System.currentTimeMillis() - 1000;
+
+        AdminJobStatus job = awaitFinished(sessionAdminService.startBulkRevocation(
+                new BulkRevokeRequest(null, List.of(1L, 2L, 3L, 99L), cutoff)));
+
+        assertThat(job.state()).isEqualTo("COMPLETED");
+        assertThat(job.affected()).isEqualTo(2);
+        assertThat(jdbcTemplate.getJdbcTemplate().queryForList(
+                "SELECT member_no FROM refresh_tokens ORDER BY member_no", Long.class)).containsExactly(1L, 3L, 4L);
+        assertThat(revocationService.revokedSessions).containsExactlyInAnyOrder("1:phone", "2:phone");
+        assertThat(revocationService.revokedRoles).isEmpty();
+
+        // 같은 사용자의 남은 세션(laptop)은 폐기하지 않음
+        assertThat(revocationList.isRevoked(1L, "ROLE_USER", "phone", issuedBeforeRevocation)).isTrue();
+        assertThat(revocationList.isRevoked(1L, "ROLE_USER", "laptop", issuedBeforeRevocation)).isFalse();
+    }
+
+    @Test
+    void legacySessionsWithoutRoleMatchRoleConditionAndAreReported() throws InterruptedException {
+        insertSession(1L, "default", null, LocalDateTime.now());
+        insertSession(2L, "phone", "ROLE_ADMIN", LocalDateTime.now());
+        insertSession(3L, "phone", "ROLE_USER", LocalDateTime.now());
+
+        AdminJobStatus job = awaitFinished(sessionAdminService.startBulkRevocation(
+                new BulkRevokeRequest("ROLE_ADMIN", null, null)));
+
+        assertThat(job.state()).isEqualTo("COMPLETED");
+        assertThat(job.affected()).isEqualTo(2);
+        assertThat(job.roleUnknown()).isEqualTo(1);
+        assertThat(remainingRoles()).containsExactly("ROLE_USER");
+
+        // 권한 규칙이 맞지 않을 수 있는 기존 세션은 세션 단위로도 폐기
+        assertThat(revocationService.revokedRoles).containsExactly("ROLE_ADMIN", "ROLE_ADMIN");
+        assertThat(revocationService.revokedSessions).containsExactly("1:default");
+    }
+
+    @Test
+    void requestWithoutCriteriaIsRejected() {
+        assertThatThrownBy(() -> sessionAdminService.startBulkRevocation(new BulkRevokeRequest(null, List.of(), null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(sessionAdminService.recentJobs()).isEmpty();
+    }
+
+    @Test
+    void onlyFinishedJobsAreEvicted() throws Exception {
+        AdminJobStatus finished = sessionAdminService.createExportJob();
+        sessionAdminService.exportActiveSessions(finished.id(), new ByteArrayOutputStream());
+
+        List<String> queued = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            queued.add(sessionAdminService.createExportJob().id());
+        }
+
+        // 상한(100)을 넘으면 끝난 작업부터 제거
+        assertThat(sessionAdminService.findJob(finished.id())).isEmpty();
+        assertThat(sessionAdminService.recentJobs()).hasSize(100);
+
+        // 끝나지 않은 작업뿐이면 상한을 넘어도 제거하지 않음
+        String latest = sessionAdminService.createExportJob().id();
+        assertThat(sessionAdminService.recentJobs()).hasSize(101);
+        assertThat(sessionAdminService.findJob(queued.get(0))).get()
+                .extracting(AdminJobStatus::state).isEqualTo("QUEUED");
+        assertThat(sessionAdminService.findJob(latest)).isPresent();
+    }
+
+    private void insertSession(long memberNo, String sessionId, String role, LocalDateTime issuedAt) {
+        jdbcTemplate.update("INSERT INTO refresh_tokens (member_no, session_id, role, token, issued_at, expiry_date) "
+                        + "VALUES (:memberNo, :sessionId, :role, :token, :issuedAt, :expiryDate)",
+                new MapSqlParameterSource()
+                        .addValue("memberNo", memberNo)
+                        .addValue("sessionId", sessionId)
+                        .addValue("role", role)
+                        .addValue("token", "token-" + memberNo + "-" + sessionId)
+                        .addValue("issuedAt", Timestamp.valueOf(issuedAt))
+                        .addValue("expiryDate", Timestamp.valueOf(issuedAt.plusDays(14))));
+    }
+
+    private List<String> remainingRoles() {
+        return jdbcTemplate.getJdbcTemplate().queryForList("SELECT role FROM refresh_tokens", String.class);
+    }
+
+    private AdminJobStatus awaitFinished(AdminJobStatus started) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        AdminJobStatus job = started;
+        while (job.finishedAt() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = sessionAdminService.findJob(started.id()).orElseThrow();
+        }
+        return job;
+    }
+
+    /**
+     * DB 대신 호출을 기록하고 메모리 폐기 목록에 바로 반영하는 폐기 서비스
+     */
+    private final class RecordingRevocationService implements RevocationService {
+
+        private final List<Long> revokedMembers = new CopyOnWriteArrayList<>();
+        private final List<String> revokedSessions = new CopyOnWriteArrayList<>();
+        private final List<String> revokedRoles = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void revokeAccessTokens(Long memberNo) {
+            revokedMembers.add(memberNo);
+            long now = System.currentTimeMillis();
+            revocationList.revoke(memberNo, now, now + TTL);
+        }
+
+        @Override
+        public void revokeAccessTokens(Collection<Long> memberNos) {
+            memberNos.forEach(this::revokeAccessTokens);
+        }
+
+        @Override
+        public void revokeSessionAccessTokens(Long memberNo, String sessionId) {
+            revokedSessions.add(memberNo + ":" + sessionId);
+            long now = System.currentTimeMillis();
+            revocationList.revokeSession(memberNo, sessionId, now, now + TTL);
+        }
+
+        @Override
+        public void revokeRoleAccessTokens(String role) {
+            revokedRoles.add(role);
+            long now = System.currentTimeMillis();
+            revocationList.revokeRole(role, now, now + TTL);
+        }
+
+        @Override
+        public long accessTokenIssuedAt(Long memberNo, String role, String sessionId) {
+            return revocationList.issuedAt(memberNo, role, sessionId, System.currentTimeMillis());
+        }
+    }
+}
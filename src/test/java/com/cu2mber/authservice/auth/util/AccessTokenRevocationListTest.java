@@ -0,0 +1,99 @@
+package com.cu2mber.authservice.auth.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessTokenRevocationListTest {
+
+    private static final long TTL = 1800000L;
+
+    private final AccessTokenRevocationList revocationList = new AccessTokenRevocationList(300000L, 1024);
+
+    @Test
+    void revokesTokensIssuedBeforeAndInTheSameSecond() {
+        long now = System.currentTimeMillis();
+        long revokedAt = now - now % 1000 + 500;
+        revocationList.revoke(1L, revokedAt, revokedAt + TTL);
+
+        assertThat(revocationList.isRevoked(1L, revokedAt - 1000)).isTrue();
+        // 같은 초에 (로그아웃 직전에) 발급된 토큰도 폐기
+        assertThat(revocationList.isRevoked(1L, revokedAt - 400)).isTrue();
+        assertThat(revocationList.isRevoked(1L, revokedAt + 400)).isTrue();
+        assertThat(revocationList.isRevoked(1L, revokedAt + 1000)).isFalse();
+        assertThat(revocationList.isRevoked(2L, revokedAt - 1000)).isFalse();
+    }
+
+    @Test
+    void tokensIssuedRightAfterRevocationMoveToTheNextSecond() {
+        long now = System.currentTimeMillis();
+        long revokedAt = now - now % 1000 + 500;
+        revocationList.revoke(1L, revokedAt, revokedAt + TTL);
+
+        long issuedAt = revocationList.issuedAt(1L, null, null, revokedAt + 100);
+
+        assertThat(issuedAt).isEqualTo(revokedAt - 500 + 1000);
+        assertThat(revocationList.isRevoked(1L, issuedAt)).isFalse();
+        // 다음 초부터는, 그리고 폐기 기록이 없는 사용자는 현재 시각을 그대로 사용
+        assertThat(revocationList.issuedAt(1L, null, null, revokedAt + 700)).isEqualTo(revokedAt + 700);
+        assertThat(revocationList.issuedAt(2L, null, null, revokedAt + 100)).isEqualTo(revokedAt + 100);
+    }
+
+    @Test
+    void sessionRevocationKeepsOtherSessionsValid() {
+        long now = System.currentTimeMillis();
+        revocationList.revokeSession(1L, "phone", now, now + TTL);
+
+        assertThat(revocationList.isRevoked(1L, "ROLE_USER", "phone", now - 1000)).isTrue();
+        assertThat(revocationList.isRevoked(1L, "ROLE_USER", "laptop", now - 1000)).isFalse();
+        assertThat(revocationList.isRevoked(2L, "ROLE_USER", "phone", now - 1000)).isFalse();
+        // sid 클레임이 없는 이전 토큰은 어느 세션의 것인지 알 수 없으므로 폐기
+        assertThat(revocationList.isRevoked(1L, now - 1000)).isTrue();
+
+        // 같은 초에 다시 발급하는 토큰은 그 세션만 다음 초로 이동
+        assertThat(revocationList.issuedAt(1L, "ROLE_USER", "phone", now)).isEqualTo((now / 1000 + 1) * 1000);
+        assertThat(revocationList.issuedAt(1L, "ROLE_USER", "laptop", now)).isEqualTo(now);
+        assertThat(revocationList.size()).isEqualTo(1);
+    }
+
+    @Test
+    void memberRevocationCoversEverySession() {
+        long now = System.currentTimeMillis();
+        revocationList.revokeSession(1L, "phone", now - 5000, now - 5000 + TTL);
+        revocationList.revoke(1L, now, now + TTL);
+
+        assertThat(revocationList.isRevoked(1L, "ROLE_USER", "phone", now - 1000)).isTrue();
+        assertThat(revocationList.isRevoked(1L, "ROLE_USER", "laptop", now - 1000)).isTrue();
+        assertThat(revocationList.issuedAt(1L, "ROLE_USER", "laptop", now)).isEqualTo((now / 1000 + 1) * 1000);
+        assertThat(revocationList.size()).isEqualTo(2);
+    }
+
+    @Test
+    void roleRuleRevokesEveryMemberWithThatRole() {
+        long now = System.currentTimeMillis();
+        revocationList.revokeRole("ROLE_ADMIN", now, now + TTL);
+
+        assertThat(revocationList.isRevoked(1L, "ROLE_ADMIN", "phone", now - 1000)).isTrue();
+        assertThat(revocationList.isRevoked(987654L, "ROLE_ADMIN", null, now - 1000)).isTrue();
+        assertThat(revocationList.isRevoked(1L, "ROLE_ADMIN", "phone", now + 1000)).isFalse();
+        assertThat(revocationList.isRevoked(1L, "ROLE_USER", "phone", now - 1000)).isFalse();
+        assertThat(revocationList.issuedAt(2L, "ROLE_ADMIN", "phone", now)).isEqualTo((now / 1000 + 1) * 1000);
+        assertThat(revocationList.issuedAt(2L, "ROLE_USER", "phone", now)).isEqualTo(now);
+
+        // 권한을 지정하지 않은 규칙은 모든 권한에 적용
+        revocationList.revokeRole(null, now, now + TTL);
+        assertThat(revocationList.isRevoked(3L, "ROLE_USER", "laptop", now - 1000)).isTrue();
+        assertThat(revocationList.isRevoked(3L, now - 1000)).isTrue();
+        assertThat(revocationList.size()).isEqualTo(2);
+    }
+
+    @Test
+    void laterRevocationWins() {
+        long now = System.currentTimeMillis();
+        revocationList.revoke(1L, now, now + TTL);
+        revocationList.revoke(1L, now - 5000, now - 5000 + TTL);
+
+        assertThat(revocationList.isRevoked(1L, now)).isTrue();
+        assertThat(revocationList.issuedAt(1L, null, null, now)).isEqualTo((now / 1000 + 1) * 1000);
+    }
+}
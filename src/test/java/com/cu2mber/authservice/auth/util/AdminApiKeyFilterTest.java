@@ -0,0 +1,75 @@
+package com.cu2mber.authservice.auth.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdminApiKeyFilterTest {
+
+    private final AdminApiKeyFilter filter = new AdminApiKeyFilter("old-key, new-key");
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validKeyAuthenticatesAsAdminApi() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("new-key"), response, chain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(authentication.getAuthorities())
+                .extracting(Object::toString)
+                .containsExactly(AdminApiKeyFilter.AUTHORITY);
+    }
+
+    @Test
+    void invalidKeyIsRejected() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("ROLE_ADMIN"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void requestWithoutKeyPassesThroughUnauthenticated() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request(null), response, chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void noConfiguredKeyRejectsEveryKey() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new AdminApiKeyFilter("").doFilter(request(""), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    private static MockHttpServletRequest request(String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/admin/sessions/revoke");
+        if (apiKey != null) {
+            request.addHeader(AdminApiKeyFilter.HEADER, apiKey);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,114 @@
+package com.cu2mber.authservice.auth.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Hs256TokenSignerTest {
+
+    private final SecretKey secretKey = new SecretKeySpec(
+            "test-secret-key-for-auth-service-0123456789".getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+
+    private final Hs256TokenSigner signer = new Hs256TokenSigner(secretKey);
+
+    @Test
+    void producesSameTokenAsJjwt() {
+        long now = 1_760_000_000_123L;
+
+        for (long memberNo : new long[]{0L, 1L, 12345L, Long.MAX_VALUE, -7L}) {
+            for (String role : new String[]{"", "R", "ROLE_USER", "ROLE_ADMIN"}) {
+                String expected = Jwts.builder()
+                        .claim("category", "refresh")
+                        .claim("memberNo", memberNo)
+                        .claim("role", role)
+                        .issuedAt(new Date(now))
+                        .expiration(new Date(now + 1209600000L))
+                        .signWith(secretKey)
+                        .compact();
+
+                assertThat(signer.sign("refresh", memberNo, role, now, 1209600000L)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void producesSameTokenAsJjwtWithSessionId() {
+        long now = 1_760_000_000_123L;
+
+        for (String sessionId : new String[]{"", "default", "0b7c6f1e-2d4a-4c8e-9a51-3f2e6d7c8b90"}) {
+            String expected = Jwts.builder()
+                    .claim("category", "access")
+                    .claim("memberNo", 42L)
+                    .claim("role", "ROLE_USER")
+                    .claim("sid", sessionId)
+                    .issuedAt(new Date(now))
+                    .expiration(new Date(now + 1800000L))
+                    .signWith(secretKey)
+                    .compact();
+
+            assertThat(signer.sign("access", 42L, "ROLE_USER", sessionId, now, 1800000L)).isEqualTo(expected);
+        }
+        assertThat(signer.sign("access", 42L, "ROLE_USER", null, now, 1800000L))
+                .isEqualTo(signer.sign("access", 42L, "ROLE_USER", now, 1800000L));
+    }
+
+    @Test
+    void tokenIsAcceptedByJjwtParser() {
+        long now = System.currentTimeMillis();
+        String token = signer.sign("access", 42L, "ROLE_USER", now, 1800000L);
+
+        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+
+        assertThat(claims.get("category", String.class)).isEqualTo("access");
+        assertThat(claims.get("memberNo", Long.class)).isEqualTo(42L);
+        assertThat(claims.get("role", String.class)).isEqualTo("ROLE_USER");
+        assertThat(claims.getExpiration().getTime()).isEqualTo((now + 1800000L) / 1000 * 1000);
+    }
+
+    @Test
+    void concurrentVirtualThreadsProduceSameTokensAsJjwt() throws Exception {
+        long now = 1_760_000_000_123L;
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long memberNo = 0; memberNo < 2000; memberNo++) {
+                long member = memberNo;
+                results.add(executor.submit(() -> signer.sign("access", member, "ROLE_USER", now, 1800000L).equals(
+                        Jwts.builder()
+                                .claim("category", "access")
+                                .claim("memberNo", member)
+                                .claim("role", "ROLE_USER")
+                                .issuedAt(new Date(now))
+                                .expiration(new Date(now + 1800000L))
+                                .signWith(secretKey)
+                                .compact())));
+            }
+        }
+
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+    }
+
+    @Test
+    void rejectsValuesThatNeedEscaping() {
+        assertThat(Hs256TokenSigner.supports("access", "ROLE_USER")).isTrue();
+        assertThat(Hs256TokenSigner.supports("access", null)).isFalse();
+        assertThat(Hs256TokenSigner.supports("access", "ROLE\"USER")).isFalse();
+        assertThat(Hs256TokenSigner.supports("access", "관리자")).isFalse();
+        assertThat(Hs256TokenSigner.supports("access", "ROLE_USER", null)).isTrue();
+        assertThat(Hs256TokenSigner.supports("access", "ROLE_USER", "세션")).isFalse();
+    }
+}
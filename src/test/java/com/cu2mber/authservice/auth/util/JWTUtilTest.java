@@ -0,0 +1,53 @@
+package com.cu2mber.authservice.auth.util;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JWTUtilTest {
+
+    @Test
+    void bothSigningPathsUseHs256ForLongSecrets() {
+        JWTUtil jwtUtil = new JWTUtil("x".repeat(64));
+
+        // 전용 서명기 경로 / jjwt 경로 (JSON 이스케이프가 필요한 role)
+        String fast = jwtUtil.createToken("access", 1L, "ROLE_USER", 1800000L);
+        String fallback = jwtUtil.createToken("access", 1L, "관리자", 1800000L);
+
+        assertThat(header(fast)).isEqualTo("{\"alg\":\"HS256\"}");
+        assertThat(header(fallback)).isEqualTo("{\"alg\":\"HS256\"}");
+        Claims claims = jwtUtil.getPayload(fallback);
+        assertThat(claims.get("role", String.class)).isEqualTo("관리자");
+        assertThat(jwtUtil.getPayload(fast).get("memberNo", Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    void sessionIdIsWrittenAsSidClaimOnBothPaths() {
+        JWTUtil jwtUtil = new JWTUtil("x".repeat(64));
+        long now = System.currentTimeMillis();
+
+        String fast = jwtUtil.createToken("access", 1L, "ROLE_USER", "phone", 1800000L, now);
+        String fallback = jwtUtil.createToken("access", 1L, "ROLE_USER", "휴대폰", 1800000L, now);
+        String legacy = jwtUtil.createToken("access", 1L, "ROLE_USER", 1800000L);
+
+        assertThat(jwtUtil.getPayload(fast).get("sid", String.class)).isEqualTo("phone");
+        assertThat(jwtUtil.getPayload(fallback).get("sid", String.class)).isEqualTo("휴대폰");
+        assertThat(jwtUtil.getPayload(legacy)).doesNotContainKey("sid");
+    }
+
+    @Test
+    void rejectsSecretsShorterThan256Bits() {
+        assertThatThrownBy(() -> new JWTUtil("x".repeat(31)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(new JWTUtil("x".repeat(32)).createToken("access", 1L, "ROLE_USER", 1000L)).isNotEmpty();
+    }
+
+    private static String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,226 @@
+package com.cu2mber.authservice.auth.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private static final long ACTIVATION_DELAY_MS = Duration.ofMinutes(10).toMillis();
+    private static final long RETENTION_MS = Duration.ofDays(14).toMillis();
+    private static final Instant NOW = Instant.parse("2026-10-17T00:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path keyDir;
+
+    @Test
+    void newKeyIsPublishedBeforeItSigns() throws Exception {
+        writeKeyPair("2026-09-01", ecKeyPair(), NOW.minus(Duration.ofDays(30)));
+        writeKeyPair("2026-10-17", ecKeyPair(), NOW.minus(Duration.ofMinutes(1)));
+
+        JwtKeyRing keyRing = keyRing("ES256");
+
+        // 새 키는 JWKS와 검증에는 바로 포함되지만 서명은 기존 키로 계속
+        assertThat(keyRing.signingKey().keyId()).isEqualTo("2026-09-01");
+        assertThat(kids(keyRing)).containsExactly("2026-10-17", "2026-09-01");
+        assertThat(keyRing.verificationKey("2026-10-17")).isNotNull();
+
+        // 공개 후 활성화 지연이 지나면 다음 재로드에서 새 키로 서명
+        publishedAt("2026-10-17", NOW.minusMillis(ACTIVATION_DELAY_MS));
+        keyRing.reload();
+        assertThat(keyRing.signingKey().keyId()).isEqualTo("2026-10-17");
+    }
+
+    @Test
+    void firstKeySignsBeforeActivationDelay() throws Exception {
+        writeKeyPair("2026-10-17", ecKeyPair(), NOW);
+
+        assertThat(keyRing("ES256").signingKey().keyId()).isEqualTo("2026-10-17");
+    }
+
+    @Test
+    void newestActiveKeyWithPrivateKeySigns() throws Exception {
+        writeKeyPair("2026-08-01", ecKeyPair(), NOW.minus(Duration.ofDays(60)));
+        writeKeyPair("2026-09-01", ecKeyPair(), NOW.minus(Duration.ofDays(30)));
+        writePublicKey("2026-10-01", ecKeyPair(), NOW.minus(Duration.ofDays(10)));
+
+        // 개인키가 없는 kid는 검증에만 사용
+        JwtKeyRing keyRing = keyRing("ES256");
+        assertThat(keyRing.signingKey().keyId()).isEqualTo("2026-09-01");
+        assertThat(keyRing.verificationKey("2026-10-01")).isNotNull();
+    }
+
+    @Test
+    void retiredKeysAreKeptForRetentionPeriodRegardlessOfCount() throws Exception {
+        // 각 키가 서명을 시작한 시각: 공개 시각 + 활성화 지연
+        writeKeyPair("2026-01-01", ecKeyPair(), NOW.minus(Duration.ofDays(40)));
+        writeKeyPair("2026-02-01", ecKeyPair(), NOW.minus(Duration.ofDays(20)));
+        writeKeyPair("2026-03-01", ecKeyPair(), NOW.minus(Duration.ofDays(13)));
+        writeKeyPair("2026-04-01", ecKeyPair(), NOW.minus(Duration.ofDays(5)));
+        writeKeyPair("2026-05-01", ecKeyPair(), NOW.minus(Duration.ofDays(1)));
+
+        JwtKeyRing keyRing = keyRing("ES256");
+
+        // 2026-02-01은 13일 전(+10분)에 물러났으므로 유지, 2026-01-01은 20일 전에 물러났으므로 제외
+        assertThat(keyRing.signingKey().keyId()).isEqualTo("2026-05-01");
+        assertThat(kids(keyRing)).containsExactly("2026-05-01", "2026-04-01", "2026-03-01", "2026-02-01");
+        assertThat(keyRing.verificationKey("2026-01-01")).isNull();
+
+        // 보관 기간이 지나면 다음 재로드에서 제외
+        publishedAt("2026-03-01", NOW.minus(Duration.ofDays(14)).minusMillis(ACTIVATION_DELAY_MS));
+        keyRing.reload();
+        assertThat(kids(keyRing)).containsExactly("2026-05-01", "2026-04-01", "2026-03-01");
+    }
+
+    @Test
+    void ecKeyIsEncodedAsP256Jwk() throws Exception {
+        KeyPair keyPair = ecKeyPair();
+        writeKeyPair("2026-10-01", keyPair, NOW.minus(Duration.ofDays(1)));
+
+        JwtKeyRing keyRing = keyRing("ES256");
+        JsonNode jwk = objectMapper.readTree(keyRing.jwks()).get("keys").get(0);
+
+        ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+        assertThat(jwk.get("kty").asText()).isEqualTo("EC");
+        assertThat(jwk.get("crv").asText()).isEqualTo("P-256");
+        assertThat(jwk.get("alg").asText()).isEqualTo("ES256");
+        assertThat(jwk.get("kid").asText()).isEqualTo("2026-10-01");
+        assertThat(decode(jwk, "x")).hasSize(32);
+        assertThat(decode(jwk, "y")).hasSize(32);
+        assertThat(new BigInteger(1, decode(jwk, "x"))).isEqualTo(publicKey.getW().getAffineX());
+        assertThat(new BigInteger(1, decode(jwk, "y"))).isEqualTo(publicKey.getW().getAffineY());
+    }
+
+    @Test
+    void ed25519KeyIsEncodedAsOkpJwk() throws Exception {
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        writeKeyPair("2026-10-01", keyPair, NOW.minus(Duration.ofDays(1)));
+
+        JwtKeyRing keyRing = keyRing("EdDSA");
+        JsonNode jwk = objectMapper.readTree(keyRing.jwks()).get("keys").get(0);
+
+        byte[] encoded = keyPair.getPublic().getEncoded();
+        assertThat(jwk.get("kty").asText()).isEqualTo("OKP");
+        assertThat(jwk.get("crv").asText()).isEqualTo("Ed25519");
+        assertThat(jwk.get("alg").asText()).isEqualTo("EdDSA");
+        assertThat(jwk.has("y")).isFalse();
+        assertThat(decode(jwk, "x")).isEqualTo(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length));
+    }
+
+    @Test
+    void jwksETagChangesOnlyWithKeySet() throws Exception {
+        writeKeyPair("2026-09-01", ecKeyPair(), NOW.minus(Duration.ofDays(30)));
+        JwtKeyRing keyRing = keyRing("ES256");
+        String eTag = keyRing.jwksETag();
+
+        keyRing.reload();
+        assertThat(keyRing.jwksETag()).isEqualTo(eTag);
+
+        writeKeyPair("2026-10-17", ecKeyPair(), NOW);
+        keyRing.reload();
+        assertThat(keyRing.jwksETag()).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void tokensAreVerifiedByKidAcrossRotation() throws Exception {
+        writeKeyPair("2026-09-01", ecKeyPair(), NOW.minus(Duration.ofDays(30)));
+        writeKeyPair("2026-10-17", ecKeyPair(), NOW);
+        JwtKeyRing keyRing = keyRing("ES256");
+        JWTUtil jwtUtil = new JWTUtil(null, keyRing, new SimpleMeterRegistry());
+
+        String before = jwtUtil.createToken("access", 1L, "ROLE_USER", 1800000L);
+        publishedAt("2026-10-17", NOW.minusMillis(ACTIVATION_DELAY_MS));
+        keyRing.reload();
+        String after = jwtUtil.createToken("access", 1L, "ROLE_USER", 1800000L);
+
+        assertThat(header(before)).contains("\"kid\":\"2026-09-01\"");
+        assertThat(header(after)).contains("\"kid\":\"2026-10-17\"");
+        assertThat(jwtUtil.getPayload(before).get("memberNo", Long.class)).isEqualTo(1L);
+        assertThat(jwtUtil.getPayload(after).get("memberNo", Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    void hs256TokensAreVerifiedDuringMigrationOnlyWithSecret() throws Exception {
+        writeKeyPair("2026-10-01", ecKeyPair(), NOW.minus(Duration.ofDays(1)));
+        String secret = "x".repeat(64);
+        String legacy = new JWTUtil(secret).createToken("access", 1L, "ROLE_USER", "phone", 1800000L,
+                System.currentTimeMillis());
+
+        JWTUtil migrating = new JWTUtil(secret, keyRing("ES256"), new SimpleMeterRegistry());
+        Claims claims = migrating.getPayload(legacy);
+        assertThat(claims.get("sid", String.class)).isEqualTo("phone");
+        assertThat(header(migrating.createToken("access", 1L, "ROLE_USER", 1800000L))).contains("\"alg\":\"ES256\"");
+
+        JWTUtil migrated = new JWTUtil(null, keyRing("ES256"), new SimpleMeterRegistry());
+        assertThatThrownBy(() -> migrated.getPayload(legacy)).isInstanceOf(JwtException.class);
+    }
+
+    private JwtKeyRing keyRing(String algorithm) {
+        return new JwtKeyRing(algorithm, keyDir.toString(), ACTIVATION_DELAY_MS, RETENTION_MS, CLOCK);
+    }
+
+    private List<String> kids(JwtKeyRing keyRing) throws IOException {
+        return objectMapper.readTree(keyRing.jwks()).get("keys").findValuesAsText("kid");
+    }
+
+    private void writeKeyPair(String kid, KeyPair keyPair, Instant publishedAt) throws IOException {
+        writePem(keyDir.resolve(kid + ".key"), "PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        writePublicKey(kid, keyPair, publishedAt);
+    }
+
+    private void writePublicKey(String kid, KeyPair keyPair, Instant publishedAt) throws IOException {
+        writePem(keyDir.resolve(kid + ".pub"), "PUBLIC KEY", keyPair.getPublic().getEncoded());
+        publishedAt(kid, publishedAt);
+    }
+
+    private void publishedAt(String kid, Instant publishedAt) throws IOException {
+        Files.setLastModifiedTime(keyDir.resolve(kid + ".pub"), FileTime.from(publishedAt));
+    }
+
+    private static void writePem(Path path, String type, byte[] der) throws IOException {
+        Files.writeString(path, "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+                + "\n-----END " + type + "-----\n");
+    }
+
+    private static KeyPair ecKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static byte[] decode(JsonNode jwk, String field) {
+        return Base64.getUrlDecoder().decode(jwk.get(field).asText());
+    }
+
+    private static String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+    }
+}
@@ -0,0 +1,44 @@
+package com.cu2mber.authservice.auth.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    @Test
+    void normalizesPathVariants() {
+        assertThat(RateLimitFilter.normalizedPath(request("", "/auth/refresh"))).isEqualTo("/auth/refresh");
+        assertThat(RateLimitFilter.normalizedPath(request("", "/auth/refresh/"))).isEqualTo("/auth/refresh");
+        assertThat(RateLimitFilter.normalizedPath(request("", "//auth///refresh//"))).isEqualTo("/auth/refresh");
+        assertThat(RateLimitFilter.normalizedPath(request("", "/auth/refresh;jsessionid=1"))).isEqualTo("/auth/refresh");
+        assertThat(RateLimitFilter.normalizedPath(request("", "/auth;x=1/logout/all/"))).isEqualTo("/auth/logout/all");
+        assertThat(RateLimitFilter.normalizedPath(request("/api", "/api/auth/issue/"))).isEqualTo("/auth/issue");
+        assertThat(RateLimitFilter.normalizedPath(request("", "/"))).isEqualTo("/");
+    }
+
+    @Test
+    void trailingSlashSharesTheLimit() throws Exception {
+        AdmissionControl admissionControl = new AdmissionControl(100, 20, 40, 1, 2, 1, 1, 20, 40, 1, 5);
+        RateLimitFilter filter = new RateLimitFilter(admissionControl);
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(request("", "/auth/refresh"), first, new MockFilterChain());
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(request("", "/auth/refresh/"), second, new MockFilterChain());
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(second.getHeader("Retry-After")).isEqualTo("1");
+    }
+
+    private static MockHttpServletRequest request(String contextPath, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContextPath(contextPath);
+        request.setRemoteAddr("203.0.113.7");
+        return request;
+    }
+}
@@ -0,0 +1,97 @@
+package com.cu2mber.authservice.auth.util;
+
+import com.cu2mber.authservice.auth.dto.AccessToken;
+import com.cu2mber.authservice.auth.exception.TokenNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RefreshSingleFlightTest {
+
+    private static final int FOLLOWERS = 4;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RefreshSingleFlight singleFlight = new RefreshSingleFlight(1000L, meterRegistry);
+    private final TokenDigest key = TokenDigest.of("refresh-token");
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void waitingRequestsShareTheLeadersException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        Future<?> leader = executor.submit(() -> singleFlight.execute(key, () -> {
+            executions.incrementAndGet();
+            await(release);
+            throw TokenNotFoundException.REFRESH_TOKEN;
+        }));
+        awaitCount("leader", 1);
+
+        List<Future<AccessToken>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute(key, () -> {
+                executions.incrementAndGet();
+                return new AccessToken("unexpected");
+            })));
+        }
+        awaitCount("shared", FOLLOWERS);
+        release.countDown();
+
+        assertThatThrownBy(leader::get).hasCause(TokenNotFoundException.REFRESH_TOKEN);
+        for (Future<AccessToken> follower : followers) {
+            assertThatThrownBy(follower::get).hasCause(TokenNotFoundException.REFRESH_TOKEN);
+        }
+        assertThat(executions).hasValue(1);
+
+        // 실패한 결과는 보관하지 않으므로 다음 요청은 다시 실행
+        assertThat(singleFlight.size()).isZero();
+        assertThat(singleFlight.execute(key, () -> new AccessToken("retried")).accessToken()).isEqualTo("retried");
+    }
+
+    @Test
+    void completedResultIsReusedUntilInvalidated() {
+        AtomicInteger executions = new AtomicInteger();
+
+        AccessToken first = singleFlight.execute(key, () -> new AccessToken("token-" + executions.incrementAndGet()));
+        AccessToken reused = singleFlight.execute(key, () -> new AccessToken("token-" + executions.incrementAndGet()));
+        singleFlight.invalidate(key);
+        AccessToken fresh = singleFlight.execute(key, () -> new AccessToken("token-" + executions.incrementAndGet()));
+
+        assertThat(reused).isSameAs(first);
+        assertThat(fresh.accessToken()).isEqualTo("token-2");
+    }
+
+    private void awaitCount(String result, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("auth.refresh.single_flight", "result", result).count() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.cu2mber.authservice.auth.util;
+
+import com.cu2mber.authservice.auth.exception.InvalidTokenException;
+import com.cu2mber.authservice.auth.exception.TokenExpiredException;
+import com.cu2mber.authservice.auth.exception.TokenNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshTokenValidationCacheTest {
+
+    private final RefreshTokenValidationCache cache = new RefreshTokenValidationCache(100, 60000L, 50L, 100, 5000L);
+
+    @Test
+    void rejectionKeepsTheOriginalException() {
+        TokenDigest expired = TokenDigest.of("expired");
+        TokenDigest forged = TokenDigest.of("forged");
+
+        cache.reject(expired, TokenExpiredException.REFRESH_TOKEN);
+        cache.reject(forged, InvalidTokenException.INSTANCE);
+
+        assertThat(cache.rejection(expired)).isSameAs(TokenExpiredException.REFRESH_TOKEN);
+        assertThat(cache.rejection(forged)).isSameAs(InvalidTokenException.INSTANCE);
+        assertThat(cache.rejection(TokenDigest.of("unknown"))).isNull();
+    }
+
+    @Test
+    void notFoundExpiresQuickly() throws InterruptedException {
+        TokenDigest digest = TokenDigest.of("issued-on-another-node");
+
+        cache.rejectNotFound(digest);
+        assertThat(cache.rejection(digest)).isSameAs(TokenNotFoundException.REFRESH_TOKEN);
+
+        Thread.sleep(100);
+        assertThat(cache.rejection(digest)).isNull();
+    }
+
+    @Test
+    void rejectionDropsValidatedEntry() {
+        TokenDigest digest = TokenDigest.of("logged-out");
+        cache.validated(digest, 7L, System.currentTimeMillis() + 60000L);
+
+        cache.reject(digest, TokenNotFoundException.REFRESH_TOKEN);
+
+        assertThat(cache.validatedMemberNo(digest)).isNull();
+    }
+}
@@ -0,0 +1,56 @@
+package com.cu2mber.authservice.auth.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketLimiterTest {
+
+    @Test
+    void acceptsBurstThenRejectsWithWaitTime() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 3, 100);
+
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+
+        long wait = limiter.tryAcquire("10.0.0.1");
+        assertThat(wait).isPositive().isLessThanOrEqualTo(1_000_000_000L);
+        assertThat(limiter.rejectedCount()).isEqualTo(1);
+
+        // 다른 키는 별도 버킷
+        assertThat(limiter.tryAcquire("10.0.0.2")).isZero();
+    }
+
+    @Test
+    void failsOpenForNewKeysWhenFullAndKeepsLimitingTrackedKeys() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 2);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        // 유휴 버킷이 없어 새 키는 버킷 없이 통과 (공용 버킷을 나누어 쓰지 않으므로 서로 거절하지 않음)
+        assertThat(limiter.tryAcquire("c")).isZero();
+        assertThat(limiter.tryAcquire("d")).isZero();
+        assertThat(limiter.tryAcquire("d")).isZero();
+        assertThat(limiter.size()).isEqualTo(2);
+        assertThat(limiter.untrackedCount()).isEqualTo(3);
+
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    void reclaimsIdleBucketsForNewKeys() throws InterruptedException {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1000, 1, 1);
+        limiter.tryAcquire("a");
+        Thread.sleep(TokenBucketLimiter.EVICTION_INTERVAL_NANOS / 1_000_000 + 10);
+
+        // 용량 초과 시 정리로 유휴 버킷 "a"를 버리고 "b"를 추적
+        assertThat(limiter.tryAcquire("b")).isZero();
+        assertThat(limiter.tryAcquire("b")).isPositive();
+        assertThat(limiter.untrackedCount()).isZero();
+
+        Thread.sleep(5);
+        assertThat(limiter.evictIdle()).isEqualTo(1);
+        assertThat(limiter.size()).isZero();
+    }
+}
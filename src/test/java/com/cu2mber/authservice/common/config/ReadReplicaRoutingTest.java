@@ -0,0 +1,104 @@
+package com.cu2mber.authservice.common.config;
+
+import com.cu2mber.authservice.auth.domain.RefreshToken;
+import com.cu2mber.authservice.auth.repository.JpaRefreshTokenStore;
+import com.cu2mber.authservice.auth.repository.RefreshTokenJdbcRepository;
+import com.cu2mber.authservice.auth.repository.RefreshTokenStore;
+import com.cu2mber.authservice.auth.util.TokenDigest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 H2 두 개(주 DB, 복제본)로 읽기 복제본 라우팅을 확인합니다. 두 DB는 서로 복제되지 않습니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("replica-local")
+@Import({ReadReplicaDataSourceConfig.class, RefreshTokenStoreConfig.class, RefreshTokenJdbcRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private JpaRefreshTokenStore store;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primaryDataSource).update("DELETE FROM refresh_tokens");
+        new JdbcTemplate(replicaDataSource).update("DELETE FROM refresh_tokens");
+    }
+
+    @Test
+    void readOnlyTransactionsAreRoutedToReplica() {
+        new JdbcTemplate(replicaDataSource).update("INSERT INTO refresh_tokens "
+                + "(member_no, session_id, token, issued_at, expiry_date) VALUES (1, 'phone', 'token', NOW(), NOW())");
+
+        // 읽기 전용 트랜잭션만 복제본으로, 쓰기 트랜잭션과 트랜잭션 밖의 문장은 주 DB로
+        assertThat(countInTransaction(true)).isEqualTo(1);
+        assertThat(countInTransaction(false)).isZero();
+        assertThat(new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM refresh_tokens", Integer.class))
+                .isZero();
+    }
+
+    @Test
+    void tokenOnlyOnReplicaIsFoundThere() {
+        String token = "replica-only-token";
+        LocalDateTime now = LocalDateTime.now();
+        new JdbcTemplate(replicaDataSource).update("INSERT INTO refresh_tokens (member_no, session_id, role, token, "
+                        + "token_hash, issued_at, expiry_date) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                1L, "phone", "ROLE_USER", token, TokenDigest.of(token).toByteArray(),
+                Timestamp.valueOf(now), Timestamp.valueOf(now.plusDays(14)));
+
+        assertThat(store.findByToken(token)).get().extracting(RefreshToken::getSessionId).isEqualTo("phone");
+    }
+
+    @Test
+    void tokenMissingOnReplicaFallsBackToPrimary() {
+        String token = "primary-only-token";
+        LocalDateTime now = LocalDateTime.now();
+        store.save(new RefreshTokenStore.TokenEntry(1L, "phone", "ROLE_USER", token, now, now.plusDays(14)));
+
+        // 쓰기는 주 DB로만 가므로 복제본에는 없음 (복제 지연과 같은 상황)
+        assertThat(new JdbcTemplate(replicaDataSource)
+                .queryForObject("SELECT COUNT(*) FROM refresh_tokens", Integer.class)).isZero();
+        assertThat(store.findByToken(token)).get().extracting(RefreshToken::getMemberNo).isEqualTo(1L);
+        assertThat(store.findByToken("unknown-token")).isEmpty();
+    }
+
+    private Integer countInTransaction(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> new JdbcTemplate(dataSource)
+                .queryForObject("SELECT COUNT(*) FROM refresh_tokens", Integer.class));
+    }
+}